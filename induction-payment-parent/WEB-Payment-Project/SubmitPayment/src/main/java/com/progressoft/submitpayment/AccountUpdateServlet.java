@@ -12,7 +12,6 @@ import org.jboss.logging.Logger;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.context.AppContext;
-import com.progressoft.jip.context.AppContextJPA;
 import com.progressoft.jip.gateways.views.AccountView;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
 
@@ -25,7 +24,7 @@ public class AccountUpdateServlet extends HttpServlet {
 
 	@Override
 	public void init() throws ServletException {
-		context = new AppContextJPA();
+		context = AppContextListener.getAppContext(getServletContext());
 	}
 
 	@Override
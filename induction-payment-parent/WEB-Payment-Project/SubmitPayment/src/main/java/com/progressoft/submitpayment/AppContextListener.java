@@ -0,0 +1,43 @@
+package com.progressoft.submitpayment;
+
+import java.util.Objects;
+
+import javax.servlet.ServletContext;
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.ServletException;
+
+import com.progressoft.jip.context.AppContext;
+import com.progressoft.jip.context.AppContextJPA;
+
+public class AppContextListener implements ServletContextListener {
+
+	public static final String APP_CONTEXT = AppContext.class.getName();
+
+	@Override
+	public void contextInitialized(ServletContextEvent event) {
+		ServletContext servletContext = event.getServletContext();
+		long start = System.nanoTime();
+		AppContext context = new AppContextJPA();
+		servletContext.log(String.format("Application context started in %d ms",
+				(System.nanoTime() - start) / 1_000_000));
+		servletContext.setAttribute(APP_CONTEXT, context);
+	}
+
+	@Override
+	public void contextDestroyed(ServletContextEvent event) {
+		ServletContext servletContext = event.getServletContext();
+		AppContext context = (AppContext) servletContext.getAttribute(APP_CONTEXT);
+		servletContext.removeAttribute(APP_CONTEXT);
+		if (Objects.nonNull(context))
+			context.close();
+	}
+
+	public static AppContext getAppContext(ServletContext servletContext) throws ServletException {
+		AppContext context = (AppContext) servletContext.getAttribute(APP_CONTEXT);
+		if (Objects.isNull(context))
+			throw new ServletException(
+					"Application context is not initialized, is " + AppContextListener.class.getName() + " registered?");
+		return context;
+	}
+}
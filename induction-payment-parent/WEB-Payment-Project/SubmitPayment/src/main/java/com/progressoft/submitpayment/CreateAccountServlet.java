@@ -13,7 +13,6 @@ import org.apache.commons.beanutils.BeanUtils;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.context.AppContext;
-import com.progressoft.jip.context.AppContextJPA;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
 import com.progressoft.jip.usecases.AccountUseCases;
 import com.progressoft.jip.usecases.CurrencyUseCases;
@@ -35,7 +34,7 @@ public class CreateAccountServlet extends HttpServlet {
 
 	@Override
 	public void init() throws ServletException {
-		context = new AppContextJPA();
+		context = AppContextListener.getAppContext(getServletContext());
 		accountUseCases = context.getAccountUseCases();
 		currencyUseCases = context.getCurrencyUseCases();
 	}
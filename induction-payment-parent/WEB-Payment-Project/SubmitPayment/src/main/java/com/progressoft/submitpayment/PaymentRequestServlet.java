@@ -2,7 +2,6 @@ package com.progressoft.submitpayment;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
-import java.util.Collection;
 import java.util.Date;
 import java.util.Objects;
 
@@ -14,14 +13,15 @@ import javax.servlet.http.HttpServletResponse;
 
 import org.jboss.logging.Logger;
 
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.context.AppContext;
-import com.progressoft.jip.context.AppContextJPA;
-import com.progressoft.jip.gateways.views.PaymentRequestView;
+import com.progressoft.jip.gateways.exceptions.InvalidContinuationTokenException;
 import com.progressoft.jip.repository.exceptions.RepositoryException;
 import com.progressoft.jip.usecases.PaymentRequestUseCases;
 
 public class PaymentRequestServlet extends HttpServlet {
 	private static final long serialVersionUID = 1L;
+	private static final int PAGE_SIZE = 50;
 	private AppContext context;
 	private String selectedIban;
 	private PaymentRequestUseCases paymentRequestUseCases;
@@ -29,7 +29,7 @@ public class PaymentRequestServlet extends HttpServlet {
 
 	@Override
 	public void init() throws ServletException {
-		context = new AppContextJPA();
+		context = AppContextListener.getAppContext(getServletContext());
 		paymentRequestUseCases = context.getPaymentRequestUseCases();
 	}
 
@@ -38,13 +38,16 @@ public class PaymentRequestServlet extends HttpServlet {
 		selectedIban = req.getParameter("iban");
 		req.setAttribute("selectedIban", selectedIban);
 		if (selectedIban != null) {
+			PaymentRequestPage page;
 			try {
-				Collection<PaymentRequestView> paymentRequests = paymentRequestUseCases
-						.getPaymentRequestsByOrderingAccountIban(selectedIban);
-				req.setAttribute("paymentRequests", paymentRequests);
-			} catch (RepositoryException e) {
-				throw new IllegalArgumentException(e);
+				page = paymentRequestUseCases.getPaymentRequestsPageByOrderingAccountIban(selectedIban, PAGE_SIZE,
+						req.getParameter("after"));
+			} catch (InvalidContinuationTokenException e) {
+				resp.sendError(HttpServletResponse.SC_BAD_REQUEST);
+				return;
 			}
+			req.setAttribute("paymentRequests", page.getPaymentRequests());
+			req.setAttribute("nextPageToken", page.getContinuationToken());
 		}
 		req.setAttribute("accounts", context.getAccountUseCases().getAllAccounts());
 		req.setAttribute("pageContent", "/WEB-INF/views/paymentRequest.jsp");
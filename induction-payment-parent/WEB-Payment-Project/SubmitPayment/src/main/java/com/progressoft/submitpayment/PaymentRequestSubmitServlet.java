@@ -12,7 +12,6 @@ import org.apache.commons.beanutils.BeanUtils;
 
 import com.progressoft.jip.beans.PaymentRequest;
 import com.progressoft.jip.context.AppContext;
-import com.progressoft.jip.context.AppContextJPA;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
 import com.progressoft.jip.usecases.AccountUseCases;
 import com.progressoft.jip.usecases.CurrencyUseCases;
@@ -32,7 +31,7 @@ public class PaymentRequestSubmitServlet extends HttpServlet {
 
 	@Override
 	public void init() throws ServletException {
-		AppContext context = new AppContextJPA();
+		AppContext context = AppContextListener.getAppContext(getServletContext());
 		paymentRequestUseCases = context.getPaymentRequestUseCases();
 		paymentPurposeUseCases = context.getPaymentPurposeUseCases();
 		accountUseCases = context.getAccountUseCases();
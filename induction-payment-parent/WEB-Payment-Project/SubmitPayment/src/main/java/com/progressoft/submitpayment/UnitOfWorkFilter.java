@@ -0,0 +1,41 @@
+package com.progressoft.submitpayment;
+
+import java.io.IOException;
+
+import javax.persistence.EntityManagerFactory;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import com.progressoft.jip.jparepositories.UnitOfWork;
+
+import repositories.loader.EntityManagerLoader;
+
+public class UnitOfWorkFilter implements Filter {
+
+	private EntityManagerFactory entityManagerFactory;
+
+	@Override
+	public void init(FilterConfig filterConfig) throws ServletException {
+		entityManagerFactory = EntityManagerLoader.getEntityManagerFactory();
+	}
+
+	@Override
+	public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+			throws IOException, ServletException {
+		UnitOfWork.begin(entityManagerFactory);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			UnitOfWork.end();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		entityManagerFactory = null;
+	}
+}
@@ -64,6 +64,13 @@
 								</c:forEach>
 							</tbody>
 						</table>
+						<c:if test="${not empty nextPageToken}">
+							<c:url var="nextPageUrl" value="./paymentRequest">
+								<c:param name="iban" value="${selectedIban}" />
+								<c:param name="after" value="${nextPageToken}" />
+							</c:url>
+							<a href="${nextPageUrl}" class="btn btn-default">Next page</a>
+						</c:if>
 						<div>
 							<form action="./paymentRequest" method="post">
 								<div class=" btn-group" style="float: right; margin: 35px">
@@ -8,7 +8,7 @@ import com.progressoft.jip.usecases.PaymentPurposeUseCases;
 import com.progressoft.jip.usecases.PaymentRequestUseCases;
 import com.progressoft.jip.utilities.chequewriting.impl.AbstractAmountWriter;
 
-public interface AppContext {
+public interface AppContext extends AutoCloseable {
 
 	PaymentRequestUseCases getPaymentRequestUseCases();
 
@@ -22,4 +22,7 @@ public interface AppContext {
 
 	AbstractAmountWriter getAbstractAmountWriter();
 
+	@Override
+	void close();
+
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.progressoft.jip.context;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.beans.PaymentPurpose;
-import com.progressoft.jip.beans.PaymentRequest;
 import com.progressoft.jip.behaviors.AccountGatewayDBBehaviorsFactory;
 import com.progressoft.jip.behaviors.CurrencyGatewayDBBehaviorsFactory;
 import com.progressoft.jip.behaviors.PaymentPurposeBehaviorsFactory;
@@ -15,7 +17,11 @@ import com.progressoft.jip.behaviors.impl.AccountGatewayDBBehaviorsFactoryImpl;
 import com.progressoft.jip.behaviors.impl.CurrencyGatewayDBBehaviorsFactoryImpl;
 import com.progressoft.jip.behaviors.impl.PaymentPurposeBehaviorsFactoryImpl;
 import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.FailoverCurrencyExchangeRateGateway;
+import com.progressoft.jip.gateway.FailoverCurrencyExchangeRateGateway.Provider;
+import com.progressoft.jip.gateway.file.FileCurrencyExchangeRateGateway;
 import com.progressoft.jip.gateway.sql.YahooCurrencyExchangeRateGateway;
+import com.progressoft.jip.gateways.CurrencyGateway;
 import com.progressoft.jip.gateways.sql.impl.MySqlAccountGateway;
 import com.progressoft.jip.gateways.sql.impl.MySqlCurrencyGateway;
 import com.progressoft.jip.gateways.sql.impl.MySqlPaymentPurposeGateway;
@@ -28,6 +34,7 @@ import com.progressoft.jip.handlers.exceptions.ValidationException;
 import com.progressoft.jip.handlers.impl.AccountHandlerImpl;
 import com.progressoft.jip.handlers.impl.PaymentPurposeHandlerImpl;
 import com.progressoft.jip.handlers.impl.PaymentRequestHandlerImpl;
+import com.progressoft.jip.handlers.validators.PaymentRequestBatchValidator;
 import com.progressoft.jip.handlers.validators.Validator;
 import com.progressoft.jip.handlers.validators.impl.AccountValidator;
 import com.progressoft.jip.handlers.validators.impl.PaymentPurposeValidator;
@@ -40,10 +47,13 @@ import com.progressoft.jip.repository.CurrencyRepository;
 import com.progressoft.jip.repository.PaymentPurposeRepository;
 import com.progressoft.jip.repository.PaymentRequestRepository;
 import com.progressoft.jip.repository.impl.AccountRepositoryImpl;
-import com.progressoft.jip.repository.impl.CurrencyExchangeRateRepositoryImpl;
+import com.progressoft.jip.repository.impl.CachingCurrencyRepository;
+import com.progressoft.jip.repository.impl.CachingPaymentPurposeRepository;
+import com.progressoft.jip.repository.impl.CurrencyExchangeRateSnapshot;
 import com.progressoft.jip.repository.impl.CurrencyRepositoryImpl;
 import com.progressoft.jip.repository.impl.PaymentPurposeRepositoryImpl;
 import com.progressoft.jip.repository.impl.PaymentRequestRepositoryImpl;
+import com.progressoft.jip.repository.impl.TriangulatingCurrencyExchangeRateRepository;
 import com.progressoft.jip.rules.impl.FiveDaysAheadRule;
 import com.progressoft.jip.rules.impl.FiveMonthsAheadRule;
 import com.progressoft.jip.rules.impl.FiveYearsAheadRule;
@@ -59,7 +69,7 @@ import com.progressoft.jip.usecases.impl.PaymentRequestUseCasesImpl;
 import com.progressoft.jip.utilities.chequewriting.impl.AbstractAmountWriter;
 import com.progressoft.jip.utilities.chequewriting.impl.EnglishChequeAmountWriter;
 import com.progressoft.jip.utilities.restful.RestfulResponseFormat;
-import com.progressoft.jip.utilities.restful.impl.YahooCurrenciesXmlResponseParser;
+import com.progressoft.jip.utilities.restful.impl.YahooRatesStaxParser;
 
 public class AppContextJDBC implements AppContext {
 
@@ -74,7 +84,7 @@ public class AppContextJDBC implements AppContext {
 	private final IBANGeneralValidator ibanGeneralValidator;
 	private final Validator<Account, ValidationException> accountValidator;
 	private final Validator<PaymentPurpose, PurposeValidationException> paymentPurposeValidator;
-	private final Validator<PaymentRequest, ValidationException> paymentRequestValidator;
+	private final PaymentRequestBatchValidator paymentRequestValidator;
 
 	private final AccountHandler accountHandler;
 	private final PaymentPurposeHandler paymentPurposeHandler;
@@ -84,6 +94,12 @@ public class AppContextJDBC implements AppContext {
 	private final PaymentPurposeRepository paymentPurposeRepository;
 	private final CurrencyRepository currencyRepository;
 	private final AccountRepository accountRepository;
+	private final FailoverCurrencyExchangeRateGateway exchangeRateGateway;
+	private final ExecutorService exchangeRateRefresher = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "exchange-rate-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
 	private final CurrencyExchangeRateRepository currenctExchangeRateRepository;
 
 	private final AccountUseCases accountUseCases;
@@ -98,15 +114,20 @@ public class AppContextJDBC implements AppContext {
 
 		amountWriter.addWriter("EnglishWriter", new EnglishChequeAmountWriter());
 
-		paymentPurposeRepository = new PaymentPurposeRepositoryImpl(
-				new MySqlPaymentPurposeGateway(dataSource, paymentPurposeBehaviorsFactory));
-		currencyRepository = new CurrencyRepositoryImpl(new MySqlCurrencyGateway(dataSource, currencyBehaviorsFactory));
+		paymentPurposeRepository = new CachingPaymentPurposeRepository(new PaymentPurposeRepositoryImpl(
+				new MySqlPaymentPurposeGateway(dataSource, paymentPurposeBehaviorsFactory)));
+		CurrencyGateway currencyGateway = new MySqlCurrencyGateway(dataSource, currencyBehaviorsFactory);
+		currencyRepository = new CachingCurrencyRepository(new CurrencyRepositoryImpl(currencyGateway));
 		accountRepository = new AccountRepositoryImpl(new MySqlAccountGateway(dataSource, accountBehaviorsFactory));
 
 		paymentRequestRepository = new PaymentRequestRepositoryImpl(
 				new MySqlPaymentRequestGateway(dataSource, paymentRequestBehaviorsFactory));
-		currenctExchangeRateRepository = new CurrencyExchangeRateRepositoryImpl(new YahooCurrencyExchangeRateGateway(
-				RestfulResponseFormat.XML, new YahooCurrenciesXmlResponseParser()));
+		exchangeRateGateway = new FailoverCurrencyExchangeRateGateway(
+				new Provider(FileCurrencyExchangeRateGateway.fromSystemProperty()),
+				new Provider(new YahooCurrencyExchangeRateGateway(RestfulResponseFormat.XML, new YahooRatesStaxParser()),
+						FailoverCurrencyExchangeRateGateway.DEFAULT_REMOTE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		currenctExchangeRateRepository = new TriangulatingCurrencyExchangeRateRepository(
+				new CurrencyExchangeRateSnapshot(currencyGateway, exchangeRateGateway, exchangeRateRefresher));
 
 		ibanGeneralValidator = new IBANGeneralValidator();
 		accountValidator = new AccountValidator(ibanGeneralValidator);
@@ -154,4 +175,11 @@ public class AppContextJDBC implements AppContext {
 		return amountWriter;
 	}
 
+	@Override
+	public void close() {
+		// the data source belongs to the caller, only the rate threads and providers are released here
+		exchangeRateRefresher.shutdownNow();
+		exchangeRateGateway.close();
+	}
+
 }
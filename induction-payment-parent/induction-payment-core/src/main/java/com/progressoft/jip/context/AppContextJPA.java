@@ -1,11 +1,17 @@
 package com.progressoft.jip.context;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.beans.PaymentPurpose;
-import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.gateway.FailoverCurrencyExchangeRateGateway;
+import com.progressoft.jip.gateway.FailoverCurrencyExchangeRateGateway.Provider;
+import com.progressoft.jip.gateway.file.FileCurrencyExchangeRateGateway;
 import com.progressoft.jip.gateway.sql.YahooCurrencyExchangeRateGateway;
+import com.progressoft.jip.gateways.CurrencyGateway;
 import com.progressoft.jip.gateways.jpa.AccountJpaGateway;
 import com.progressoft.jip.gateways.jpa.CurrencyJpaGateway;
 import com.progressoft.jip.gateways.jpa.PaymentPurposeJpaGateway;
@@ -22,6 +28,7 @@ import com.progressoft.jip.handlers.exceptions.ValidationException;
 import com.progressoft.jip.handlers.impl.AccountHandlerImpl;
 import com.progressoft.jip.handlers.impl.PaymentPurposeHandlerImpl;
 import com.progressoft.jip.handlers.impl.PaymentRequestHandlerImpl;
+import com.progressoft.jip.handlers.validators.PaymentRequestBatchValidator;
 import com.progressoft.jip.handlers.validators.Validator;
 import com.progressoft.jip.handlers.validators.impl.AccountValidator;
 import com.progressoft.jip.handlers.validators.impl.PaymentPurposeValidator;
@@ -42,10 +49,13 @@ import com.progressoft.jip.repository.CurrencyRepository;
 import com.progressoft.jip.repository.PaymentPurposeRepository;
 import com.progressoft.jip.repository.PaymentRequestRepository;
 import com.progressoft.jip.repository.impl.AccountRepositoryImpl;
-import com.progressoft.jip.repository.impl.CurrencyExchangeRateRepositoryImpl;
+import com.progressoft.jip.repository.impl.CachingCurrencyRepository;
+import com.progressoft.jip.repository.impl.CachingPaymentPurposeRepository;
+import com.progressoft.jip.repository.impl.CurrencyExchangeRateSnapshot;
 import com.progressoft.jip.repository.impl.CurrencyRepositoryImpl;
 import com.progressoft.jip.repository.impl.PaymentPurposeRepositoryImpl;
 import com.progressoft.jip.repository.impl.PaymentRequestRepositoryImpl;
+import com.progressoft.jip.repository.impl.TriangulatingCurrencyExchangeRateRepository;
 import com.progressoft.jip.rules.impl.FiveDaysAheadRule;
 import com.progressoft.jip.rules.impl.FiveMonthsAheadRule;
 import com.progressoft.jip.rules.impl.FiveYearsAheadRule;
@@ -61,7 +71,9 @@ import com.progressoft.jip.usecases.impl.PaymentRequestUseCasesImpl;
 import com.progressoft.jip.utilities.chequewriting.impl.AbstractAmountWriter;
 import com.progressoft.jip.utilities.chequewriting.impl.EnglishChequeAmountWriter;
 import com.progressoft.jip.utilities.restful.RestfulResponseFormat;
-import com.progressoft.jip.utilities.restful.impl.YahooCurrenciesXmlResponseParser;
+import com.progressoft.jip.utilities.restful.impl.YahooRatesStaxParser;
+
+import repositories.loader.EntityManagerLoader;
 
 public class AppContextJPA implements AppContext {
 
@@ -74,7 +86,7 @@ public class AppContextJPA implements AppContext {
 	private final IBANGeneralValidator ibanGeneralValidator;
 	private final Validator<Account, ValidationException> accountValidator;
 	private final Validator<PaymentPurpose, PurposeValidationException> paymentPurposeValidator;
-	private final Validator<PaymentRequest, ValidationException> paymentRequestValidator;
+	private final PaymentRequestBatchValidator paymentRequestValidator;
 
 	private final AccountHandler accountHandler;
 	private final PaymentPurposeHandler paymentPurposeHandler;
@@ -89,6 +101,12 @@ public class AppContextJPA implements AppContext {
 	private final PaymentPurposeRepository paymentPurposeRepository;
 	private final CurrencyRepository currencyRepository;
 	private final AccountRepository accountRepository;
+	private final FailoverCurrencyExchangeRateGateway exchangeRateGateway;
+	private final ExecutorService exchangeRateRefresher = Executors.newSingleThreadExecutor(r -> {
+		Thread thread = new Thread(r, "exchange-rate-refresh");
+		thread.setDaemon(true);
+		return thread;
+	});
 	private final CurrencyExchangeRateRepository currenctExchangeRateRepository;
 
 	private final AccountUseCases accountUseCases;
@@ -112,17 +130,21 @@ public class AppContextJPA implements AppContext {
 				currencyJpaRepository);
 		entityToBeanConverter = new EntityToBeanConvertorImpl();
 
-		paymentPurposeRepository = new PaymentPurposeRepositoryImpl(new PaymentPurposeJpaGateway(entityToBeanConverter,
-				beanToEntityConverter, paymentPurposeJpaRepository));
+		paymentPurposeRepository = new CachingPaymentPurposeRepository(new PaymentPurposeRepositoryImpl(
+				new PaymentPurposeJpaGateway(entityToBeanConverter, beanToEntityConverter, paymentPurposeJpaRepository)));
 		paymentRequestRepository = new PaymentRequestRepositoryImpl(new PaymentRequestJpaGateway(entityToBeanConverter,
 				beanToEntityConverter, paymentRequestJpaRepository));
 		accountRepository = new AccountRepositoryImpl(
 				new AccountJpaGateway(entityToBeanConverter, beanToEntityConverter, accountJpaRepository));
-		currencyRepository = new CurrencyRepositoryImpl(
-				new CurrencyJpaGateway(entityToBeanConverter, currencyJpaRepository));
+		CurrencyGateway currencyGateway = new CurrencyJpaGateway(entityToBeanConverter, currencyJpaRepository);
+		currencyRepository = new CachingCurrencyRepository(new CurrencyRepositoryImpl(currencyGateway));
 
-		currenctExchangeRateRepository = new CurrencyExchangeRateRepositoryImpl(new YahooCurrencyExchangeRateGateway(
-				RestfulResponseFormat.XML, new YahooCurrenciesXmlResponseParser()));
+		exchangeRateGateway = new FailoverCurrencyExchangeRateGateway(
+				new Provider(FileCurrencyExchangeRateGateway.fromSystemProperty()),
+				new Provider(new YahooCurrencyExchangeRateGateway(RestfulResponseFormat.XML, new YahooRatesStaxParser()),
+						FailoverCurrencyExchangeRateGateway.DEFAULT_REMOTE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+		currenctExchangeRateRepository = new TriangulatingCurrencyExchangeRateRepository(
+				new CurrencyExchangeRateSnapshot(currencyGateway, exchangeRateGateway, exchangeRateRefresher));
 
 		ibanGeneralValidator = new IBANGeneralValidator();
 		accountValidator = new AccountValidator(ibanGeneralValidator);
@@ -172,4 +194,14 @@ public class AppContextJPA implements AppContext {
 		return amountWriter;
 	}
 
+	@Override
+	public void close() {
+		exchangeRateRefresher.shutdownNow();
+		try {
+			exchangeRateGateway.close();
+		} finally {
+			EntityManagerLoader.close();
+		}
+	}
+
 }
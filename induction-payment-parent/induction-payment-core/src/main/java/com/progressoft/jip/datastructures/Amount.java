@@ -33,4 +33,15 @@ public class Amount implements Serializable {
 		return loadCurrencyExchangeRate.convert(amountValue);
 	}
 
+	public Money toMoney() {
+		return Money.of(amountValue, currencyCode);
+	}
+
+	public Money moneyIn(String targetCurrencyCode) {
+		if (currencyCode.equals(targetCurrencyCode))
+			return toMoney();
+		return currencyExchangeRateRepository.loadCurrencyExchangeRate(currencyCode, targetCurrencyCode)
+				.convert(toMoney(), targetCurrencyCode);
+	}
+
 }
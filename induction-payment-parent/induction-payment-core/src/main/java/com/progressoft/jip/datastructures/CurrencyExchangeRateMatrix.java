@@ -0,0 +1,51 @@
+package com.progressoft.jip.datastructures;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the exchange rates between a set of currencies,
+ * stored row-major by source currency. Pairs that were not loaded are absent.
+ */
+public final class CurrencyExchangeRateMatrix implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private final Map<String, Integer> indexes;
+	private final double[] rates;
+
+	public CurrencyExchangeRateMatrix(Collection<CurrencyExchangeRate> exchangeRates) {
+		Map<String, Integer> codes = new HashMap<>();
+		for (CurrencyExchangeRate rate : exchangeRates) {
+			codes.putIfAbsent(rate.getCodeFrom(), codes.size());
+			codes.putIfAbsent(rate.getCodeTo(), codes.size());
+		}
+		this.indexes = Collections.unmodifiableMap(codes);
+		this.rates = new double[codes.size() * codes.size()];
+		Arrays.fill(rates, Double.NaN);
+		for (CurrencyExchangeRate rate : exchangeRates)
+			rates[codes.get(rate.getCodeFrom()) * codes.size() + codes.get(rate.getCodeTo())] = rate.getRate();
+	}
+
+	public OptionalDouble rate(String codeFrom, String codeTo) {
+		if (Objects.equals(codeFrom, codeTo) && Objects.nonNull(codeFrom))
+			return OptionalDouble.of(1);
+		Integer from = indexes.get(codeFrom);
+		Integer to = indexes.get(codeTo);
+		if (Objects.isNull(from) || Objects.isNull(to))
+			return OptionalDouble.empty();
+		double rate = rates[from * indexes.size() + to];
+		return Double.isNaN(rate) ? OptionalDouble.empty() : OptionalDouble.of(rate);
+	}
+
+	public Set<String> currencyCodes() {
+		return indexes.keySet();
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.progressoft.jip.datastructures;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * An immutable amount held as a {@code long} count of minor units at a
+ * given scale, so {@code 12.345 JOD} is {@code 12345} at scale 3. The scale
+ * is at least the currency's own minor unit. Arithmetic is exact and throws
+ * {@link ArithmeticException} on overflow instead of wrapping.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private static final int DEFAULT_CURRENCY_SCALE = 2;
+	private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L,
+			10_000_000L, 100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L,
+			10_000_000_000_000L, 100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L,
+			100_000_000_000_000_000L, 1_000_000_000_000_000_000L };
+
+	private final long minorUnits;
+	private final int scale;
+	private final String currencyCode;
+
+	private Money(long minorUnits, int scale, String currencyCode) {
+		this.minorUnits = minorUnits;
+		this.scale = scale;
+		this.currencyCode = currencyCode;
+	}
+
+	public static Money of(BigDecimal amount, String currencyCode) {
+		int scale = currencyScale(currencyCode);
+		if (amount.scale() > scale)
+			scale = Math.max(scale, amount.stripTrailingZeros().scale());
+		if (scale >= POWERS_OF_TEN.length)
+			throw new ArithmeticException("Too many decimal places: " + amount);
+		return new Money(amount.setScale(scale).scaleByPowerOfTen(scale).longValueExact(), scale, currencyCode);
+	}
+
+	public static Money ofMinor(long minorUnits, String currencyCode) {
+		return new Money(minorUnits, currencyScale(currencyCode), currencyCode);
+	}
+
+	public static int currencyScale(String currencyCode) {
+		if (Objects.isNull(currencyCode))
+			throw new IllegalArgumentException("currency code is required");
+		try {
+			int digits = Currency.getInstance(currencyCode).getDefaultFractionDigits();
+			return digits < 0 ? DEFAULT_CURRENCY_SCALE : digits;
+		} catch (IllegalArgumentException e) {
+			return DEFAULT_CURRENCY_SCALE;
+		}
+	}
+
+	public long getMinorUnits() {
+		return minorUnits;
+	}
+
+	public int getScale() {
+		return scale;
+	}
+
+	public String getCurrencyCode() {
+		return currencyCode;
+	}
+
+	public int signum() {
+		return Long.signum(minorUnits);
+	}
+
+	public Money add(Money other) {
+		int common = commonScale(other);
+		return new Money(Math.addExact(unitsAt(common), other.unitsAt(common)), common, currencyCode);
+	}
+
+	public Money subtract(Money other) {
+		int common = commonScale(other);
+		return new Money(Math.subtractExact(unitsAt(common), other.unitsAt(common)), common, currencyCode);
+	}
+
+	public boolean isLessThan(Money other) {
+		return compareTo(other) < 0;
+	}
+
+	/**
+	 * Converts into {@code targetCurrencyCode} at a rate of
+	 * {@code unscaledRate / 10^rateScale}, rounding half-even to the target
+	 * currency's minor unit. Stays on {@code long} arithmetic unless the
+	 * product overflows.
+	 */
+	public Money convert(long unscaledRate, int rateScale, String targetCurrencyCode) {
+		int targetScale = currencyScale(targetCurrencyCode);
+		int drop = scale + rateScale - targetScale;
+		try {
+			long product = Math.multiplyExact(minorUnits, unscaledRate);
+			if (drop < 0 && -drop < POWERS_OF_TEN.length)
+				return new Money(Math.multiplyExact(product, POWERS_OF_TEN[-drop]), targetScale, targetCurrencyCode);
+			if (drop >= 0 && drop < POWERS_OF_TEN.length)
+				return new Money(divideHalfEven(product, POWERS_OF_TEN[drop]), targetScale, targetCurrencyCode);
+		} catch (ArithmeticException e) {
+			// fall through to the exact path, which still fails if the result does not fit
+		}
+		BigDecimal converted = toBigDecimal().multiply(BigDecimal.valueOf(unscaledRate, rateScale))
+				.setScale(targetScale, RoundingMode.HALF_EVEN);
+		return new Money(converted.unscaledValue().longValueExact(), targetScale, targetCurrencyCode);
+	}
+
+	public BigDecimal toBigDecimal() {
+		return BigDecimal.valueOf(minorUnits, scale);
+	}
+
+	@Override
+	public int compareTo(Money other) {
+		int common = commonScale(other);
+		return Long.compare(unitsAt(common), other.unitsAt(common));
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (!(obj instanceof Money))
+			return false;
+		Money other = (Money) obj;
+		return currencyCode.equals(other.currencyCode) && compareTo(other) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(currencyCode, toBigDecimal().stripTrailingZeros());
+	}
+
+	@Override
+	public String toString() {
+		return toBigDecimal().toPlainString() + " " + currencyCode;
+	}
+
+	private int commonScale(Money other) {
+		if (!currencyCode.equals(other.currencyCode))
+			throw new IllegalArgumentException("Currency mismatch: " + currencyCode + " and " + other.currencyCode);
+		return Math.max(scale, other.scale);
+	}
+
+	private long unitsAt(int targetScale) {
+		return targetScale == scale ? minorUnits : Math.multiplyExact(minorUnits, POWERS_OF_TEN[targetScale - scale]);
+	}
+
+	private static long divideHalfEven(long dividend, long divisor) {
+		long quotient = dividend / divisor;
+		long remainder = Math.abs(dividend % divisor);
+		if (remainder == 0)
+			return quotient;
+		int half = Long.compare(remainder, divisor - remainder);
+		if (half > 0 || (half == 0 && (quotient & 1) != 0))
+			quotient += Long.signum(dividend);
+		return quotient;
+	}
+}
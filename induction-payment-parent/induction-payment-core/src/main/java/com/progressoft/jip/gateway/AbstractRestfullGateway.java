@@ -1,31 +1,121 @@
 package com.progressoft.jip.gateway;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import com.progressoft.jip.utilities.restful.RestfulDataParser;
 
-public abstract class AbstractRestfullGateway<T> {
+/**
+ * Fetches and parses restful responses over {@link HttpURLConnection}, whose
+ * keep-alive cache pools connections per host as long as every body is read
+ * and closed. Connections are never disconnected explicitly for that reason.
+ * Every request has connect and read timeouts, and the body is streamed
+ * straight into the parser. A gateway that creates its own async pool shuts
+ * it down on {@link #close()}; an injected executor belongs to the caller.
+ */
+public abstract class AbstractRestfullGateway<T> implements AutoCloseable {
+
+	public static final int DEFAULT_CONNECT_TIMEOUT_MILLIS = 2000;
+	public static final int DEFAULT_READ_TIMEOUT_MILLIS = 5000;
+	public static final int DEFAULT_ASYNC_THREADS = 4;
+
+	private static final String CHARSET = "charset=";
 
 	private RestfulDataParser<T> parser;
+	private int connectTimeoutMillis;
+	private int readTimeoutMillis;
+	private Executor executor;
+	private boolean ownsExecutor;
 
 	public AbstractRestfullGateway(RestfulDataParser<T> parser) {
+		this(parser, DEFAULT_CONNECT_TIMEOUT_MILLIS, DEFAULT_READ_TIMEOUT_MILLIS);
+	}
+
+	public AbstractRestfullGateway(RestfulDataParser<T> parser, int connectTimeoutMillis, int readTimeoutMillis) {
+		this(parser, connectTimeoutMillis, readTimeoutMillis, Executors.newFixedThreadPool(DEFAULT_ASYNC_THREADS, r -> {
+			Thread thread = new Thread(r, "restful-gateway");
+			thread.setDaemon(true);
+			return thread;
+		}), true);
+	}
+
+	public AbstractRestfullGateway(RestfulDataParser<T> parser, int connectTimeoutMillis, int readTimeoutMillis,
+			Executor executor) {
+		this(parser, connectTimeoutMillis, readTimeoutMillis, executor, false);
+	}
+
+	private AbstractRestfullGateway(RestfulDataParser<T> parser, int connectTimeoutMillis, int readTimeoutMillis,
+			Executor executor, boolean ownsExecutor) {
+		if (connectTimeoutMillis <= 0 || readTimeoutMillis <= 0)
+			throw new IllegalArgumentException("timeouts must be positive");
 		this.parser = parser;
+		this.connectTimeoutMillis = connectTimeoutMillis;
+		this.readTimeoutMillis = readTimeoutMillis;
+		this.executor = executor;
+		this.ownsExecutor = ownsExecutor;
+	}
+
+	@Override
+	public void close() {
+		if (ownsExecutor)
+			((ExecutorService) executor).shutdownNow();
 	}
 
 	protected T response(String url) {
+		HttpURLConnection connection = null;
 		try {
-			URL urlObject = new URL(url);
-			String line;
-			StringBuilder data = new StringBuilder();
-			BufferedReader reader = new BufferedReader(new InputStreamReader(urlObject.openStream()));
-			while ((line = reader.readLine()) != null)
-				data.append(line);
-			return parser.parse(data.toString());
+			connection = (HttpURLConnection) new URL(url).openConnection();
+			connection.setConnectTimeout(connectTimeoutMillis);
+			connection.setReadTimeout(readTimeoutMillis);
+			int status = connection.getResponseCode();
+			if (status != HttpURLConnection.HTTP_OK)
+				throw new IllegalStateException("HTTP " + status + " from " + url);
+			try (InputStream body = connection.getInputStream()) {
+				return parser.parse(body, charset(connection.getContentType()));
+			}
 		} catch (IOException e) {
 			throw new IllegalStateException(e);
+		} finally {
+			if (Objects.nonNull(connection))
+				discardErrorBody(connection);
+		}
+	}
+
+	protected CompletableFuture<T> responseAsync(String url) {
+		return CompletableFuture.supplyAsync(() -> response(url), executor);
+	}
+
+	private static Charset charset(String contentType) {
+		if (Objects.nonNull(contentType)) {
+			int at = contentType.toLowerCase().indexOf(CHARSET);
+			if (at >= 0) {
+				String name = contentType.substring(at + CHARSET.length()).split(";")[0].trim().replace("\"", "");
+				if (Charset.isSupported(name))
+					return Charset.forName(name);
+			}
+		}
+		return StandardCharsets.UTF_8;
+	}
+
+	// an unread error body would keep the connection out of the keep-alive cache
+	private static void discardErrorBody(HttpURLConnection connection) {
+		try (InputStream error = connection.getErrorStream()) {
+			if (Objects.isNull(error))
+				return;
+			byte[] buffer = new byte[1024];
+			while (error.read(buffer) >= 0)
+				;
+		} catch (IOException e) {
+			// the connection is simply not reused
 		}
 	}
 
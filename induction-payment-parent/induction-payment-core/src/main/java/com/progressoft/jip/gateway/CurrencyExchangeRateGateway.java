@@ -1,9 +1,27 @@
 package com.progressoft.jip.gateway;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
 
 public interface CurrencyExchangeRateGateway {
 
 	CurrencyExchangeRate loadCurrencyExchangeRate(String codeFrom, String codeTo);
 
-}
\ No newline at end of file
+	default Collection<CurrencyExchangeRate> loadCurrencyExchangeRatesFrom(String codeFrom,
+			Collection<String> codesTo) {
+		List<CurrencyExchangeRate> rates = new ArrayList<>();
+		for (String codeTo : codesTo) {
+			try {
+				rates.add(loadCurrencyExchangeRate(codeFrom, codeTo));
+			} catch (CurrencyCodeNotFoundException e) {
+				// an unknown pair is left out, as the batched gateways leave out unavailable pairs
+			}
+		}
+		return rates;
+	}
+
+}
@@ -0,0 +1,140 @@
+package com.progressoft.jip.gateway;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateways.exceptions.NullGatewayException;
+
+/**
+ * Asks each provider in turn and returns the first answer. A provider with
+ * a timeout runs on a worker thread and is abandoned once the timeout
+ * passes; a provider without one is called on the caller's thread. When
+ * every provider fails, the last failure is thrown with the earlier ones
+ * attached as suppressed exceptions. The gateway owns its worker pool and
+ * its providers: {@link #close()} shuts the pool down and closes every
+ * provider that is {@link AutoCloseable}.
+ */
+public class FailoverCurrencyExchangeRateGateway implements CurrencyExchangeRateGateway, AutoCloseable {
+
+	public static final long DEFAULT_REMOTE_TIMEOUT_MILLIS = 2000;
+
+	private final List<Provider> providers;
+	private final ExecutorService executor;
+
+	public FailoverCurrencyExchangeRateGateway(Provider... providers) {
+		this(Executors.newCachedThreadPool(r -> {
+			Thread thread = new Thread(r, "exchange-rate-provider");
+			thread.setDaemon(true);
+			return thread;
+		}), Arrays.asList(providers));
+	}
+
+	public FailoverCurrencyExchangeRateGateway(ExecutorService executor, List<Provider> providers) {
+		if (Objects.isNull(providers) || providers.isEmpty())
+			throw new NullGatewayException();
+		this.providers = new ArrayList<>(providers);
+		this.executor = executor;
+	}
+
+	@Override
+	public CurrencyExchangeRate loadCurrencyExchangeRate(String codeFrom, String codeTo) {
+		return firstAvailable(gateway -> gateway.loadCurrencyExchangeRate(codeFrom, codeTo));
+	}
+
+	@Override
+	public Collection<CurrencyExchangeRate> loadCurrencyExchangeRatesFrom(String codeFrom,
+			Collection<String> codesTo) {
+		return firstAvailable(gateway -> gateway.loadCurrencyExchangeRatesFrom(codeFrom, codesTo));
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+		RuntimeException failure = null;
+		for (Provider provider : providers) {
+			try {
+				provider.close();
+			} catch (RuntimeException e) {
+				if (Objects.nonNull(failure))
+					failure.addSuppressed(e);
+				else
+					failure = e;
+			}
+		}
+		if (Objects.nonNull(failure))
+			throw failure;
+	}
+
+	private <T> T firstAvailable(Function<CurrencyExchangeRateGateway, T> request) {
+		RuntimeException failure = null;
+		for (Provider provider : providers) {
+			try {
+				return provider.call(executor, request);
+			} catch (RuntimeException e) {
+				if (Objects.nonNull(failure) && failure != e)
+					e.addSuppressed(failure);
+				failure = e;
+			}
+		}
+		throw failure;
+	}
+
+	public static class Provider {
+		private final CurrencyExchangeRateGateway gateway;
+		private final long timeoutNanos;
+
+		public Provider(CurrencyExchangeRateGateway gateway) {
+			this(gateway, 0, TimeUnit.NANOSECONDS);
+		}
+
+		public Provider(CurrencyExchangeRateGateway gateway, long timeout, TimeUnit unit) {
+			if (Objects.isNull(gateway))
+				throw new NullGatewayException();
+			this.gateway = gateway;
+			this.timeoutNanos = unit.toNanos(timeout);
+		}
+
+		private void close() {
+			if (!(gateway instanceof AutoCloseable))
+				return;
+			try {
+				((AutoCloseable) gateway).close();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private <T> T call(ExecutorService executor, Function<CurrencyExchangeRateGateway, T> request) {
+			if (timeoutNanos <= 0)
+				return request.apply(gateway);
+			Future<T> answer = executor.submit(() -> request.apply(gateway));
+			try {
+				return answer.get(timeoutNanos, TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				answer.cancel(true);
+				throw new IllegalStateException("Rate provider timed out: " + gateway.getClass().getName(), e);
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof RuntimeException)
+					throw (RuntimeException) e.getCause();
+				throw new IllegalStateException(e.getCause());
+			} catch (InterruptedException e) {
+				answer.cancel(true);
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
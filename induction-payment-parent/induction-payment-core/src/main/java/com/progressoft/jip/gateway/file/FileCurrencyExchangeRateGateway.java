@@ -0,0 +1,147 @@
+package com.progressoft.jip.gateway.file;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.datastructures.CurrencyExchangeRateMatrix;
+import com.progressoft.jip.gateway.CurrencyExchangeRateGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+
+/**
+ * Serves rates from a local CSV file of {@code from,to,rate} lines; blank
+ * lines, {@code #} comments and a {@code from,to,rate} header are skipped.
+ * The file is memory-mapped and parsed into an immutable matrix, and is
+ * re-read when its modification time or size changes. If a reload fails
+ * the previous rates keep being served.
+ * <p>
+ * The application reads the file named by the {@value #RATES_FILE_PROPERTY}
+ * system property, or {@value #DEFAULT_RATES_FILE} in the working directory
+ * when it is not set; {@link #fromSystemProperty()} refuses to start without it.
+ */
+public class FileCurrencyExchangeRateGateway implements CurrencyExchangeRateGateway {
+
+	public static final String RATES_FILE_PROPERTY = "payment.rates.file";
+	public static final String DEFAULT_RATES_FILE = "rates.csv";
+	public static final long DEFAULT_CHECK_INTERVAL_MILLIS = 1000;
+
+	private static final String HEADER = "from,to,rate";
+	private static final char COMMENT = '#';
+
+	private final Path file;
+	private final long checkIntervalNanos;
+	private final LongSupplier clock;
+	private volatile Snapshot snapshot;
+	private volatile long lastCheck;
+
+	public FileCurrencyExchangeRateGateway(Path file) {
+		this(file, DEFAULT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS, System::nanoTime);
+	}
+
+	public FileCurrencyExchangeRateGateway(Path file, long checkInterval, TimeUnit unit, LongSupplier clock) {
+		if (Objects.isNull(file))
+			throw new IllegalArgumentException("rates file is required");
+		this.file = file;
+		this.checkIntervalNanos = unit.toNanos(checkInterval);
+		this.clock = clock;
+	}
+
+	public static FileCurrencyExchangeRateGateway fromSystemProperty() {
+		Path file = Paths.get(System.getProperty(RATES_FILE_PROPERTY, DEFAULT_RATES_FILE)).toAbsolutePath();
+		if (!Files.isReadable(file))
+			throw new IllegalStateException("Exchange rates file " + file + " is missing or unreadable; set -D"
+					+ RATES_FILE_PROPERTY + " to a CSV file of " + HEADER + " lines");
+		return new FileCurrencyExchangeRateGateway(file);
+	}
+
+	@Override
+	public CurrencyExchangeRate loadCurrencyExchangeRate(String codeFrom, String codeTo) {
+		double rate = rates().rate(codeFrom, codeTo).orElseThrow(CurrencyCodeNotFoundException::new);
+		return new CurrencyExchangeRate(codeFrom, codeTo, rate);
+	}
+
+	public CurrencyExchangeRateMatrix rates() {
+		Snapshot current = snapshot;
+		long now = clock.getAsLong();
+		if (Objects.nonNull(current) && now - lastCheck < checkIntervalNanos)
+			return current.rates;
+		return reloadIfChanged(now);
+	}
+
+	private synchronized CurrencyExchangeRateMatrix reloadIfChanged(long now) {
+		Snapshot current = snapshot;
+		if (Objects.nonNull(current) && now - lastCheck < checkIntervalNanos)
+			return current.rates;
+		try {
+			FileTime modified = Files.getLastModifiedTime(file);
+			long size = Files.size(file);
+			if (Objects.isNull(current) || !current.modified.equals(modified) || current.size != size)
+				snapshot = new Snapshot(read(), modified, size);
+		} catch (IOException | RuntimeException e) {
+			if (Objects.isNull(current))
+				throw e instanceof RuntimeException ? (RuntimeException) e : new IllegalStateException(e);
+		}
+		lastCheck = now;
+		return snapshot.rates;
+	}
+
+	private CurrencyExchangeRateMatrix read() throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(MapMode.READ_ONLY, 0, channel.size());
+			return parse(StandardCharsets.UTF_8.decode(mapped));
+		}
+	}
+
+	private CurrencyExchangeRateMatrix parse(CharBuffer content) {
+		List<CurrencyExchangeRate> rates = new ArrayList<>();
+		int lineNumber = 0;
+		int start = 0;
+		int length = content.length();
+		while (start < length) {
+			int end = start;
+			while (end < length && content.charAt(end) != '\n')
+				end++;
+			lineNumber++;
+			String line = content.subSequence(start, end).toString().trim();
+			start = end + 1;
+			if (line.isEmpty() || line.charAt(0) == COMMENT || HEADER.equalsIgnoreCase(line.replace(" ", "")))
+				continue;
+			String[] columns = line.split(",");
+			if (columns.length != 3)
+				throw new IllegalStateException("Malformed rate at line " + lineNumber + " of " + file);
+			try {
+				rates.add(new CurrencyExchangeRate(columns[0].trim(), columns[1].trim(),
+						Double.parseDouble(columns[2].trim())));
+			} catch (NumberFormatException e) {
+				throw new IllegalStateException("Malformed rate at line " + lineNumber + " of " + file, e);
+			}
+		}
+		return new CurrencyExchangeRateMatrix(rates);
+	}
+
+	private static final class Snapshot {
+		private final CurrencyExchangeRateMatrix rates;
+		private final FileTime modified;
+		private final long size;
+
+		private Snapshot(CurrencyExchangeRateMatrix rates, FileTime modified, long size) {
+			this.rates = rates;
+			this.modified = modified;
+			this.size = size;
+		}
+	}
+}
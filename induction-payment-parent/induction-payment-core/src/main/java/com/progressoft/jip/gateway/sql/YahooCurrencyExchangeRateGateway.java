@@ -1,6 +1,11 @@
 package com.progressoft.jip.gateway.sql;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import com.progressoft.jip.datastructures.CurrencyExchangeRate;
 import com.progressoft.jip.gateway.AbstractRestfullGateway;
@@ -11,6 +16,7 @@ import com.progressoft.jip.gateways.exceptions.NullRestfulParserException;
 import com.progressoft.jip.utilities.Utilities;
 import com.progressoft.jip.utilities.restful.RestfulDataParser;
 import com.progressoft.jip.utilities.restful.RestfulResponseFormat;
+import com.progressoft.jip.utilities.restful.impl.Rate;
 import com.progressoft.jip.utilities.restful.impl.YahooXmlResponse;
 
 
@@ -20,26 +26,58 @@ public class YahooCurrencyExchangeRateGateway extends AbstractRestfullGateway<Ya
 
 	private static final String YAHOO_SERVER = "http://query.yahooapis.com/v1/public/yql?q=";
 	private static final String YAHOO_QUERY = "select * from yahoo.finance.xchange where pair in";
+	private static final String NOT_AVAILABLE = "N/A";
 	private RestfulResponseFormat responseFormat;
+	private String server;
 
 	public YahooCurrencyExchangeRateGateway(RestfulResponseFormat format, RestfulDataParser<YahooXmlResponse> parser) {
-		super(parser);
+		this(YAHOO_SERVER, format, parser, DEFAULT_CONNECT_TIMEOUT_MILLIS, DEFAULT_READ_TIMEOUT_MILLIS);
+	}
+
+	public YahooCurrencyExchangeRateGateway(String server, RestfulResponseFormat format,
+			RestfulDataParser<YahooXmlResponse> parser, int connectTimeoutMillis, int readTimeoutMillis) {
+		super(parser, connectTimeoutMillis, readTimeoutMillis);
 		if (Objects.isNull(format))
 			throw new InvalidRestfulResponseFormatException();
 		if (Objects.isNull(parser))
 			throw new NullRestfulParserException();
 		this.responseFormat = format;
+		this.server = server;
 	}
 
 	@Override
 	public CurrencyExchangeRate loadCurrencyExchangeRate(String codeFrom, String codeTo) {
 		if (!isValidCode(codeFrom) || !isValidCode(codeTo))
 			throw new CurrencyCodeNotFoundException();
-		YahooXmlResponse response = super.response(url(codeFrom, codeTo));
-		if (!isValidResponse(response))
+		return exchangeRate(response(url(pair(codeFrom, codeTo))));
+	}
+
+	public CompletableFuture<CurrencyExchangeRate> loadCurrencyExchangeRateAsync(String codeFrom, String codeTo) {
+		if (!isValidCode(codeFrom) || !isValidCode(codeTo))
 			throw new CurrencyCodeNotFoundException();
-		return new CurrencyExchangeRate(response.fromCode(), response.toCode(),
-				Double.parseDouble(response.rate()));
+		return responseAsync(url(pair(codeFrom, codeTo))).thenApply(this::exchangeRate);
+	}
+
+	@Override
+	public Collection<CurrencyExchangeRate> loadCurrencyExchangeRatesFrom(String codeFrom,
+			Collection<String> codesTo) {
+		if (!isValidCode(codeFrom))
+			throw new CurrencyCodeNotFoundException();
+		return rates(codesTo.stream().filter(this::isValidCode).distinct().filter(codeTo -> !codeTo.equals(codeFrom))
+				.map(codeTo -> pair(codeFrom, codeTo)).collect(Collectors.toList()));
+	}
+
+	private List<CurrencyExchangeRate> rates(List<String> pairs) {
+		List<CurrencyExchangeRate> rates = new ArrayList<>();
+		if (pairs.isEmpty())
+			return rates;
+		for (Rate rate : response(url(String.join(",", pairs))).rates()) {
+			if (!isValidRate(rate))
+				continue;
+			String[] codesOfPair = rate.name.split("/");
+			rates.add(new CurrencyExchangeRate(codesOfPair[1], codesOfPair[0], Double.parseDouble(rate.rate)));
+		}
+		return rates;
 	}
 
 	private boolean isValidCode(String codeFrom) {
@@ -47,11 +85,27 @@ public class YahooCurrencyExchangeRateGateway extends AbstractRestfullGateway<Ya
 	}
 
 	private boolean isValidResponse(YahooXmlResponse response) {
-		return !"N".equals(response.toCode()) && !"A".equals(response.fromCode());
+		return !response.rates().isEmpty() && !"N".equals(response.toCode()) && !"A".equals(response.fromCode());
+	}
+
+	private CurrencyExchangeRate exchangeRate(YahooXmlResponse response) {
+		if (!isValidResponse(response))
+			throw new CurrencyCodeNotFoundException();
+		return new CurrencyExchangeRate(response.fromCode(), response.toCode(),
+				Double.parseDouble(response.rate()));
+	}
+
+	private boolean isValidRate(Rate rate) {
+		return Objects.nonNull(rate.name) && Objects.nonNull(rate.rate) && !NOT_AVAILABLE.equals(rate.name)
+				&& !NOT_AVAILABLE.equals(rate.rate) && rate.name.split("/").length == 2;
+	}
+
+	private String pair(String codeFrom, String codeTo) {
+		return "\"" + codeTo + codeFrom + "\"";
 	}
 
-	private String url(String codeFrom, String codeTo) {
-		return YAHOO_SERVER + Utilities.utf8Encoded(YAHOO_QUERY + " (\"" + codeTo + codeFrom + "\")")
+	private String url(String pairs) {
+		return server + Utilities.utf8Encoded(YAHOO_QUERY + " (" + pairs + ")")
 				+ "&env=store://datatables.org/alltableswithkeys&format=" + responseFormat;
 	}
 
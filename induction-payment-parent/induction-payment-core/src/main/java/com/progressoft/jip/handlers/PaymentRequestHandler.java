@@ -1,18 +1,24 @@
 package com.progressoft.jip.handlers;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.beans.PaymentRequest;
 import com.progressoft.jip.handlers.exceptions.PaymentValidationException;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationContext;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationResult;
 import com.progressoft.jip.utilities.chequewriting.impl.AbstractAmountWriter;
 
 public interface PaymentRequestHandler {
 
-	void validatePaymentRequest(PaymentRequest paymentRequest, Account account)
+	void validatePaymentRequest(PaymentRequestValidationContext context)
 			throws PaymentValidationException, ValidationException;
 
+	List<PaymentRequestValidationResult> validatePaymentRequests(Collection<PaymentRequest> paymentRequests);
+
 	boolean isDueDate(LocalDate paymentDate);
 
 	void preformPayment(PaymentRequest paymentRequest, AccountHandler accountHandler, Account account);
@@ -1,9 +1,8 @@
 package com.progressoft.jip.handlers.impl;
 
-import java.math.BigDecimal;
-
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.datastructures.Amount;
+import com.progressoft.jip.datastructures.Money;
 import com.progressoft.jip.handlers.AccountHandler;
 import com.progressoft.jip.handlers.exceptions.AccountDoesNotHaveEnoughBalanceException;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
@@ -20,21 +19,22 @@ public class AccountHandlerImpl implements AccountHandler {
 	@Override
 	public void debit(Account account, Amount amount) {
 		String currencyCode = account.getCurrencyCode();
-		BigDecimal debitAmount = amount.valueIn(currencyCode);
-		if (!hasEnoughBalance(debitAmount.doubleValue(), account.getBalance()))
+		Money debitAmount = amount.moneyIn(currencyCode);
+		Money balance = Money.of(account.getBalance(), currencyCode);
+		if (!hasEnoughBalance(debitAmount, balance))
 			throw new AccountDoesNotHaveEnoughBalanceException();
-		account.setBalance(account.getBalance().subtract(debitAmount));
+		account.setBalance(balance.subtract(debitAmount).toBigDecimal());
 	}
 
 	@Override
 	public void credit(Account account, Amount amount) {
 		String currencyCode = account.getCurrencyCode();
-		BigDecimal creditAmount = amount.valueIn(currencyCode);
-		account.setBalance(account.getBalance().add(creditAmount));
+		Money creditAmount = amount.moneyIn(currencyCode);
+		account.setBalance(Money.of(account.getBalance(), currencyCode).add(creditAmount).toBigDecimal());
 	}
 
-	private boolean hasEnoughBalance(double debitAmount, BigDecimal balance) {
-		return debitAmount <= balance.doubleValue();
+	private boolean hasEnoughBalance(Money debitAmount, Money balance) {
+		return !balance.isLessThan(debitAmount);
 	}
 
 	@Override
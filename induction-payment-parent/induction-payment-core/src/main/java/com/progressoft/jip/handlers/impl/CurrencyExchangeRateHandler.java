@@ -3,17 +3,33 @@ package com.progressoft.jip.handlers.impl;
 import java.math.BigDecimal;
 
 import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.datastructures.Money;
 
 public class CurrencyExchangeRateHandler {
 
-	private CurrencyExchangeRate currencyExchangeRateDataStructure;
+	private BigDecimal rate;
+	private long unscaledRate;
+	private int rateScale;
 
 	public CurrencyExchangeRateHandler(CurrencyExchangeRate currencyExchangeRateDataStructure) {
-		this.currencyExchangeRateDataStructure = currencyExchangeRateDataStructure;
+		this(new BigDecimal(String.valueOf(currencyExchangeRateDataStructure.getRate())));
+	}
+
+	public CurrencyExchangeRateHandler(BigDecimal rate) {
+		this.rate = rate;
+		BigDecimal fixedPoint = rate.stripTrailingZeros();
+		if (fixedPoint.scale() < 0)
+			fixedPoint = fixedPoint.setScale(0);
+		this.unscaledRate = fixedPoint.unscaledValue().longValueExact();
+		this.rateScale = fixedPoint.scale();
 	}
 
 	public BigDecimal convert(BigDecimal amount) {
-		return amount.multiply(new BigDecimal(String.valueOf(currencyExchangeRateDataStructure.getRate())));
+		return amount.multiply(rate);
+	}
+
+	public Money convert(Money amount, String targetCurrencyCode) {
+		return amount.convert(unscaledRate, rateScale, targetCurrencyCode);
 	}
 
 }
@@ -1,6 +1,8 @@
 package com.progressoft.jip.handlers.impl;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.beans.PaymentRequest;
@@ -8,17 +10,19 @@ import com.progressoft.jip.datastructures.Amount;
 import com.progressoft.jip.handlers.AccountHandler;
 import com.progressoft.jip.handlers.PaymentRequestHandler;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
-import com.progressoft.jip.handlers.validators.Validator;
+import com.progressoft.jip.handlers.validators.PaymentRequestBatchValidator;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationContext;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationResult;
 import com.progressoft.jip.repository.CurrencyExchangeRateRepository;
 import com.progressoft.jip.utilities.chequewriting.impl.AbstractAmountWriter;
 
 public class PaymentRequestHandlerImpl implements PaymentRequestHandler {
 
 	private CurrencyExchangeRateRepository currencyExchangeRateRepository;
-	private Validator<PaymentRequest, ValidationException> validator;
+	private PaymentRequestBatchValidator validator;
 
 	public PaymentRequestHandlerImpl(CurrencyExchangeRateRepository currencyExchangeRateRepository,
-			Validator<PaymentRequest, ValidationException> validator) {
+			PaymentRequestBatchValidator validator) {
 		this.currencyExchangeRateRepository = currencyExchangeRateRepository;
 		this.validator = validator;
 
@@ -37,8 +41,13 @@ public class PaymentRequestHandlerImpl implements PaymentRequestHandler {
 	}
 
 	@Override
-	public void validatePaymentRequest(PaymentRequest paymentRequest, Account account) throws ValidationException {
-		validator.validate(paymentRequest);
+	public void validatePaymentRequest(PaymentRequestValidationContext context) throws ValidationException {
+		validator.validate(context);
+	}
+
+	@Override
+	public List<PaymentRequestValidationResult> validatePaymentRequests(Collection<PaymentRequest> paymentRequests) {
+		return validator.validateAll(paymentRequests);
 	}
 
 	@Override
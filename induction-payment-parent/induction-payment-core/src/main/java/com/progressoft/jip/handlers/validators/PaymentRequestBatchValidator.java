@@ -0,0 +1,13 @@
+package com.progressoft.jip.handlers.validators;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.handlers.exceptions.ValidationException;
+
+public interface PaymentRequestBatchValidator extends Validator<PaymentRequestValidationContext, ValidationException> {
+
+	List<PaymentRequestValidationResult> validateAll(Collection<PaymentRequest> paymentRequests);
+
+}
@@ -0,0 +1,55 @@
+package com.progressoft.jip.handlers.validators;
+
+import java.util.Objects;
+
+import com.progressoft.jip.beans.Account;
+import com.progressoft.jip.beans.PaymentPurpose;
+import com.progressoft.jip.beans.PaymentRequest;
+
+/**
+ * Carries the entities already loaded for one payment request operation so
+ * that validation does not fetch them again. Entities that do not match the
+ * request (a changed purpose code, another ordering account) are ignored.
+ */
+public class PaymentRequestValidationContext {
+
+	private final PaymentRequest paymentRequest;
+	private Account orderingAccount;
+	private PaymentPurpose paymentPurpose;
+
+	public PaymentRequestValidationContext(PaymentRequest paymentRequest) {
+		this(paymentRequest, null);
+	}
+
+	public PaymentRequestValidationContext(PaymentRequest paymentRequest, Account orderingAccount) {
+		this.paymentRequest = paymentRequest;
+		this.orderingAccount = orderingAccount;
+	}
+
+	public PaymentRequest getPaymentRequest() {
+		return paymentRequest;
+	}
+
+	public Account getOrderingAccount() {
+		if (Objects.nonNull(orderingAccount)
+				&& Objects.equals(orderingAccount.getIban(), paymentRequest.getOrderingAccountIban()))
+			return orderingAccount;
+		return null;
+	}
+
+	public void setOrderingAccount(Account orderingAccount) {
+		this.orderingAccount = orderingAccount;
+	}
+
+	public PaymentPurpose getPaymentPurpose() {
+		if (Objects.nonNull(paymentPurpose)
+				&& Objects.equals(paymentPurpose.getCode(), paymentRequest.getPurposeCode()))
+			return paymentPurpose;
+		return null;
+	}
+
+	public void setPaymentPurpose(PaymentPurpose paymentPurpose) {
+		this.paymentPurpose = paymentPurpose;
+	}
+
+}
@@ -0,0 +1,37 @@
+package com.progressoft.jip.handlers.validators;
+
+import java.util.Objects;
+
+import com.progressoft.jip.beans.PaymentRequest;
+
+public class PaymentRequestValidationResult {
+
+	private final PaymentRequest paymentRequest;
+	private final Exception failure;
+
+	private PaymentRequestValidationResult(PaymentRequest paymentRequest, Exception failure) {
+		this.paymentRequest = paymentRequest;
+		this.failure = failure;
+	}
+
+	public static PaymentRequestValidationResult valid(PaymentRequest paymentRequest) {
+		return new PaymentRequestValidationResult(paymentRequest, null);
+	}
+
+	public static PaymentRequestValidationResult failed(PaymentRequest paymentRequest, Exception failure) {
+		return new PaymentRequestValidationResult(paymentRequest, failure);
+	}
+
+	public PaymentRequest getPaymentRequest() {
+		return paymentRequest;
+	}
+
+	public boolean isValid() {
+		return Objects.isNull(failure);
+	}
+
+	public Exception getFailure() {
+		return failure;
+	}
+
+}
@@ -2,14 +2,25 @@ package com.progressoft.jip.handlers.validators.impl;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.beans.PaymentPurpose;
 import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.gateways.exceptions.AccountNotFoundException;
+import com.progressoft.jip.gateways.exceptions.PaymentPurposeNotFoundException;
 import com.progressoft.jip.handlers.exceptions.AccountRuleViolationException;
 import com.progressoft.jip.handlers.exceptions.InvalidAmountException;
 import com.progressoft.jip.handlers.exceptions.PurposeValidationException;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
+import com.progressoft.jip.handlers.validators.PaymentRequestBatchValidator;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationContext;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationResult;
 import com.progressoft.jip.handlers.validators.Validator;
 import com.progressoft.jip.iban.IBANGeneralValidator;
 import com.progressoft.jip.iban.exception.InvalidIBANException;
@@ -18,7 +29,7 @@ import com.progressoft.jip.repository.PaymentPurposeRepository;
 import com.progressoft.jip.rules.impl.IPaymentRules;
 import com.progressoft.jip.rules.impl.PaymentRules;
 
-public class PaymentRequestValidator implements Validator<PaymentRequest, ValidationException> {
+public class PaymentRequestValidator implements PaymentRequestBatchValidator {
 
 	private AccountRepository accountRepository;
 	private PaymentPurposeRepository purposeRepository;
@@ -51,20 +62,69 @@ public class PaymentRequestValidator implements Validator<PaymentRequest, Valida
 	}
 
 	private void isValidAmount(BigDecimal amount) {
-		if (amount.doubleValue() < 0) {
+		if (amount.signum() < 0) {
 			throw new InvalidAmountException();
 		}
 	}
 
-	@Override
 	public void validate(PaymentRequest paymentRequest)
 			throws AccountRuleViolationException, InvalidIBANException, PurposeValidationException {
+		validate(new PaymentRequestValidationContext(paymentRequest));
+	}
+
+	@Override
+	public void validate(PaymentRequestValidationContext context)
+			throws AccountRuleViolationException, InvalidIBANException, PurposeValidationException {
+		PaymentRequest paymentRequest = context.getPaymentRequest();
 		isValidAmount(paymentRequest.getPaymentAmount());
-		PaymentPurpose purpose = purposeRepository.loadPaymentPurposeByCode(paymentRequest.getPurposeCode());
-		purposeValidator.validate(purpose);
-		checkPaymentRule(accountRepository.loadAccountByIban(paymentRequest.getOrderingAccountIban()),
-				LocalDate.parse(paymentRequest.getPaymentDate().toString()));
+		purposeValidator.validate(paymentPurpose(context));
+		checkPaymentRule(orderingAccount(context), LocalDate.parse(paymentRequest.getPaymentDate().toString()));
 		validateBeneficiaryIban(paymentRequest.getBeneficiaryAccountIban());
 	}
 
+	@Override
+	public List<PaymentRequestValidationResult> validateAll(Collection<PaymentRequest> paymentRequests) {
+		Map<String, Account> accounts = accountRepository.loadAccountsByIbans(
+				paymentRequests.stream().map(PaymentRequest::getOrderingAccountIban).collect(Collectors.toSet()));
+		Map<String, PaymentPurpose> purposes = purposeRepository.loadPaymentPurposesByCodes(
+				paymentRequests.stream().map(PaymentRequest::getPurposeCode).collect(Collectors.toSet()));
+		return new ArrayList<>(paymentRequests).parallelStream().map(p -> validate(p, accounts, purposes))
+				.collect(Collectors.toList());
+	}
+
+	private PaymentRequestValidationResult validate(PaymentRequest paymentRequest, Map<String, Account> accounts,
+			Map<String, PaymentPurpose> purposes) {
+		PaymentRequestValidationContext context = new PaymentRequestValidationContext(paymentRequest,
+				accounts.get(paymentRequest.getOrderingAccountIban()));
+		context.setPaymentPurpose(purposes.get(paymentRequest.getPurposeCode()));
+		try {
+			if (Objects.isNull(context.getPaymentPurpose()))
+				throw new PaymentPurposeNotFoundException();
+			if (Objects.isNull(context.getOrderingAccount()))
+				throw new AccountNotFoundException();
+			validate(context);
+			return PaymentRequestValidationResult.valid(paymentRequest);
+		} catch (ValidationException | RuntimeException e) {
+			return PaymentRequestValidationResult.failed(paymentRequest, e);
+		}
+	}
+
+	private PaymentPurpose paymentPurpose(PaymentRequestValidationContext context) {
+		PaymentPurpose purpose = context.getPaymentPurpose();
+		if (Objects.isNull(purpose)) {
+			purpose = purposeRepository.loadPaymentPurposeByCode(context.getPaymentRequest().getPurposeCode());
+			context.setPaymentPurpose(purpose);
+		}
+		return purpose;
+	}
+
+	private Account orderingAccount(PaymentRequestValidationContext context) {
+		Account account = context.getOrderingAccount();
+		if (Objects.isNull(account)) {
+			account = accountRepository.loadAccountByIban(context.getPaymentRequest().getOrderingAccountIban());
+			context.setOrderingAccount(account);
+		}
+		return account;
+	}
+
 }
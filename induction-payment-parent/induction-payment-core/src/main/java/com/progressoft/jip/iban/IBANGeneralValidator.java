@@ -1,15 +1,29 @@
 package com.progressoft.jip.iban;
 
+import java.util.Objects;
+
 import com.progressoft.jip.handlers.validators.Validator;
 import com.progressoft.jip.iban.exception.InvalidIBANException;
+import com.progressoft.jip.iban.impl.IBANCountryFormat;
+import com.progressoft.jip.iban.impl.IBANCountryFormatsRegistry;
 import com.progressoft.jip.iban.impl.IBANFormatValidator;
 import com.progressoft.jip.iban.impl.IBANModValidator;
 
 public class IBANGeneralValidator implements Validator<String, InvalidIBANException> {
 
-	IBANValidator formatsValidator = new IBANFormatValidator();
+	private final IBANCountryFormatsRegistry registry;
+	IBANValidator formatsValidator;
 	IBANValidator modValidator = new IBANModValidator();
 
+	public IBANGeneralValidator() {
+		this(IBANCountryFormatsRegistry.getInstance());
+	}
+
+	public IBANGeneralValidator(IBANCountryFormatsRegistry registry) {
+		this.registry = registry;
+		this.formatsValidator = new IBANFormatValidator(registry);
+	}
+
 	@Override
 	public void validate(String iban) throws InvalidIBANException {
 		if (!formatsValidator.isValid(iban) || !modValidator.isValid(iban)) {
@@ -17,4 +31,26 @@ public class IBANGeneralValidator implements Validator<String, InvalidIBANExcept
 		}
 	}
 
+	public boolean isValid(String iban) {
+		return check(iban) == IBANValidationStatus.VALID;
+	}
+
+	public IBANValidationStatus check(String iban) {
+		if (Objects.isNull(iban) || iban.length() < 2 || !isCountryLetter(iban.charAt(0))
+				|| !isCountryLetter(iban.charAt(1)))
+			return IBANValidationStatus.BAD_FORMAT;
+		IBANCountryFormat format = registry.findCountryFormat(iban.charAt(0), iban.charAt(1));
+		if (Objects.isNull(format))
+			return IBANValidationStatus.UNKNOWN_COUNTRY;
+		if (!format.getFormatMatcher().matches(iban))
+			return IBANValidationStatus.BAD_FORMAT;
+		if (!modValidator.isValid(iban))
+			return IBANValidationStatus.BAD_CHECKSUM;
+		return IBANValidationStatus.VALID;
+	}
+
+	private static boolean isCountryLetter(char c) {
+		return c >= 'A' && c <= 'Z';
+	}
+
 }
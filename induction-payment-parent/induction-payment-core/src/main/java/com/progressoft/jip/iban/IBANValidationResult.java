@@ -0,0 +1,30 @@
+package com.progressoft.jip.iban;
+
+public final class IBANValidationResult {
+
+	private final long lineNumber;
+	private final String iban;
+	private final IBANValidationStatus status;
+
+	public IBANValidationResult(long lineNumber, String iban, IBANValidationStatus status) {
+		this.lineNumber = lineNumber;
+		this.iban = iban;
+		this.status = status;
+	}
+
+	public long getLineNumber() {
+		return lineNumber;
+	}
+
+	public String getIban() {
+		return iban;
+	}
+
+	public IBANValidationStatus getStatus() {
+		return status;
+	}
+
+	public boolean isValid() {
+		return status == IBANValidationStatus.VALID;
+	}
+}
@@ -0,0 +1,5 @@
+package com.progressoft.jip.iban;
+
+public enum IBANValidationStatus {
+	VALID, BAD_FORMAT, BAD_CHECKSUM, UNKNOWN_COUNTRY
+}
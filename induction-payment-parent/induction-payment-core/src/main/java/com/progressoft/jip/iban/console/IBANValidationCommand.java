@@ -0,0 +1,95 @@
+package com.progressoft.jip.iban.console;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.progressoft.jip.iban.IBANValidationResult;
+import com.progressoft.jip.iban.IBANValidationStatus;
+import com.progressoft.jip.iban.impl.BulkIBANValidator;
+
+/**
+ * Validates a CSV of IBANs, one per line in the first column, and writes
+ * {@code line,iban,status} rows. Use {@code -} for standard input or output.
+ *
+ * <pre>
+ * java com.progressoft.jip.iban.console.IBANValidationCommand beneficiaries.csv results.csv
+ * </pre>
+ */
+public class IBANValidationCommand {
+
+	private static final String STDIO = "-";
+	private static final String HEADER = "iban";
+	private static final char COMMA = ',';
+	private static final String QUOTE = "\"";
+
+	private final BulkIBANValidator validator;
+
+	public IBANValidationCommand(BulkIBANValidator validator) {
+		this.validator = validator;
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 2) {
+			System.err.println("usage: IBANValidationCommand <input.csv|-> <output.csv|->");
+			System.exit(2);
+		}
+		try (Reader in = STDIO.equals(args[0])
+				? new InputStreamReader(System.in, StandardCharsets.UTF_8)
+				: Files.newBufferedReader(Paths.get(args[0]), StandardCharsets.UTF_8);
+				Writer out = STDIO.equals(args[1])
+						? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+						: Files.newBufferedWriter(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+			Map<IBANValidationStatus, Long> summary = new IBANValidationCommand(new BulkIBANValidator()).run(in, out);
+			System.err.println(summary);
+		}
+	}
+
+	public Map<IBANValidationStatus, Long> run(Reader in, Writer out) throws IOException {
+		Map<IBANValidationStatus, Long> summary = new EnumMap<>(IBANValidationStatus.class);
+		BufferedReader reader = new BufferedReader(in);
+		PrintWriter writer = new PrintWriter(new BufferedWriter(out));
+		writer.println("line,iban,status");
+		try {
+			validator.validate(reader.lines().map(IBANValidationCommand::firstColumn), result -> {
+				if (result.getLineNumber() == 1 && HEADER.equalsIgnoreCase(result.getIban()))
+					return;
+				summary.merge(result.getStatus(), 1L, Long::sum);
+				write(writer, result);
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.flush();
+		if (writer.checkError())
+			throw new IOException("Unable to write validation results");
+		return summary;
+	}
+
+	private static String firstColumn(String line) {
+		int comma = line.indexOf(COMMA);
+		String column = (comma < 0 ? line : line.substring(0, comma)).trim();
+		if (column.length() >= 2 && column.startsWith(QUOTE) && column.endsWith(QUOTE))
+			return column.substring(1, column.length() - 1).trim();
+		return column;
+	}
+
+	private static void write(PrintWriter writer, IBANValidationResult result) {
+		writer.print(result.getLineNumber());
+		writer.print(COMMA);
+		writer.print(result.getIban());
+		writer.print(COMMA);
+		writer.println(result.getStatus());
+	}
+}
@@ -3,4 +3,7 @@ package com.progressoft.jip.iban.exception;
 public class CountryCodeNotFoundException extends RuntimeException {
     private static final long serialVersionUID = 1L;
 
+    public CountryCodeNotFoundException() {
+	super(null, null, false, false);
+    }
 }
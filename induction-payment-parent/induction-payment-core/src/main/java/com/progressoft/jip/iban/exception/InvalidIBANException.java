@@ -6,7 +6,7 @@ public class InvalidIBANException extends ValidationException {
 	private static final long serialVersionUID = 1L;
 
 	public InvalidIBANException(String e) {
-		super(e);
+		super(e, null, false, false);
 	}
 
 }
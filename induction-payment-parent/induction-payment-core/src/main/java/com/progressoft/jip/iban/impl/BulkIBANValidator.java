@@ -0,0 +1,72 @@
+package com.progressoft.jip.iban.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.progressoft.jip.iban.IBANGeneralValidator;
+import com.progressoft.jip.iban.IBANValidationResult;
+import com.progressoft.jip.iban.IBANValidationStatus;
+
+/**
+ * Validates large numbers of IBANs in parallel and reports one status per
+ * line instead of throwing. Streams are consumed in chunks so memory stays
+ * bounded, and results are delivered in input order.
+ */
+public class BulkIBANValidator {
+
+	public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+	private final IBANGeneralValidator validator;
+	private final int chunkSize;
+
+	public BulkIBANValidator() {
+		this(IBANCountryFormatsRegistry.getInstance(), DEFAULT_CHUNK_SIZE);
+	}
+
+	public BulkIBANValidator(IBANCountryFormatsRegistry registry, int chunkSize) {
+		if (chunkSize <= 0)
+			throw new IllegalArgumentException("chunk size must be positive: " + chunkSize);
+		this.validator = new IBANGeneralValidator(registry);
+		this.chunkSize = chunkSize;
+	}
+
+	public IBANValidationStatus check(String iban) {
+		return validator.check(iban);
+	}
+
+	public List<IBANValidationResult> validate(List<String> ibans) {
+		List<String> indexed = ibans instanceof RandomAccess ? ibans : new ArrayList<>(ibans);
+		return Arrays.asList(validateChunk(indexed, 1));
+	}
+
+	public long validate(Stream<String> ibans, Consumer<? super IBANValidationResult> results) {
+		Iterator<String> iterator = ibans.iterator();
+		List<String> chunk = new ArrayList<>(chunkSize);
+		long firstLine = 1;
+		while (iterator.hasNext()) {
+			chunk.add(iterator.next());
+			if (chunk.size() == chunkSize || !iterator.hasNext()) {
+				for (IBANValidationResult result : validateChunk(chunk, firstLine))
+					results.accept(result);
+				firstLine += chunk.size();
+				chunk.clear();
+			}
+		}
+		return firstLine - 1;
+	}
+
+	private IBANValidationResult[] validateChunk(List<String> ibans, long firstLine) {
+		IBANValidationResult[] results = new IBANValidationResult[ibans.size()];
+		IntStream.range(0, results.length).parallel().forEach(i -> {
+			String iban = ibans.get(i);
+			results[i] = new IBANValidationResult(firstLine + i, iban, check(iban));
+		});
+		return results;
+	}
+}
@@ -0,0 +1,38 @@
+package com.progressoft.jip.iban.impl;
+
+public final class IBANCountryFormat {
+
+	private final String countryName;
+	private final String countryCode;
+	private final String ibanFormat;
+	private final int ibanLength;
+	private final IBANFormatMatcher formatMatcher;
+
+	public IBANCountryFormat(String countryName, String countryCode, String ibanFormat, int ibanLength) {
+		this.countryName = countryName;
+		this.countryCode = countryCode;
+		this.ibanFormat = ibanFormat;
+		this.ibanLength = ibanLength;
+		this.formatMatcher = IBANFormatMatcher.compile(ibanFormat);
+	}
+
+	public String getCountryName() {
+		return countryName;
+	}
+
+	public String getCountryCode() {
+		return countryCode;
+	}
+
+	public String getIbanFormat() {
+		return ibanFormat;
+	}
+
+	public int getIbanLength() {
+		return ibanLength;
+	}
+
+	public IBANFormatMatcher getFormatMatcher() {
+		return formatMatcher;
+	}
+}
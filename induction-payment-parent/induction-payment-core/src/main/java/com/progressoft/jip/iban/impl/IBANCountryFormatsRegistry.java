@@ -0,0 +1,117 @@
+package com.progressoft.jip.iban.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+
+import com.progressoft.jip.iban.exception.CountryCodeNotFoundException;
+
+/**
+ * Country formats parsed once from the classpath and shared by every reader
+ * and validator. The registry is immutable after construction.
+ */
+public final class IBANCountryFormatsRegistry {
+
+	private static final String IBAN_COUNTRY_FORMATS_FILE = "ibanformats/IBANCountryFormats.csv";
+	private static final String IBAN_COUNTRY_FORMATS_SETTINGS = "ibanformats/IBANCountryFormatsSettings.xml";
+	private static final String COMMA_REGEX = ",";
+
+	private static final int LETTERS = 26;
+
+	private final Map<String, IBANCountryFormat> formats;
+	private final IBANCountryFormat[] formatsByLetters = new IBANCountryFormat[LETTERS * LETTERS];
+
+	private IBANCountryFormatsRegistry(Map<String, IBANCountryFormat> formats) {
+		this.formats = Collections.unmodifiableMap(formats);
+		for (IBANCountryFormat format : formats.values()) {
+			String code = format.getCountryCode();
+			if (code.length() == 2 && index(code.charAt(0), code.charAt(1)) >= 0)
+				formatsByLetters[index(code.charAt(0), code.charAt(1))] = format;
+		}
+	}
+
+	public static IBANCountryFormatsRegistry getInstance() {
+		return Holder.INSTANCE;
+	}
+
+	public IBANCountryFormat getCountryFormat(String countryCode) {
+		IBANCountryFormat format = findCountryFormat(countryCode);
+		if (Objects.isNull(format))
+			throw new CountryCodeNotFoundException();
+		return format;
+	}
+
+	public IBANCountryFormat findCountryFormat(String countryCode) {
+		return formats.get(countryCode);
+	}
+
+	/**
+	 * Looks a country up by the first two characters of an IBAN without
+	 * allocating a key, returns {@code null} when there is no such country.
+	 */
+	public IBANCountryFormat findCountryFormat(char first, char second) {
+		int index = index(first, second);
+		return index < 0 ? null : formatsByLetters[index];
+	}
+
+	private static int index(char first, char second) {
+		if (first < 'A' || first > 'Z' || second < 'A' || second > 'Z')
+			return -1;
+		return (first - 'A') * LETTERS + second - 'A';
+	}
+
+	public Map<String, IBANCountryFormat> getCountryFormats() {
+		return formats;
+	}
+
+	static IBANCountryFormatsRegistry load(ClassLoader classLoader) {
+		IBANCountryFormatsSettings settings = loadSettings(classLoader);
+		Map<String, IBANCountryFormat> formats = new HashMap<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				resource(classLoader, IBAN_COUNTRY_FORMATS_FILE), StandardCharsets.UTF_8))) {
+			String line;
+			while (Objects.nonNull(line = reader.readLine())) {
+				if (line.trim().isEmpty())
+					continue;
+				String[] columns = line.split(COMMA_REGEX);
+				IBANCountryFormat format = new IBANCountryFormat(columns[settings.getCountryNameIndex()].trim(),
+						columns[settings.getCountryCodeIndex()].trim(), columns[settings.getIbanFormatIndex()].trim(),
+						Integer.parseInt(columns[settings.getIbanLengthIndex()].trim()));
+				formats.put(format.getCountryCode(), format);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Unable to read " + IBAN_COUNTRY_FORMATS_FILE, e);
+		}
+		return new IBANCountryFormatsRegistry(formats);
+	}
+
+	private static IBANCountryFormatsSettings loadSettings(ClassLoader classLoader) {
+		try (InputStream settings = resource(classLoader, IBAN_COUNTRY_FORMATS_SETTINGS)) {
+			return (IBANCountryFormatsSettings) JAXBContext.newInstance(IBANCountryFormatsSettings.class)
+					.createUnmarshaller().unmarshal(settings);
+		} catch (JAXBException | IOException e) {
+			throw new IllegalStateException("Unable to read " + IBAN_COUNTRY_FORMATS_SETTINGS, e);
+		}
+	}
+
+	private static InputStream resource(ClassLoader classLoader, String name) {
+		InputStream stream = classLoader.getResourceAsStream(name);
+		if (Objects.isNull(stream))
+			throw new IllegalStateException(name + " is missing from the classpath");
+		return stream;
+	}
+
+	private static final class Holder {
+		private static final IBANCountryFormatsRegistry INSTANCE = load(
+				IBANCountryFormatsRegistry.class.getClassLoader());
+	}
+}
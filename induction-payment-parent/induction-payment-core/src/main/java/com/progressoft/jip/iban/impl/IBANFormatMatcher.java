@@ -0,0 +1,99 @@
+package com.progressoft.jip.iban.impl;
+
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A country format such as {@code AL2!n8!n16!c} compiled into one character
+ * class per position. Matching walks the input once and allocates nothing.
+ */
+public final class IBANFormatMatcher {
+
+	private static final Pattern FORMAT_REGEX = Pattern.compile("([0-9]{1,2})!([nac])");
+	private static final int NUMBER_GROUP = 1;
+	private static final int TYPE_GROUP = 2;
+
+	private static final char DIGIT = 'n';
+	private static final char LETTER = 'a';
+	private static final char ALPHANUMERIC = 'c';
+	private static final char LITERAL = 'l';
+
+	private final String format;
+	private final char[] classes;
+	private final char[] literals;
+
+	private IBANFormatMatcher(String format, char[] classes, char[] literals) {
+		this.format = format;
+		this.classes = classes;
+		this.literals = literals;
+	}
+
+	public static IBANFormatMatcher compile(String format) {
+		if (Objects.isNull(format))
+			throw new IllegalArgumentException("format is required");
+		StringBuilder classes = new StringBuilder();
+		StringBuilder literals = new StringBuilder();
+		Matcher matcher = FORMAT_REGEX.matcher(format);
+		int literalStart = 0;
+		while (matcher.find()) {
+			appendLiterals(format, literalStart, matcher.start(), classes, literals);
+			int count = Integer.parseInt(matcher.group(NUMBER_GROUP));
+			char type = matcher.group(TYPE_GROUP).charAt(0);
+			for (int i = 0; i < count; i++) {
+				classes.append(type);
+				literals.append('\0');
+			}
+			literalStart = matcher.end();
+		}
+		appendLiterals(format, literalStart, format.length(), classes, literals);
+		return new IBANFormatMatcher(format, classes.toString().toCharArray(), literals.toString().toCharArray());
+	}
+
+	private static void appendLiterals(String format, int from, int to, StringBuilder classes,
+			StringBuilder literals) {
+		for (int i = from; i < to; i++) {
+			classes.append(LITERAL);
+			literals.append(format.charAt(i));
+		}
+	}
+
+	public boolean matches(CharSequence iban) {
+		if (iban.length() != classes.length)
+			return false;
+		for (int i = 0; i < classes.length; i++) {
+			if (!matches(classes[i], literals[i], iban.charAt(i)))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean matches(char characterClass, char literal, char c) {
+		switch (characterClass) {
+		case DIGIT:
+			return isDigit(c);
+		case LETTER:
+			return isLetter(c);
+		case ALPHANUMERIC:
+			return isDigit(c) || isLetter(c);
+		default:
+			return c == literal;
+		}
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isLetter(char c) {
+		return c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z';
+	}
+
+	public int length() {
+		return classes.length;
+	}
+
+	public String getFormat() {
+		return format;
+	}
+}
@@ -1,8 +1,6 @@
 package com.progressoft.jip.iban.impl;
 
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import com.progressoft.jip.iban.IBANValidator;
 import com.progressoft.jip.iban.IBANVersion;
@@ -11,9 +9,8 @@ import com.progressoft.jip.iban.exception.NullIBANException;
 
 @IBANVersion("EBS204v3.2")
 public class IBANModValidator implements IBANValidator {
-	private static final int SEVEN_DIGITS = 7;
 	private static final int CHARS_TO_MOVE = 4;
-	private static final long TEN_POW_SEVEN_MOD_97 = 10_000_000 % 97;
+	private static final int MODULUS = 97;
 
 	@Override
 	public boolean isValid(String iban) {
@@ -21,49 +18,19 @@ public class IBANModValidator implements IBANValidator {
 			throw new NullIBANException();
 		if (iban.trim().isEmpty())
 			throw new EmptyIBANException();
-		String result = iban.substring(CHARS_TO_MOVE) + iban.substring(0, CHARS_TO_MOVE);
-		result = convertLettersToNumbers(result);
-		return mod97(result) == 1;
-	}
-
-	private long mod97(String number) {
-		int start = number.length();
-		int end = start;
-		long base = 1;
-		long result = 0;
-
-		while (start > 0) {
-			start -= SEVEN_DIGITS;
-			if (start < 0)
-				start = 0;
-			String digits = number.substring(start, end);
-			result = addDigitsMod97ToNumber(result, base, digits);
-			base = (base * TEN_POW_SEVEN_MOD_97) % 97;
-			end -= SEVEN_DIGITS;
+		int length = iban.length();
+		if (length <= CHARS_TO_MOVE)
+			return false;
+		int remainder = 0;
+		for (int i = 0; i < length; i++) {
+			char c = iban.charAt((i + CHARS_TO_MOVE) % length);
+			if (c >= '0' && c <= '9')
+				remainder = (remainder * 10 + c - '0') % MODULUS;
+			else if (c >= 'A' && c <= 'Z')
+				remainder = (remainder * 100 + c - 'A' + 10) % MODULUS;
+			else
+				return false;
 		}
-
-		return result;
-	}
-
-	private long addDigitsMod97ToNumber(long number, long base, String digits) {
-		long digitsMod = Long.parseLong(digits) % 97;
-		digitsMod = (digitsMod * base) % 97;
-		return (number + digitsMod) % 97;
-	}
-
-	private String convertLettersToNumbers(String ibanCode) {
-		return Stream.of(ibanCode.split("")).map(c -> isAlphabet(c) ? getNumberFromAlphabet(c) : c)
-				.collect(Collectors.joining());
-	}
-
-	private String getNumberFromAlphabet(String alpha) {
-		return Integer.toString((int) (alpha.charAt(0) - 'A' + 10));
-	}
-
-	private boolean isAlphabet(String character) {
-		char chr = character.charAt(0);
-		if (chr >= 'A' && chr <= 'Z')
-			return true;
-		return false;
+		return remainder == 1;
 	}
 }
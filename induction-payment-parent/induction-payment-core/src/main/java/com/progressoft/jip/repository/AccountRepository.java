@@ -1,6 +1,7 @@
 package com.progressoft.jip.repository;
 
 import java.util.Collection;
+import java.util.Map;
 
 import com.progressoft.jip.beans.Account;
 
@@ -10,6 +11,8 @@ public interface AccountRepository {
 
 	Collection<Account> loadAccounts();
 
+	Map<String, Account> loadAccountsByIbans(Collection<String> ibans);
+
 	void updateAccount(Account account);
 
 	void createAccount(Account account);
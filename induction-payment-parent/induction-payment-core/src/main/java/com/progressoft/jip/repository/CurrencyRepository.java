@@ -1,6 +1,7 @@
 package com.progressoft.jip.repository;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import com.progressoft.jip.beans.Currency;
 
@@ -10,4 +11,6 @@ public interface CurrencyRepository {
 
 	Currency loadCurrencyByCode(String currencyCode);
 
+	Optional<Currency> findCurrencyByCode(String currencyCode);
+
 }
\ No newline at end of file
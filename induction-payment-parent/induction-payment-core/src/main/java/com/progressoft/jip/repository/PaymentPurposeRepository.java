@@ -1,6 +1,7 @@
 package com.progressoft.jip.repository;
 
 import java.util.Collection;
+import java.util.Map;
 
 import com.progressoft.jip.beans.PaymentPurpose;
 
@@ -10,6 +11,8 @@ public interface PaymentPurposeRepository {
 
 	Collection<PaymentPurpose> loadPaymentPurposes();
 
+	Map<String, PaymentPurpose> loadPaymentPurposesByCodes(Collection<String> codes);
+
 	void updatePaymenPurposeName(PaymentPurpose paymentPurpose);
 
 	void insertPaymentPurpose(String code, String name);
@@ -2,8 +2,13 @@ package com.progressoft.jip.repository;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
 import com.progressoft.jip.repository.exceptions.RepositoryException;
 
@@ -11,14 +16,25 @@ public interface PaymentRequestRepository {
 
 	PaymentRequest loadPaymentRequestById(int id);
 
+	Optional<PaymentRequest> findPaymentRequestById(int id);
+
 	void insertPaymentRequest(PaymentRequest paymentRequest) throws ValidationException;
 
+	List<PaymentRequestInsertResult> insertPaymentRequests(Collection<PaymentRequest> paymentRequests);
+
 	Collection<PaymentRequest> loadPaymentRequests();
 
+	void forEachPaymentRequest(Consumer<? super PaymentRequest> visitor);
+
 	void deletePaymentRequestById(int id);
 
 	Collection<PaymentRequest> loadPaymentRequestsByOrderingAccountIban(String iban) throws RepositoryException;
 
+	Collection<PaymentRequest> findPaymentRequestsByOrderingAccountIban(String iban);
+
+	PaymentRequestPage loadPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize,
+			String continuationToken);
+
 	Collection<PaymentRequest> loadPaymentRequestsByPaymentDate(LocalDate now);
 
 	void updatePaymentRequest(PaymentRequest request);
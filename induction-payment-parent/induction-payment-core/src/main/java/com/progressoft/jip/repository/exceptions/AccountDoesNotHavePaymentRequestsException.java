@@ -4,4 +4,7 @@ public class AccountDoesNotHavePaymentRequestsException extends RepositoryExcept
 
 	private static final long serialVersionUID = 1L;
 
+	public AccountDoesNotHavePaymentRequestsException() {
+		super(null, null, false, false);
+	}
 }
@@ -3,6 +3,8 @@ package com.progressoft.jip.repository.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import com.progressoft.jip.beans.Account;
@@ -34,6 +36,13 @@ public class AccountRepositoryImpl implements AccountRepository {
 		return Collections.unmodifiableCollection(collection);
 	}
 
+	@Override
+	public Map<String, Account> loadAccountsByIbans(Collection<String> ibans) {
+		Map<String, Account> accounts = new HashMap<>();
+		accountGateway.loadAccountsByIbans(ibans).forEach((iban, a) -> accounts.put(iban, (Account) a));
+		return accounts;
+	}
+
 	@Override
 	public void updateAccount(Account account) {
 		accountGateway.updateAccount((AccountView) account);
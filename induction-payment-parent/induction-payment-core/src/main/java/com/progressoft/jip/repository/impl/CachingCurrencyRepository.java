@@ -0,0 +1,60 @@
+package com.progressoft.jip.repository.impl;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import com.progressoft.jip.beans.Currency;
+import com.progressoft.jip.repository.CurrencyRepository;
+import com.progressoft.jip.utilities.cache.ExpiringCache;
+
+public class CachingCurrencyRepository implements CurrencyRepository {
+
+	public static final int DEFAULT_MAX_SIZE = 256;
+	public static final long DEFAULT_TTL_MINUTES = 10;
+
+	private static final String ALL = "*";
+
+	private final CurrencyRepository currencyRepository;
+	private final ExpiringCache<String, Currency> currencies;
+	private final ExpiringCache<String, Collection<Currency>> allCurrencies;
+
+	public CachingCurrencyRepository(CurrencyRepository currencyRepository) {
+		this(currencyRepository, DEFAULT_MAX_SIZE, DEFAULT_TTL_MINUTES, TimeUnit.MINUTES);
+	}
+
+	public CachingCurrencyRepository(CurrencyRepository currencyRepository, int maxSize, long ttl, TimeUnit unit) {
+		this.currencyRepository = currencyRepository;
+		this.currencies = new ExpiringCache<>(maxSize, ttl, unit);
+		this.allCurrencies = new ExpiringCache<>(1, ttl, unit);
+	}
+
+	@Override
+	public Collection<Currency> loadCurrencies() {
+		return allCurrencies.get(ALL, k -> currencyRepository.loadCurrencies());
+	}
+
+	@Override
+	public Currency loadCurrencyByCode(String currencyCode) {
+		return currencies.get(currencyCode, currencyRepository::loadCurrencyByCode);
+	}
+
+	@Override
+	public Optional<Currency> findCurrencyByCode(String currencyCode) {
+		return Optional.ofNullable(
+				currencies.get(currencyCode, code -> currencyRepository.findCurrencyByCode(code).orElse(null)));
+	}
+
+	public void invalidate() {
+		currencies.invalidateAll();
+		allCurrencies.invalidateAll();
+	}
+
+	public long getHits() {
+		return currencies.getHits() + allCurrencies.getHits();
+	}
+
+	public long getMisses() {
+		return currencies.getMisses() + allCurrencies.getMisses();
+	}
+}
@@ -0,0 +1,91 @@
+package com.progressoft.jip.repository.impl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.progressoft.jip.beans.PaymentPurpose;
+import com.progressoft.jip.repository.PaymentPurposeRepository;
+import com.progressoft.jip.utilities.cache.ExpiringCache;
+
+public class CachingPaymentPurposeRepository implements PaymentPurposeRepository {
+
+	public static final int DEFAULT_MAX_SIZE = 256;
+	public static final long DEFAULT_TTL_MINUTES = 10;
+
+	private static final String ALL = "*";
+
+	private final PaymentPurposeRepository paymentPurposeRepository;
+	private final ExpiringCache<String, PaymentPurpose> purposes;
+	private final ExpiringCache<String, Collection<PaymentPurpose>> allPurposes;
+
+	public CachingPaymentPurposeRepository(PaymentPurposeRepository paymentPurposeRepository) {
+		this(paymentPurposeRepository, DEFAULT_MAX_SIZE, DEFAULT_TTL_MINUTES, TimeUnit.MINUTES);
+	}
+
+	public CachingPaymentPurposeRepository(PaymentPurposeRepository paymentPurposeRepository, int maxSize, long ttl,
+			TimeUnit unit) {
+		this.paymentPurposeRepository = paymentPurposeRepository;
+		this.purposes = new ExpiringCache<>(maxSize, ttl, unit);
+		this.allPurposes = new ExpiringCache<>(1, ttl, unit);
+	}
+
+	@Override
+	public PaymentPurpose loadPaymentPurposeByCode(String code) {
+		return purposes.get(code, paymentPurposeRepository::loadPaymentPurposeByCode);
+	}
+
+	@Override
+	public Collection<PaymentPurpose> loadPaymentPurposes() {
+		return allPurposes.get(ALL, k -> paymentPurposeRepository.loadPaymentPurposes());
+	}
+
+	@Override
+	public Map<String, PaymentPurpose> loadPaymentPurposesByCodes(Collection<String> codes) {
+		List<String> present = codes.stream().filter(Objects::nonNull).collect(Collectors.toList());
+		return purposes.getAll(present, paymentPurposeRepository::loadPaymentPurposesByCodes);
+	}
+
+	@Override
+	public void updatePaymenPurposeName(PaymentPurpose paymentPurpose) {
+		try {
+			paymentPurposeRepository.updatePaymenPurposeName(paymentPurpose);
+		} finally {
+			invalidate();
+		}
+	}
+
+	@Override
+	public void insertPaymentPurpose(String code, String name) {
+		try {
+			paymentPurposeRepository.insertPaymentPurpose(code, name);
+		} finally {
+			invalidate();
+		}
+	}
+
+	@Override
+	public void deletePaymentPurpose(String code) {
+		try {
+			paymentPurposeRepository.deletePaymentPurpose(code);
+		} finally {
+			invalidate();
+		}
+	}
+
+	public void invalidate() {
+		purposes.invalidateAll();
+		allPurposes.invalidateAll();
+	}
+
+	public long getHits() {
+		return purposes.getHits() + allPurposes.getHits();
+	}
+
+	public long getMisses() {
+		return purposes.getMisses() + allPurposes.getMisses();
+	}
+}
@@ -0,0 +1,188 @@
+package com.progressoft.jip.repository.impl;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateway.CurrencyExchangeRateGateway;
+import com.progressoft.jip.gateways.CurrencyGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+import com.progressoft.jip.gateways.exceptions.NullGatewayException;
+import com.progressoft.jip.gateways.views.CurrencyView;
+
+/**
+ * Holds the rates from one base currency to every currency known to the
+ * {@link CurrencyGateway}, fetched with a single batched
+ * {@link CurrencyExchangeRateGateway#loadCurrencyExchangeRatesFrom} call and
+ * published as an immutable map.
+ * <p>
+ * Once the snapshot is older than the refresh threshold it keeps being served
+ * while one reload runs on the refresh executor, and it is still served past
+ * its ttl for as long as that reload is running. Only a missing snapshot, or
+ * one past its ttl with no reload running, makes readers wait, and they all
+ * wait for the same load. The refresh executor belongs to the caller.
+ */
+public class CurrencyExchangeRateSnapshot {
+
+	public static final String DEFAULT_BASE_CURRENCY = "USD";
+	public static final long DEFAULT_TTL_SECONDS = 300;
+	public static final long DEFAULT_REFRESH_AFTER_SECONDS = 240;
+
+	private final CurrencyGateway currencyGateway;
+	private final CurrencyExchangeRateGateway rateGateway;
+	private final String baseCurrency;
+	private final long ttlNanos;
+	private final long refreshAfterNanos;
+	private final Executor refreshExecutor;
+	private final LongSupplier clock;
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong refreshes = new AtomicLong();
+	private final AtomicLong refreshFailures = new AtomicLong();
+	private volatile Snapshot snapshot;
+
+	public CurrencyExchangeRateSnapshot(CurrencyGateway currencyGateway, CurrencyExchangeRateGateway rateGateway,
+			Executor refreshExecutor) {
+		this(currencyGateway, rateGateway, refreshExecutor, DEFAULT_BASE_CURRENCY, DEFAULT_TTL_SECONDS,
+				DEFAULT_REFRESH_AFTER_SECONDS, TimeUnit.SECONDS, System::nanoTime);
+	}
+
+	public CurrencyExchangeRateSnapshot(CurrencyGateway currencyGateway, CurrencyExchangeRateGateway rateGateway,
+			Executor refreshExecutor, String baseCurrency, long ttl, long refreshAfter, TimeUnit unit,
+			LongSupplier clock) {
+		if (Objects.isNull(currencyGateway) || Objects.isNull(rateGateway))
+			throw new NullGatewayException();
+		if (Objects.isNull(baseCurrency) || baseCurrency.isEmpty())
+			throw new CurrencyCodeNotFoundException();
+		if (ttl <= 0)
+			throw new IllegalArgumentException("snapshot ttl must be positive: " + ttl);
+		if (refreshAfter <= 0 || refreshAfter > ttl)
+			throw new IllegalArgumentException("refresh threshold must be positive and within the ttl: " + refreshAfter);
+		if (Objects.isNull(refreshExecutor))
+			throw new IllegalArgumentException("refresh executor is required");
+		this.currencyGateway = currencyGateway;
+		this.rateGateway = rateGateway;
+		this.baseCurrency = baseCurrency;
+		this.ttlNanos = unit.toNanos(ttl);
+		this.refreshAfterNanos = unit.toNanos(refreshAfter);
+		this.refreshExecutor = refreshExecutor;
+		this.clock = clock;
+	}
+
+	public String getBaseCurrency() {
+		return baseCurrency;
+	}
+
+	public Map<String, BigDecimal> rates() {
+		Snapshot current = snapshot;
+		if (Objects.nonNull(current)) {
+			long age = clock.getAsLong() - current.loadedAt;
+			if (age < ttlNanos) {
+				hits.incrementAndGet();
+				if (age >= refreshAfterNanos)
+					refreshInBackground();
+				return current.rates;
+			}
+			if (refreshing.get()) {
+				hits.incrementAndGet();
+				return current.rates;
+			}
+		}
+		misses.incrementAndGet();
+		return reload();
+	}
+
+	private synchronized Map<String, BigDecimal> reload() {
+		Snapshot current = snapshot;
+		if (Objects.isNull(current) || clock.getAsLong() - current.loadedAt >= ttlNanos) {
+			current = load();
+			snapshot = current;
+		}
+		return current.rates;
+	}
+
+	private void refreshInBackground() {
+		if (!refreshing.compareAndSet(false, true))
+			return;
+		refreshes.incrementAndGet();
+		try {
+			refreshExecutor.execute(() -> {
+				try {
+					refresh();
+				} catch (RuntimeException e) {
+					refreshFailures.incrementAndGet();
+				} finally {
+					refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			refreshFailures.incrementAndGet();
+			refreshing.set(false);
+		}
+	}
+
+	private synchronized void refresh() {
+		snapshot = load();
+	}
+
+	public OptionalLong getAge(TimeUnit unit) {
+		Snapshot current = snapshot;
+		if (Objects.isNull(current))
+			return OptionalLong.empty();
+		return OptionalLong.of(unit.convert(clock.getAsLong() - current.loadedAt, TimeUnit.NANOSECONDS));
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	public double getHitRatio() {
+		long requests = hits.get() + misses.get();
+		return requests == 0 ? 0 : (double) hits.get() / requests;
+	}
+
+	public long getRefreshes() {
+		return refreshes.get();
+	}
+
+	public long getRefreshFailures() {
+		return refreshFailures.get();
+	}
+
+	private Snapshot load() {
+		long loadedAt = clock.getAsLong();
+		List<String> codes = currencyGateway.loadCurrencies().stream().map(CurrencyView::getCode)
+				.filter(code -> !baseCurrency.equals(code)).distinct().collect(Collectors.toList());
+		Map<String, BigDecimal> rates = new HashMap<>();
+		for (CurrencyExchangeRate rate : rateGateway.loadCurrencyExchangeRatesFrom(baseCurrency, codes))
+			rates.put(rate.getCodeTo(), new BigDecimal(String.valueOf(rate.getRate())));
+		return new Snapshot(Collections.unmodifiableMap(rates), loadedAt);
+	}
+
+	private static final class Snapshot {
+		private final Map<String, BigDecimal> rates;
+		private final long loadedAt;
+
+		private Snapshot(Map<String, BigDecimal> rates, long loadedAt) {
+			this.rates = rates;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
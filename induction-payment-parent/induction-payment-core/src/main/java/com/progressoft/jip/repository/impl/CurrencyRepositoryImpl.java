@@ -3,6 +3,7 @@ package com.progressoft.jip.repository.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 import com.progressoft.jip.beans.Currency;
 import com.progressoft.jip.gateways.CurrencyGateway;
@@ -27,4 +28,9 @@ public class CurrencyRepositoryImpl implements CurrencyRepository {
 	public Currency loadCurrencyByCode(String currencyCode) {
 		return (Currency) currencyGateway.loadCurrencyByCode(currencyCode);
 	}
+
+	@Override
+	public Optional<Currency> findCurrencyByCode(String currencyCode) {
+		return currencyGateway.findCurrencyByCode(currencyCode).map(c -> (Currency) c);
+	}
 }
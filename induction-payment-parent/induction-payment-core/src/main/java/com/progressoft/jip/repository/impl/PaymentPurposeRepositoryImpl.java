@@ -3,6 +3,8 @@ package com.progressoft.jip.repository.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import com.progressoft.jip.beans.PaymentPurpose;
@@ -33,6 +35,14 @@ public class PaymentPurposeRepositoryImpl implements PaymentPurposeRepository {
 		return Collections.unmodifiableCollection(collection);
 	}
 
+	@Override
+	public Map<String, PaymentPurpose> loadPaymentPurposesByCodes(Collection<String> codes) {
+		Map<String, PaymentPurpose> purposes = new HashMap<>();
+		paymentPurposeGateway.loadPaymentPurposesByCodes(codes)
+				.forEach((code, p) -> purposes.put(code, (PaymentPurpose) p));
+		return purposes;
+	}
+
 	@Override
 	public void updatePaymenPurposeName(PaymentPurpose paymentPurpose) {
 		paymentPurposeGateway.updatePaymentPurposeName(paymentPurpose);
@@ -4,8 +4,13 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.gateways.PaymentRequestGateway;
 import com.progressoft.jip.handlers.exceptions.AccountRuleViolationException;
 import com.progressoft.jip.repository.PaymentRequestRepository;
@@ -24,11 +29,24 @@ public class PaymentRequestRepositoryImpl implements PaymentRequestRepository {
 		return (PaymentRequest) gateway.loadPaymentRequestById(id);
 	}
 
+	@Override
+	public Optional<PaymentRequest> findPaymentRequestById(int id) {
+		return gateway.findPaymentRequestById(id).map(p -> (PaymentRequest) p);
+	}
+
 	@Override
 	public void insertPaymentRequest(PaymentRequest paymentRequest) throws AccountRuleViolationException {
 		gateway.insertPaymentRequest(paymentRequest);
 	}
 
+	@Override
+	public List<PaymentRequestInsertResult> insertPaymentRequests(Collection<PaymentRequest> paymentRequests) {
+		List<PaymentRequestInsertResult> results = gateway.insertPaymentRequests(new ArrayList<>(paymentRequests));
+		results.stream().filter(PaymentRequestInsertResult::isInserted)
+				.forEach(r -> ((PaymentRequest) r.getPaymentRequest()).setId(r.getGeneratedId()));
+		return results;
+	}
+
 	@Override
 	public Collection<PaymentRequest> loadPaymentRequests() {
 		ArrayList<PaymentRequest> collection = new ArrayList<>();
@@ -36,6 +54,11 @@ public class PaymentRequestRepositoryImpl implements PaymentRequestRepository {
 		return Collections.unmodifiableCollection(collection);
 	}
 
+	@Override
+	public void forEachPaymentRequest(Consumer<? super PaymentRequest> visitor) {
+		gateway.forEachPaymentRequest(p -> visitor.accept((PaymentRequest) p));
+	}
+
 	@Override
 	public void deletePaymentRequestById(int id) {
 		gateway.deletePaymentRequestById(id);
@@ -50,6 +73,20 @@ public class PaymentRequestRepositoryImpl implements PaymentRequestRepository {
 		return Collections.unmodifiableCollection(collection);
 	}
 
+	@Override
+	public Collection<PaymentRequest> findPaymentRequestsByOrderingAccountIban(String iban) {
+		ArrayList<PaymentRequest> collection = new ArrayList<>();
+		gateway.findPaymentRequestsByOrderingAccountIban(iban).stream()
+				.forEach(p -> collection.add((PaymentRequest) p));
+		return Collections.unmodifiableCollection(collection);
+	}
+
+	@Override
+	public PaymentRequestPage loadPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize,
+			String continuationToken) {
+		return gateway.loadPaymentRequestsPageByOrderingAccountIban(iban, pageSize, continuationToken);
+	}
+
 	@Override
 	public Collection<PaymentRequest> loadPaymentRequestsByPaymentDate(LocalDate executionDate) {
 		ArrayList<PaymentRequest> collection = new ArrayList<>();
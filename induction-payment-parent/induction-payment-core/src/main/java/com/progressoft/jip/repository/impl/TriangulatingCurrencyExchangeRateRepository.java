@@ -0,0 +1,69 @@
+package com.progressoft.jip.repository.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.Objects;
+
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+import com.progressoft.jip.gateways.exceptions.NullGatewayException;
+import com.progressoft.jip.handlers.impl.CurrencyExchangeRateHandler;
+import com.progressoft.jip.repository.CurrencyExchangeRateRepository;
+
+/**
+ * Reads only the rates from one base currency out of a
+ * {@link CurrencyExchangeRateSnapshot} and derives every other pair as
+ * {@code base->to / base->from}, so a conversion is an in-memory lookup and
+ * the snapshot grows linearly with the number of currencies. Derived rates are
+ * rounded to {@code scale} decimal places with {@code roundingMode}; rates
+ * from the base currency are used as fetched.
+ */
+public class TriangulatingCurrencyExchangeRateRepository implements CurrencyExchangeRateRepository {
+
+	public static final int DEFAULT_SCALE = 6;
+	public static final RoundingMode DEFAULT_ROUNDING_MODE = RoundingMode.HALF_EVEN;
+
+	private final CurrencyExchangeRateSnapshot baseRates;
+	private final int scale;
+	private final RoundingMode roundingMode;
+
+	public TriangulatingCurrencyExchangeRateRepository(CurrencyExchangeRateSnapshot baseRates) {
+		this(baseRates, DEFAULT_SCALE, DEFAULT_ROUNDING_MODE);
+	}
+
+	public TriangulatingCurrencyExchangeRateRepository(CurrencyExchangeRateSnapshot baseRates, int scale,
+			RoundingMode roundingMode) {
+		if (Objects.isNull(baseRates))
+			throw new NullGatewayException();
+		this.baseRates = baseRates;
+		this.scale = scale;
+		this.roundingMode = roundingMode;
+	}
+
+	@Override
+	public CurrencyExchangeRateHandler loadCurrencyExchangeRate(String codeFrom, String codeTo) {
+		return new CurrencyExchangeRateHandler(rate(codeFrom, codeTo));
+	}
+
+	public BigDecimal rate(String codeFrom, String codeTo) {
+		if (Objects.isNull(codeFrom) || Objects.isNull(codeTo))
+			throw new CurrencyCodeNotFoundException();
+		if (codeFrom.equals(codeTo))
+			return BigDecimal.ONE;
+		Map<String, BigDecimal> rates = baseRates.rates();
+		BigDecimal toRate = baseRate(rates, codeTo);
+		if (codeFrom.equals(baseRates.getBaseCurrency()))
+			return toRate;
+		return toRate.divide(baseRate(rates, codeFrom), scale, roundingMode);
+	}
+
+	private BigDecimal baseRate(Map<String, BigDecimal> rates, String code) {
+		if (code.equals(baseRates.getBaseCurrency()))
+			return BigDecimal.ONE;
+		BigDecimal rate = rates.get(code);
+		if (Objects.isNull(rate) || rate.signum() == 0)
+			throw new CurrencyCodeNotFoundException();
+		return rate;
+	}
+
+}
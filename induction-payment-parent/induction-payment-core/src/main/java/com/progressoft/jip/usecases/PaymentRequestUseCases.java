@@ -3,8 +3,11 @@ package com.progressoft.jip.usecases;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
 
 import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.gateways.views.PaymentRequestView;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
 import com.progressoft.jip.repository.exceptions.RepositoryException;
@@ -17,8 +20,13 @@ public interface PaymentRequestUseCases {
 	void createPaymentRequest(PaymentRequest paymentRequest, AbstractAmountWriter amountWriter, String writerKey)
 			throws ValidationException;
 
+	List<PaymentRequestInsertResult> createPaymentRequests(Collection<PaymentRequest> paymentRequests,
+			AbstractAmountWriter amountWriter, String writerKey);
+
 	Collection<PaymentRequestView> getPaymentRequestsByOrderingAccountIban(String iban) throws RepositoryException;
 
+	PaymentRequestPage getPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize, String continuationToken);
+
 	void editPaymentRequestDate(LocalDate paymentDate, int paymentId) throws ValidationException;
 
 	void editPaymentRequestAmount(BigDecimal amount, int paymentId) throws ValidationException;
@@ -7,14 +7,19 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
 import com.progressoft.jip.beans.Account;
 import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.gateways.views.PaymentRequestView;
 import com.progressoft.jip.handlers.PaymentRequestHandler;
 import com.progressoft.jip.handlers.exceptions.ValidationException;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationContext;
+import com.progressoft.jip.handlers.validators.PaymentRequestValidationResult;
 import com.progressoft.jip.report.ReportProvider;
 import com.progressoft.jip.report.impl.CSVReportWriter;
 import com.progressoft.jip.report.impl.XMLReportWriter;
@@ -44,12 +49,42 @@ public class PaymentRequestUseCasesImpl implements PaymentRequestUseCases {
 	public void createPaymentRequest(PaymentRequest paymentRequest, AbstractAmountWriter amountWriter, String writerKey)
 			throws ValidationException {
 		Account orderingAccount = accountRepository.loadAccountByIban(paymentRequest.getOrderingAccountIban());
-		paymentRequestHandler.validatePaymentRequest(paymentRequest, orderingAccount);
+		paymentRequestHandler.validatePaymentRequest(new PaymentRequestValidationContext(paymentRequest, orderingAccount));
 		paymentRequestHandler.fillAmountInWords(paymentRequest, amountWriter, writerKey);
 		paymentRequestHandler.setPaymentRequestStatus(paymentRequest);
 		paymentRequestRepository.insertPaymentRequest(paymentRequest);
 	}
 
+	@Override
+	public List<PaymentRequestInsertResult> createPaymentRequests(Collection<PaymentRequest> paymentRequests,
+			AbstractAmountWriter amountWriter, String writerKey) {
+		List<PaymentRequestValidationResult> validations = paymentRequestHandler
+				.validatePaymentRequests(paymentRequests);
+		PaymentRequestInsertResult[] results = new PaymentRequestInsertResult[validations.size()];
+		List<PaymentRequest> valid = new ArrayList<>();
+		List<Integer> positions = new ArrayList<>();
+		for (int i = 0; i < validations.size(); i++) {
+			PaymentRequestValidationResult validation = validations.get(i);
+			PaymentRequest paymentRequest = validation.getPaymentRequest();
+			if (!validation.isValid()) {
+				results[i] = PaymentRequestInsertResult.failed(paymentRequest, validation.getFailure());
+				continue;
+			}
+			try {
+				paymentRequestHandler.fillAmountInWords(paymentRequest, amountWriter, writerKey);
+				paymentRequestHandler.setPaymentRequestStatus(paymentRequest);
+				valid.add(paymentRequest);
+				positions.add(i);
+			} catch (RuntimeException e) {
+				results[i] = PaymentRequestInsertResult.failed(paymentRequest, e);
+			}
+		}
+		List<PaymentRequestInsertResult> inserted = paymentRequestRepository.insertPaymentRequests(valid);
+		for (int v = 0; v < positions.size(); v++)
+			results[positions.get(v)] = inserted.get(v);
+		return Arrays.asList(results);
+	}
+
 	@Override
 	public Collection<PaymentRequestView> getPaymentRequestsByOrderingAccountIban(String iban)
 			throws RepositoryException {
@@ -61,12 +96,19 @@ public class PaymentRequestUseCasesImpl implements PaymentRequestUseCases {
 
 	}
 
+	@Override
+	public PaymentRequestPage getPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize,
+			String continuationToken) {
+		return paymentRequestRepository.loadPaymentRequestsPageByOrderingAccountIban(iban, pageSize,
+				continuationToken);
+	}
+
 	@Override
 	public void editPaymentRequestDate(LocalDate paymentDate, int paymentId) throws ValidationException {
 		PaymentRequest paymentRequest = paymentRequestRepository.loadPaymentRequestById(paymentId);
 		paymentRequest.setPaymentDate(Date.valueOf(paymentDate));
 		Account account = accountRepository.loadAccountByIban(paymentRequest.getOrderingAccountIban());
-		paymentRequestHandler.validatePaymentRequest(paymentRequest, account);
+		paymentRequestHandler.validatePaymentRequest(new PaymentRequestValidationContext(paymentRequest, account));
 		paymentRequestRepository.updatePaymentRequest(paymentRequest);
 	}
 
@@ -75,7 +117,7 @@ public class PaymentRequestUseCasesImpl implements PaymentRequestUseCases {
 		PaymentRequest paymentRequest = paymentRequestRepository.loadPaymentRequestById(paymentId);
 		paymentRequest.setPaymentAmount(amount);
 		Account account = accountRepository.loadAccountByIban(paymentRequest.getOrderingAccountIban());
-		paymentRequestHandler.validatePaymentRequest(paymentRequest, account);
+		paymentRequestHandler.validatePaymentRequest(new PaymentRequestValidationContext(paymentRequest, account));
 		paymentRequestRepository.updatePaymentRequest(paymentRequest);
 	}
 
@@ -84,7 +126,7 @@ public class PaymentRequestUseCasesImpl implements PaymentRequestUseCases {
 		PaymentRequest paymentRequest = paymentRequestRepository.loadPaymentRequestById(paymentId);
 		paymentRequest.setPurposeCode(paymentPurpose);
 		Account account = accountRepository.loadAccountByIban(paymentRequest.getOrderingAccountIban());
-		paymentRequestHandler.validatePaymentRequest(paymentRequest, account);
+		paymentRequestHandler.validatePaymentRequest(new PaymentRequestValidationContext(paymentRequest, account));
 		paymentRequestRepository.updatePaymentRequest(paymentRequest);
 	}
 
@@ -11,6 +11,8 @@ import com.progressoft.jip.iban.exception.InvalidIBANException;
 
 public class AccountValidator implements Validator<Account, ValidationException> {
 
+	private static final BigDecimal MINIMUM_BALANCE = BigDecimal.valueOf(100);
+
 	private Validator<String, InvalidIBANException> ibanValidator;
 
 	@Override
@@ -24,7 +26,7 @@ public class AccountValidator implements Validator<Account, ValidationException>
 	}
 
 	private void validateBalance(BigDecimal balance) {
-		if (balance.doubleValue() < 100) {
+		if (balance.compareTo(MINIMUM_BALANCE) < 0) {
 			throw new InvalidBalanceException();
 		}
 	}
@@ -62,7 +62,7 @@ public class PaymentRequestValidator implements Validator<PaymentRequest, Valida
 	}
 
 	private void isValidAmount(BigDecimal amount) {
-		if (amount.doubleValue() < 0) {
+		if (amount.signum() < 0) {
 			throw new InvalidAmountException();
 		}
 	}
@@ -0,0 +1,100 @@
+package com.progressoft.jip.utilities.cache;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Size-bounded cache for values that never go stale, so there is no ttl and
+ * no clock read. A hit is a {@link ConcurrentHashMap} read and a flag write,
+ * without any lock. Concurrent misses for one key share a single load, run
+ * inside {@link ConcurrentHashMap#computeIfAbsent}, so the loader must be
+ * short and must not use the cache itself. When a miss overflows the cache,
+ * eviction gives every entry read since the last pass a second chance, which
+ * approximates least-recently-used order; only misses take the eviction
+ * lock. {@code null} values are never cached.
+ */
+public class BoundedCache<K, V> {
+
+	private final int maxSize;
+	private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+	private final Queue<K> evictionOrder = new ArrayDeque<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public BoundedCache(int maxSize) {
+		if (maxSize <= 0)
+			throw new IllegalArgumentException("cache size must be positive: " + maxSize);
+		this.maxSize = maxSize;
+	}
+
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		Entry<V> entry = entries.get(key);
+		if (Objects.nonNull(entry)) {
+			entry.referenced = true;
+			hits.increment();
+			return entry.value;
+		}
+		misses.increment();
+		Entry<V> loaded = new Entry<>();
+		entry = entries.computeIfAbsent(key, k -> {
+			V value = loader.apply(k);
+			if (Objects.isNull(value))
+				return null;
+			loaded.value = value;
+			return loaded;
+		});
+		if (Objects.isNull(entry))
+			return null;
+		if (entry == loaded)
+			admit(key);
+		return entry.value;
+	}
+
+	private void admit(K key) {
+		synchronized (evictionOrder) {
+			evictionOrder.add(key);
+			while (entries.size() > maxSize) {
+				K candidate = evictionOrder.poll();
+				if (Objects.isNull(candidate))
+					return;
+				Entry<V> entry = entries.get(candidate);
+				if (Objects.isNull(entry))
+					continue;
+				if (entry.referenced) {
+					entry.referenced = false;
+					evictionOrder.add(candidate);
+				} else
+					entries.remove(candidate, entry);
+			}
+		}
+	}
+
+	public void invalidateAll() {
+		synchronized (evictionOrder) {
+			entries.clear();
+			evictionOrder.clear();
+		}
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public long getHits() {
+		return hits.sum();
+	}
+
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	private static final class Entry<V> {
+		private V value;
+		private volatile boolean referenced;
+	}
+}
@@ -0,0 +1,149 @@
+package com.progressoft.jip.utilities.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded least-recently-used cache whose entries expire a fixed time after
+ * they were loaded. Loading happens outside the lock, so a slow loader never
+ * blocks readers of other keys; a value loaded while an invalidation was in
+ * flight is returned but not cached. {@code null} values are never cached.
+ * {@link #getAll} hands every missing key to one bulk loader call.
+ */
+public class ExpiringCache<K, V> {
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final LongSupplier clock;
+	private final Map<K, Entry<V>> entries;
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private long generation;
+
+	public ExpiringCache(int maxSize, long ttl, TimeUnit unit) {
+		this(maxSize, ttl, unit, System::nanoTime);
+	}
+
+	public ExpiringCache(int maxSize, long ttl, TimeUnit unit, LongSupplier clock) {
+		if (maxSize <= 0)
+			throw new IllegalArgumentException("cache size must be positive: " + maxSize);
+		if (ttl <= 0)
+			throw new IllegalArgumentException("cache ttl must be positive: " + ttl);
+		this.maxSize = maxSize;
+		this.ttlNanos = unit.toNanos(ttl);
+		this.clock = clock;
+		this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > ExpiringCache.this.maxSize;
+			}
+		};
+	}
+
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		long now = clock.getAsLong();
+		long loadGeneration;
+		synchronized (entries) {
+			Entry<V> entry = entries.get(key);
+			if (Objects.nonNull(entry) && now - entry.loadedAt < ttlNanos) {
+				hits.incrementAndGet();
+				return entry.value;
+			}
+			loadGeneration = generation;
+		}
+		misses.incrementAndGet();
+		V value = loader.apply(key);
+		if (Objects.nonNull(value)) {
+			synchronized (entries) {
+				if (loadGeneration == generation)
+					entries.put(key, new Entry<>(value, now));
+			}
+		}
+		return value;
+	}
+
+	public Map<K, V> getAll(Collection<? extends K> keys,
+			Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> loader) {
+		long now = clock.getAsLong();
+		Map<K, V> found = new HashMap<>();
+		Set<K> missing = new LinkedHashSet<>();
+		long loadGeneration;
+		synchronized (entries) {
+			for (K key : keys) {
+				if (found.containsKey(key) || missing.contains(key))
+					continue;
+				Entry<V> entry = entries.get(key);
+				if (Objects.nonNull(entry) && now - entry.loadedAt < ttlNanos) {
+					hits.incrementAndGet();
+					found.put(key, entry.value);
+				} else
+					missing.add(key);
+			}
+			loadGeneration = generation;
+		}
+		if (missing.isEmpty())
+			return found;
+		misses.addAndGet(missing.size());
+		Map<? extends K, ? extends V> loaded = loader.apply(missing);
+		synchronized (entries) {
+			for (K key : missing) {
+				V value = loaded.get(key);
+				if (Objects.isNull(value))
+					continue;
+				found.put(key, value);
+				if (loadGeneration == generation)
+					entries.put(key, new Entry<>(value, now));
+			}
+		}
+		return found;
+	}
+
+	public void invalidate(K key) {
+		synchronized (entries) {
+			generation++;
+			entries.remove(key);
+		}
+	}
+
+	public void invalidateAll() {
+		synchronized (entries) {
+			generation++;
+			entries.clear();
+		}
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	public long getHits() {
+		return hits.get();
+	}
+
+	public long getMisses() {
+		return misses.get();
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private final long loadedAt;
+
+		private Entry(V value, long loadedAt) {
+			this.value = value;
+			this.loadedAt = loadedAt;
+		}
+	}
+}
@@ -2,26 +2,45 @@ package com.progressoft.jip.utilities.chequewriting.impl;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.progressoft.jip.utilities.chequewriting.ChequeAmountWriter;
 
 public class AbstractAmountWriter {
 
-	private Map<String, ChequeAmountWriter> amountWriters = new HashMap<>();
+	private Map<String, ChequeAmountWriter> amountWriters = new ConcurrentHashMap<>();
 
 	public void addWriter(String key, ChequeAmountWriter chequeAmountWriter) {
-		amountWriters.put(key, chequeAmountWriter);
+		addWriter(key, chequeAmountWriter, CachingChequeAmountWriter.DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Registers a writer behind a cache of {@code cacheSize} amounts; a size
+	 * of zero registers it uncached.
+	 */
+	public void addWriter(String key, ChequeAmountWriter chequeAmountWriter, int cacheSize) {
+		if (cacheSize < 0)
+			throw new IllegalArgumentException("cache size must not be negative: " + cacheSize);
+		amountWriters.put(key,
+				cacheSize == 0 ? chequeAmountWriter : new CachingChequeAmountWriter(chequeAmountWriter, cacheSize));
 	}
 
 	public String writeAmount(String key, String currencyCode, BigDecimal amount) {
 		return amountWriters.get(key).writeAmountInWords(amount, currencyCode);
 	}
 
+	public Optional<CachingChequeAmountWriter> getCache(String key) {
+		ChequeAmountWriter writer = amountWriters.get(key);
+		if (writer instanceof CachingChequeAmountWriter)
+			return Optional.of((CachingChequeAmountWriter) writer);
+		return Optional.empty();
+	}
+
 	public List<String> getWritersNames() {
 		List<String> writerNames = new ArrayList<>();
 
@@ -0,0 +1,80 @@
+package com.progressoft.jip.utilities.chequewriting.impl;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+import com.progressoft.jip.utilities.cache.BoundedCache;
+import com.progressoft.jip.utilities.chequewriting.ChequeAmountWriter;
+
+/**
+ * Remembers the words of the most recently written amounts. The key keeps
+ * the amount's scale because the writers read the fraction as written, so
+ * {@code 1.5} and {@code 1.50} are different entries. The words for an
+ * amount never change, so entries only leave by eviction.
+ */
+public class CachingChequeAmountWriter implements ChequeAmountWriter {
+
+	public static final int DEFAULT_MAX_SIZE = 10_000;
+
+	private final ChequeAmountWriter writer;
+	private final BoundedCache<Key, String> words;
+
+	public CachingChequeAmountWriter(ChequeAmountWriter writer) {
+		this(writer, DEFAULT_MAX_SIZE);
+	}
+
+	public CachingChequeAmountWriter(ChequeAmountWriter writer, int maxSize) {
+		this.writer = writer;
+		this.words = new BoundedCache<>(maxSize);
+	}
+
+	@Override
+	public String writeAmountInWords(BigDecimal amount, String currencyCode) {
+		return words.get(new Key(amount, currencyCode), k -> writer.writeAmountInWords(k.amount, k.currencyCode));
+	}
+
+	public long getHits() {
+		return words.getHits();
+	}
+
+	public long getMisses() {
+		return words.getMisses();
+	}
+
+	public double getHitRatio() {
+		long hits = words.getHits();
+		long requests = hits + words.getMisses();
+		return requests == 0 ? 0 : (double) hits / requests;
+	}
+
+	public int size() {
+		return words.size();
+	}
+
+	public void invalidate() {
+		words.invalidateAll();
+	}
+
+	private static final class Key {
+		private final BigDecimal amount;
+		private final String currencyCode;
+
+		private Key(BigDecimal amount, String currencyCode) {
+			this.amount = amount;
+			this.currencyCode = currencyCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return amount.equals(other.amount) && Objects.equals(currencyCode, other.currencyCode);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * amount.hashCode() + Objects.hashCode(currencyCode);
+		}
+	}
+}
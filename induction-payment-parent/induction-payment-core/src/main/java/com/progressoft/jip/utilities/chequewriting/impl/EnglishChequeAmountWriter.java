@@ -2,24 +2,27 @@ package com.progressoft.jip.utilities.chequewriting.impl;
 
 import java.io.IOException;
 import java.math.BigDecimal;
-import java.util.ArrayDeque;
 import java.util.Currency;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Properties;
 
 import com.progressoft.jip.utilities.chequewriting.ChequeAmountWriter;
 
+/**
+ * Writes amounts in English words. The words for every group from 0 to 999
+ * are built once from the dictionary, and no state is kept between calls,
+ * so a single instance can be shared across threads.
+ */
 public class EnglishChequeAmountWriter implements ChequeAmountWriter {
-	private Deque<String> deque;
-	private Map<Integer, String> postFixes = new HashMap<>();
-	private Map<Integer, String> currencyMap = new HashMap<>();
-	private Properties properties;
-	private Properties coinDictionary;
+
+	private static final int GROUP = 1000;
+	private static final String[] POSTFIXES = { "", " Thousand ", " Million ", " Billion ", " Trillion ",
+			" Quadrillion ", " Quintillion " };
+
+	private final String[] groupWords = new String[GROUP];
+	private final Properties coinDictionary;
 
 	public EnglishChequeAmountWriter() {
-		properties = new Properties();
+		Properties properties = new Properties();
 		coinDictionary = new Properties();
 		try {
 			properties.load(EnglishChequeAmountWriter.class.getClassLoader().getResourceAsStream(
@@ -29,76 +32,63 @@ public class EnglishChequeAmountWriter implements ChequeAmountWriter {
 		} catch (IOException e) {
 			throw new IllegalStateException(e);
 		}
-		postFixes.put(0, "");
-		postFixes.put(1, " Thousand ");
-		postFixes.put(2, " Million ");
-		postFixes.put(3, " Billion ");
-		postFixes.put(4, " Trillion ");
+		for (int number = 0; number < GROUP; number++)
+			groupWords[number] = calc(properties, number);
 	}
 
 	@Override
 	public String writeAmountInWords(BigDecimal amount, String currencyCode) {
-		Currency currencyInstance = Currency.getInstance(currencyCode);
-		currencyMap.put(0, " " + currencyInstance.getDisplayName());
-		currencyMap.put(1, " " + coinDictionary.getProperty(currencyCode));
-		String[] numberIntegerAndDecimalParts = String.valueOf(amount).split("\\.");
+		String plain = amount.toPlainString();
+		int point = plain.indexOf('.');
 		StringBuilder finalNumber = new StringBuilder();
-		for (int i = 0; i < numberIntegerAndDecimalParts.length; ++i) {
-			Integer integer = Integer.parseInt(numberIntegerAndDecimalParts[i]);
-			finalNumber.append(format(integer));
-			if (!integer.equals(0)) {
-				finalNumber.append(currencyMap.get(i) + " ");
-			}
-		}
+		appendPart(finalNumber, point < 0 ? plain : plain.substring(0, point),
+				Currency.getInstance(currencyCode).getDisplayName());
+		// the fraction is read as written, so "3564.51" has Fifty One Cents
+		if (point >= 0)
+			appendPart(finalNumber, plain.substring(point + 1), coinDictionary.getProperty(currencyCode));
 		return finalNumber.toString();
 	}
 
-	private String format(int number) {
-		fillDeque(number);
-		StringBuilder res = new StringBuilder();
-		return processNumber(res);
+	public String getPostfix(int i) {
+		if (i < 1)
+			return "";
+		return POSTFIXES[i];
 	}
 
-	private void fillDeque(int number) {
-		deque = new ArrayDeque<>();
-		int splitted = number;
-		while (splitted > 0) {
-			deque.push(String.valueOf(splitted % 1000));
-			splitted /= 1000;
-		}
+	private void appendPart(StringBuilder finalNumber, String digits, String unit) {
+		long number = Long.parseLong(digits);
+		format(finalNumber, number);
+		if (number != 0)
+			finalNumber.append(' ').append(unit).append(' ');
 	}
 
-	private String processNumber(StringBuilder res) {
-		while (!deque.isEmpty()) {
-			int numAsInteger = Integer.parseInt(deque.pop());
-			res.append(calc(numAsInteger));
-			if (numAsInteger != 0)
-				res.append(getPostfix(deque.size()));
+	private void format(StringBuilder res, long number) {
+		int[] groups = new int[POSTFIXES.length];
+		int count = 0;
+		for (long splitted = number; splitted > 0; splitted /= GROUP)
+			groups[count++] = (int) (splitted % GROUP);
+		while (count > 0) {
+			int group = groups[--count];
+			res.append(groupWords[group]);
+			if (group != 0)
+				res.append(getPostfix(count));
 		}
-		return res.toString();
-	}
-
-	public String getPostfix(int i) {
-		if (i < 1)
-			return "";
-		return postFixes.get(i);
 	}
 
-	private String calc(int number) {
+	private static String calc(Properties properties, int number) {
 		if (number == 0)
 			return "";
-		int len = (int) (Math.log10(number) + 1);
-		if (len == 1)
+		if (number < 10)
 			return properties.getProperty(String.valueOf(number));
-		if (len == 2) {
+		if (number < 100) {
 			if (properties.getProperty(String.valueOf(number)) != null)
 				return properties.getProperty(String.valueOf(number));
-			return properties.getProperty(String.valueOf(number / 10 * 10)) + " " + calc(number % 10);
+			return properties.getProperty(String.valueOf(number / 10 * 10)) + " " + calc(properties, number % 10);
 		}
 		String ret = properties.getProperty(String.valueOf(number / 100)) + " Hundred";
 		if (number % 100 == 0)
 			return ret;
-		return ret + " " + calc(number % 100);
+		return ret + " " + calc(properties, number % 100);
 	}
 
-}
\ No newline at end of file
+}
@@ -1,6 +1,25 @@
 package com.progressoft.jip.utilities.restful;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
 @FunctionalInterface
 public interface RestfulDataParser<G> {
 	G parse(String data);
+
+	default G parse(Reader reader) throws IOException {
+		StringBuilder data = new StringBuilder();
+		char[] buffer = new char[4096];
+		int read;
+		while ((read = reader.read(buffer)) >= 0)
+			data.append(buffer, 0, read);
+		return parse(data.toString());
+	}
+
+	default G parse(InputStream in, Charset charset) throws IOException {
+		return parse(new InputStreamReader(in, charset));
+	}
 }
@@ -1,5 +1,7 @@
 package com.progressoft.jip.utilities.restful.impl;
 
+import java.util.Objects;
+
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 import com.thoughtworks.xstream.annotations.XStreamAsAttribute;
 
@@ -27,4 +29,25 @@ public class Rate {
 	@XStreamAlias("Bid")
 	public String bid;
 
+	public Rate() {
+	}
+
+	public Rate(String id, String name, String rate, String date, String time) {
+		this.id = id;
+		this.name = name;
+		this.rate = rate;
+		this.date = date;
+		this.time = time;
+	}
+
+	public double value() {
+		if (Objects.isNull(rate))
+			return Double.NaN;
+		try {
+			return Double.parseDouble(rate);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
 }
\ No newline at end of file
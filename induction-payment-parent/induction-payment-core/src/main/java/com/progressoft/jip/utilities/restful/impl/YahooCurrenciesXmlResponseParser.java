@@ -1,5 +1,7 @@
 package com.progressoft.jip.utilities.restful.impl;
 
+import java.io.Reader;
+
 import com.progressoft.jip.utilities.restful.RestfulDataParser;
 import com.thoughtworks.xstream.XStream;
 
@@ -7,11 +9,19 @@ public class YahooCurrenciesXmlResponseParser implements RestfulDataParser<Yahoo
 
 	private XStream xstream = new XStream();
 
-	@Override
-	public YahooXmlResponse parse(String data) {
+	public YahooCurrenciesXmlResponseParser() {
 		xstream.autodetectAnnotations(true);
 		xstream.processAnnotations(YahooXmlResponse.class);
+	}
+
+	@Override
+	public YahooXmlResponse parse(String data) {
 		return (YahooXmlResponse) xstream.fromXML(data);
 	}
 
+	@Override
+	public YahooXmlResponse parse(Reader reader) {
+		return (YahooXmlResponse) xstream.fromXML(reader);
+	}
+
 }
@@ -0,0 +1,117 @@
+package com.progressoft.jip.utilities.restful.impl;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import com.progressoft.jip.utilities.restful.RestfulDataParser;
+
+/**
+ * Streams a Yahoo exchange rate response with StAX, keeping only the
+ * {@code id}, {@code Rate}, {@code Date} and {@code Time} of each rate.
+ * Holds no per-call state, so a single instance can be shared by every
+ * gateway.
+ */
+public class YahooRatesStaxParser implements RestfulDataParser<YahooXmlResponse> {
+
+	private static final String RATE = "rate";
+	private static final String ID = "id";
+	private static final String VALUE = "Rate";
+	private static final String DATE = "Date";
+	private static final String TIME = "Time";
+	private static final String NOT_AVAILABLE = "N/A";
+	private static final int CODE_LENGTH = 3;
+
+	private final XMLInputFactory factory;
+
+	public YahooRatesStaxParser() {
+		factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+	}
+
+	@Override
+	public YahooXmlResponse parse(String data) {
+		return parse(new StringReader(data));
+	}
+
+	@Override
+	public YahooXmlResponse parse(Reader reader) {
+		try {
+			XMLStreamReader xml;
+			// the JDK factory keeps mutable state while it creates a reader
+			synchronized (factory) {
+				xml = factory.createXMLStreamReader(reader);
+			}
+			return parse(xml);
+		} catch (XMLStreamException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public YahooXmlResponse parse(InputStream in, Charset charset) {
+		try {
+			XMLStreamReader xml;
+			synchronized (factory) {
+				xml = factory.createXMLStreamReader(in, charset.name());
+			}
+			return parse(xml);
+		} catch (XMLStreamException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private YahooXmlResponse parse(XMLStreamReader xml) throws XMLStreamException {
+		try {
+			List<Rate> rates = new ArrayList<>();
+			String id = null;
+			String value = null;
+			String date = null;
+			String time = null;
+			boolean inRate = false;
+			while (xml.hasNext()) {
+				int event = xml.next();
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					String element = xml.getLocalName();
+					if (RATE.equals(element)) {
+						inRate = true;
+						id = xml.getAttributeValue(null, ID);
+						value = date = time = null;
+					} else if (inRate && VALUE.equals(element))
+						value = xml.getElementText();
+					else if (inRate && DATE.equals(element))
+						date = xml.getElementText();
+					else if (inRate && TIME.equals(element))
+						time = xml.getElementText();
+				} else if (event == XMLStreamConstants.END_ELEMENT && RATE.equals(xml.getLocalName())) {
+					inRate = false;
+					rates.add(new Rate(id, name(id, value), value, date, time));
+				}
+			}
+			return new YahooXmlResponse(rates);
+		} finally {
+			xml.close();
+		}
+	}
+
+	// the pair id is the target code followed by the source code, as in
+	// the Name element the gateway reads, which Yahoo sets to N/A for an
+	// unknown pair
+	private static String name(String id, String value) {
+		if (Objects.isNull(id) || id.length() != 2 * CODE_LENGTH || NOT_AVAILABLE.equals(value))
+			return NOT_AVAILABLE;
+		return id.substring(0, CODE_LENGTH) + "/" + id.substring(CODE_LENGTH);
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.progressoft.jip.utilities.restful.impl;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import com.thoughtworks.xstream.annotations.XStreamAlias;
 
@@ -9,6 +11,13 @@ public class YahooXmlResponse {
 
 	private List<Rate> results;
 
+	public YahooXmlResponse() {
+	}
+
+	public YahooXmlResponse(List<Rate> results) {
+		this.results = results;
+	}
+
 	public String fromCode() {
 		return results.get(0).name.split("/")[1];
 	}
@@ -21,4 +30,8 @@ public class YahooXmlResponse {
 		return results.get(0).rate;
 	}
 
+	public List<Rate> rates() {
+		return Objects.isNull(results) ? Collections.emptyList() : Collections.unmodifiableList(results);
+	}
+
 }
\ No newline at end of file
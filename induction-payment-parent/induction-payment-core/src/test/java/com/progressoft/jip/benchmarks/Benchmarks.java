@@ -0,0 +1,61 @@
+package com.progressoft.jip.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing helpers shared by the {@code *Benchmark} classes. Those classes
+ * only run with {@code mvn -P benchmarks test}, never in the unit suite,
+ * and they report numbers instead of asserting on them.
+ */
+public final class Benchmarks {
+
+	private static volatile Object sink;
+
+	private Benchmarks() {
+	}
+
+	/**
+	 * Runs {@code round} {@code warmupRounds} times untimed, then returns the
+	 * median wall-clock time of {@code measuredRounds} further runs. Every
+	 * result is kept reachable so the JIT cannot drop the work.
+	 */
+	public static long medianNanos(int warmupRounds, int measuredRounds, Callable<?> round) throws Exception {
+		for (int i = 0; i < warmupRounds; i++)
+			sink = round.call();
+		long[] rounds = new long[measuredRounds];
+		for (int i = 0; i < measuredRounds; i++) {
+			long start = System.nanoTime();
+			sink = round.call();
+			rounds[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(rounds);
+		return rounds[measuredRounds / 2];
+	}
+
+	public static void report(String benchmark, String... results) {
+		System.out.println("[benchmark] " + benchmark + ": " + String.join(", ", results));
+	}
+
+	public static String result(String label, long nanos, TimeUnit unit) {
+		return label + " " + unit.convert(nanos, TimeUnit.NANOSECONDS) + " " + abbreviate(unit);
+	}
+
+	public static String perOperation(String label, long nanos, int operations) {
+		return label + " " + nanos / operations + " ns/op";
+	}
+
+	private static String abbreviate(TimeUnit unit) {
+		switch (unit) {
+		case NANOSECONDS:
+			return "ns";
+		case MICROSECONDS:
+			return "us";
+		case MILLISECONDS:
+			return "ms";
+		default:
+			return unit.name().toLowerCase();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.progressoft.jip.datastructures;
+
+import static com.progressoft.jip.benchmarks.Benchmarks.medianNanos;
+import static com.progressoft.jip.benchmarks.Benchmarks.report;
+import static com.progressoft.jip.benchmarks.Benchmarks.result;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.handlers.impl.CurrencyExchangeRateHandler;
+
+public class MoneyDebitBenchmark {
+
+	private static final int PAYMENTS = 10_000;
+	private static final int WARMUP_ROUNDS = 50;
+	private static final int MEASURED_ROUNDS = 31;
+
+	private final BigDecimal balance = new BigDecimal("1000000000.00");
+	private final CurrencyExchangeRateHandler rate = new CurrencyExchangeRateHandler(
+			new CurrencyExchangeRate("JOD", "USD", 1.4104));
+	private BigDecimal[] amounts;
+
+	@Before
+	public void setUp() {
+		amounts = new BigDecimal[PAYMENTS];
+		for (int i = 0; i < PAYMENTS; i++)
+			amounts[i] = BigDecimal.valueOf(1000 + i * 37L, 3);
+	}
+
+	@Test
+	public void debitPaymentBatch() throws Exception {
+		long bigDecimal = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, this::debitWithBigDecimal);
+		long money = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, this::debitWithMoney);
+
+		report(PAYMENTS + " debits", result("BigDecimal/double", bigDecimal, TimeUnit.MICROSECONDS),
+				result("Money", money, TimeUnit.MICROSECONDS));
+	}
+
+	private BigDecimal debitWithBigDecimal() {
+		BigDecimal remaining = balance;
+		for (BigDecimal amount : amounts) {
+			BigDecimal debit = rate.convert(amount);
+			if (debit.doubleValue() <= remaining.doubleValue())
+				remaining = remaining.subtract(debit);
+		}
+		return remaining;
+	}
+
+	private Money debitWithMoney() {
+		Money remaining = Money.of(balance, "USD");
+		for (BigDecimal amount : amounts) {
+			Money debit = rate.convert(Money.of(amount, "JOD"), "USD");
+			if (!remaining.isLessThan(debit))
+				remaining = remaining.subtract(debit);
+		}
+		return remaining;
+	}
+}
@@ -0,0 +1,69 @@
+package com.progressoft.jip.datastructures;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+import com.progressoft.jip.handlers.impl.CurrencyExchangeRateHandler;
+
+public class MoneyTest {
+
+	@Test
+	public void givenAmount_CreatingMoney_ShouldUseTheCurrencyMinorUnit() {
+		Money jod = Money.of(new BigDecimal("12.5"), "JOD");
+		Money usd = Money.of(new BigDecimal("7"), "USD");
+
+		assertEquals(12500, jod.getMinorUnits());
+		assertEquals(3, jod.getScale());
+		assertEquals(700, usd.getMinorUnits());
+		assertEquals(new BigDecimal("12.500"), jod.toBigDecimal());
+	}
+
+	@Test
+	public void givenMoreDecimalsThanTheCurrency_CreatingMoney_ShouldKeepThemExactly() {
+		Money usd = Money.of(new BigDecimal("0.12345000"), "USD");
+
+		assertEquals(5, usd.getScale());
+		assertEquals(new BigDecimal("0.12345"), usd.toBigDecimal());
+		assertEquals(Money.of(new BigDecimal("1.10"), "USD"), usd.add(Money.of(new BigDecimal("0.97655"), "USD")));
+	}
+
+	@Test
+	public void givenBalancesBeyondDoublePrecision_Comparing_ShouldTellThemApart() {
+		BigDecimal balance = new BigDecimal("90071992547409.93");
+		BigDecimal debit = new BigDecimal("90071992547409.94");
+
+		assertEquals(balance.doubleValue(), debit.doubleValue(), 0);
+		assertTrue(Money.of(balance, "USD").isLessThan(Money.of(debit, "USD")));
+	}
+
+	@Test
+	public void givenScaledRate_Converting_ShouldRoundHalfEvenToTheTargetMinorUnit() {
+		CurrencyExchangeRateHandler jodToUsd = new CurrencyExchangeRateHandler(new CurrencyExchangeRate("JOD", "USD", 1.41));
+
+		assertEquals(new BigDecimal("141.00"), jodToUsd.convert(Money.of(new BigDecimal("100"), "JOD"), "USD").toBigDecimal());
+		assertEquals(new BigDecimal("0.02"), jodToUsd.convert(Money.of(new BigDecimal("0.015"), "JOD"), "USD").toBigDecimal());
+		assertEquals(new BigDecimal("0.04"), jodToUsd.convert(Money.of(new BigDecimal("0.025"), "JOD"), "USD").toBigDecimal());
+		assertEquals(new BigDecimal("-0.02"), jodToUsd.convert(Money.of(new BigDecimal("-0.015"), "JOD"), "USD").toBigDecimal());
+	}
+
+	@Test
+	public void givenProductBeyondLongRange_Converting_ShouldFallBackToExactArithmetic() {
+		Money large = Money.of(new BigDecimal("9000000000000.000"), "JOD");
+
+		assertEquals(new BigDecimal("12690000000000.00"), large.convert(1410000000L, 9, "USD").toBigDecimal());
+	}
+
+	@Test(expected = ArithmeticException.class)
+	public void givenSumBeyondLongRange_Adding_ShouldThrowArithmetic() {
+		Money.ofMinor(Long.MAX_VALUE, "USD").add(Money.ofMinor(1, "USD"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenDifferentCurrencies_Subtracting_ShouldThrowIllegalArgument() {
+		Money.ofMinor(100, "USD").subtract(Money.ofMinor(100, "JOD"));
+	}
+}
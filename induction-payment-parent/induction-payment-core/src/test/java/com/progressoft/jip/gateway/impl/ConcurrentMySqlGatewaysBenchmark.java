@@ -0,0 +1,66 @@
+package com.progressoft.jip.gateway.impl;
+
+import static com.progressoft.jip.benchmarks.Benchmarks.medianNanos;
+import static com.progressoft.jip.benchmarks.Benchmarks.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+
+public class ConcurrentMySqlGatewaysBenchmark {
+
+	private static final long LATENCY_MILLIS = 2;
+	private static final int CALLS = 400;
+	private static final int[] THREADS = { 1, 2, 4, 8, 16 };
+	private static final int WARMUP_ROUNDS = 1;
+	private static final int MEASURED_ROUNDS = 3;
+
+	private PaymentRequestGateway gateway;
+
+	@Before
+	public void setUp() {
+		StubDataSource stub = new StubDataSource(LATENCY_MILLIS, (sql, parameters) -> Rows.paymentRequests()
+				.row(parameters[0], null, null, "beneficiary" + parameters[0], null, null, null, null, null));
+		gateway = new MySqlPaymentRequestGateway(stub.dataSource(), new PaymentRequestBehaviorsFactoryImpl());
+	}
+
+	@Test
+	public void loadPaymentRequestsFromGrowingThreadPools() throws Exception {
+		String[] results = new String[THREADS.length];
+		for (int t = 0; t < THREADS.length; t++) {
+			int threads = THREADS[t];
+			long nanos = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> callConcurrently(threads));
+			results[t] = threads + " threads " + CALLS * TimeUnit.SECONDS.toNanos(1) / nanos + " calls/s";
+		}
+		report(CALLS + " calls at " + LATENCY_MILLIS + " ms latency", results);
+	}
+
+	private int callConcurrently(int threads) throws Exception {
+		List<Callable<Integer>> calls = new ArrayList<>();
+		for (int i = 0; i < CALLS; i++) {
+			int id = i;
+			calls.add(() -> gateway.loadPaymentRequestById(id).getId());
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			int sum = 0;
+			for (Future<Integer> result : executor.invokeAll(calls))
+				sum += result.get();
+			return sum;
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.behaviors.impl.CurrencyGatewayDBBehaviorsFactoryImpl;
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.CurrencyGateway;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlCurrencyGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+
+public class ConcurrentMySqlGatewaysTest {
+
+	private static final long LATENCY_MILLIS = 2;
+	private static final int CALLS = 400;
+
+	private PaymentRequestGateway paymentRequestGateway;
+	private CurrencyGateway currencyGateway;
+
+	@Before
+	public void setUp() {
+		StubDataSource stub = new StubDataSource(LATENCY_MILLIS, (sql, parameters) -> {
+			if (sql.contains("PAYMENT_REQUEST"))
+				return Rows.paymentRequests().row(parameters[0], null, null, "beneficiary" + parameters[0], null, null,
+						null, null, null);
+			return new Rows("code", "name", "coinsName").row(parameters[0], "currency " + parameters[0], null);
+		});
+		paymentRequestGateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl());
+		currencyGateway = new MySqlCurrencyGateway(stub.dataSource(), new CurrencyGatewayDBBehaviorsFactoryImpl());
+	}
+
+	@Test
+	public void givenSharedGateways_CallingThemFromManyThreads_ShouldReturnEachCallerItsOwnResult()
+			throws Exception {
+		List<Callable<Boolean>> calls = new ArrayList<>();
+		for (int i = 0; i < CALLS; i++) {
+			int id = i;
+			String code = String.format("C%02d", i % 100);
+			calls.add(() -> paymentRequestGateway.loadPaymentRequestById(id).getId() == id
+					&& ("beneficiary" + id).equals(paymentRequestGateway.loadPaymentRequestById(id).getBeneficiaryName())
+					&& code.equals(currencyGateway.loadCurrencyByCode(code).getCode()));
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			for (Future<Boolean> result : executor.invokeAll(calls))
+				assertTrue(result.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void givenSharedGateway_CallingItFromManyThreads_ShouldNotSerializeTheQueries() throws Exception {
+		int threads = 8;
+		CountDownLatch inFlight = new CountDownLatch(threads);
+		StubDataSource stub = new StubDataSource(0, (sql, parameters) -> {
+			inFlight.countDown();
+			try {
+				// only released once every caller is inside a query at the same time
+				if (!inFlight.await(10, TimeUnit.SECONDS))
+					throw new IllegalStateException("queries were serialized");
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException(e);
+			}
+			return Rows.paymentRequests().row(parameters[0], null, null, null, null, null, null, null, null);
+		});
+		PaymentRequestGateway gateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl());
+		List<Callable<Integer>> calls = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			int id = i;
+			calls.add(() -> gateway.loadPaymentRequestById(id).getId());
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<Integer>> results = executor.invokeAll(calls);
+			for (int i = 0; i < threads; i++)
+				assertEquals(i, (int) results.get(i).get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
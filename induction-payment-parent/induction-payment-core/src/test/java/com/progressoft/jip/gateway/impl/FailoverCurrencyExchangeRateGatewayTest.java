@@ -0,0 +1,120 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateway.CurrencyExchangeRateGateway;
+import com.progressoft.jip.gateway.FailoverCurrencyExchangeRateGateway;
+import com.progressoft.jip.gateway.FailoverCurrencyExchangeRateGateway.Provider;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+
+public class FailoverCurrencyExchangeRateGatewayTest {
+
+	private final AtomicInteger secondaryCalls = new AtomicInteger();
+	private final CurrencyExchangeRateGateway secondary = (from, to) -> {
+		secondaryCalls.incrementAndGet();
+		return new CurrencyExchangeRate(from, to, 0.71);
+	};
+
+	@Test
+	public void givenHealthyFirstProvider_LoadingRate_ShouldNotAskTheNextOne() {
+		FailoverCurrencyExchangeRateGateway gateway = new FailoverCurrencyExchangeRateGateway(
+				new Provider((from, to) -> new CurrencyExchangeRate(from, to, 0.709)), new Provider(secondary));
+
+		assertEquals(0.709, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+		assertEquals(0, secondaryCalls.get());
+	}
+
+	@Test
+	public void givenFailingFirstProvider_LoadingRate_ShouldFallBackToTheNextOne() {
+		FailoverCurrencyExchangeRateGateway gateway = new FailoverCurrencyExchangeRateGateway(new Provider((from, to) -> {
+			throw new CurrencyCodeNotFoundException();
+		}), new Provider(secondary));
+
+		assertEquals(0.71, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+	}
+
+	@Test
+	public void givenHangingFirstProvider_LoadingRate_ShouldGiveUpAfterItsTimeout() {
+		CountDownLatch never = new CountDownLatch(1);
+		FailoverCurrencyExchangeRateGateway gateway = new FailoverCurrencyExchangeRateGateway(
+				new Provider((from, to) -> {
+					try {
+						never.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return new CurrencyExchangeRate(from, to, 1);
+				}, 50, TimeUnit.MILLISECONDS), new Provider(secondary, 1, TimeUnit.SECONDS));
+
+		long start = System.nanoTime();
+		assertEquals(0.71, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+	}
+
+	@Test
+	public void givenEveryProviderFailing_LoadingRate_ShouldThrowLastFailureWithEarlierOnesSuppressed() {
+		FailoverCurrencyExchangeRateGateway gateway = new FailoverCurrencyExchangeRateGateway(new Provider((from, to) -> {
+			throw new IllegalStateException("offline");
+		}), new Provider((from, to) -> {
+			throw new CurrencyCodeNotFoundException();
+		}));
+
+		try {
+			gateway.loadCurrencyExchangeRate("USD", "JOD");
+		} catch (CurrencyCodeNotFoundException e) {
+			assertEquals("offline", e.getSuppressed()[0].getMessage());
+			return;
+		}
+		throw new AssertionError("expected CurrencyCodeNotFoundException");
+	}
+
+	@Test
+	public void givenGateway_ClosingIt_ShouldShutDownItsWorkerPool() {
+		ExecutorService workers = Executors.newCachedThreadPool();
+		FailoverCurrencyExchangeRateGateway gateway = new FailoverCurrencyExchangeRateGateway(workers,
+				Collections.singletonList(new Provider(secondary, 1, TimeUnit.SECONDS)));
+		assertEquals(0.71, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+
+		gateway.close();
+
+		assertTrue(workers.isShutdown());
+	}
+
+	@Test
+	public void givenCloseableProvider_ClosingTheGateway_ShouldCloseTheProvider() {
+		AtomicInteger closed = new AtomicInteger();
+		CloseableGateway remote = new CloseableGateway() {
+			@Override
+			public CurrencyExchangeRate loadCurrencyExchangeRate(String codeFrom, String codeTo) {
+				return new CurrencyExchangeRate(codeFrom, codeTo, 0.71);
+			}
+
+			@Override
+			public void close() {
+				closed.incrementAndGet();
+			}
+		};
+		FailoverCurrencyExchangeRateGateway gateway = new FailoverCurrencyExchangeRateGateway(new Provider(secondary),
+				new Provider(remote, 1, TimeUnit.SECONDS));
+
+		gateway.close();
+
+		assertEquals(1, closed.get());
+	}
+
+	private interface CloseableGateway extends CurrencyExchangeRateGateway, AutoCloseable {
+		@Override
+		void close();
+	}
+}
@@ -0,0 +1,107 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.progressoft.jip.gateway.file.FileCurrencyExchangeRateGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+
+public class FileCurrencyExchangeRateGatewayTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private Path file;
+	private AtomicLong clock;
+	private FileCurrencyExchangeRateGateway gateway;
+
+	@Before
+	public void setUp() throws IOException {
+		file = folder.newFile("rates.csv").toPath();
+		write("from,to,rate\n# base rates\nUSD,JOD,0.709\n\nUSD,EUR, 0.92\r\n", 1);
+		clock = new AtomicLong();
+		gateway = new FileCurrencyExchangeRateGateway(file, 1, TimeUnit.SECONDS, clock::get);
+	}
+
+	@Test
+	public void givenRatesFile_LoadingRate_ShouldReadItFromTheFile() {
+		assertEquals(0.709, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+		assertEquals(0.92, gateway.loadCurrencyExchangeRate("USD", "EUR").getRate(), 0);
+	}
+
+	@Test(expected = CurrencyCodeNotFoundException.class)
+	public void givenPairMissingFromFile_LoadingIt_ShouldThrowCurrencyCodeNotFound() {
+		gateway.loadCurrencyExchangeRate("JOD", "EUR");
+	}
+
+	@Test
+	public void givenChangedFile_LoadingRateAfterCheckInterval_ShouldReloadIt() throws IOException {
+		gateway.loadCurrencyExchangeRate("USD", "JOD");
+		write("USD,JOD,0.7095\n", 2);
+
+		assertEquals(0.709, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertEquals(0.7095, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+	}
+
+	@Test
+	public void givenMalformedRewrite_LoadingRate_ShouldKeepServingPreviousRates() throws IOException {
+		gateway.loadCurrencyExchangeRate("USD", "JOD");
+		write("USD,JOD\n", 2);
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+		assertEquals(0.709, gateway.loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void givenMissingFile_LoadingRate_ShouldThrowIllegalState() {
+		new FileCurrencyExchangeRateGateway(folder.getRoot().toPath().resolve("missing.csv"))
+				.loadCurrencyExchangeRate("USD", "JOD");
+	}
+
+	@After
+	public void clearRatesFileProperty() {
+		System.clearProperty(FileCurrencyExchangeRateGateway.RATES_FILE_PROPERTY);
+	}
+
+	@Test
+	public void givenRatesFileProperty_CreatingFromIt_ShouldServeThatFile() {
+		System.setProperty(FileCurrencyExchangeRateGateway.RATES_FILE_PROPERTY, file.toString());
+
+		assertEquals(0.709,
+				FileCurrencyExchangeRateGateway.fromSystemProperty().loadCurrencyExchangeRate("USD", "JOD").getRate(), 0);
+	}
+
+	@Test
+	public void givenMissingRatesFile_CreatingFromProperty_ShouldFailNamingTheFileAndProperty() {
+		Path missing = folder.getRoot().toPath().resolve("missing.csv");
+		System.setProperty(FileCurrencyExchangeRateGateway.RATES_FILE_PROPERTY, missing.toString());
+		try {
+			FileCurrencyExchangeRateGateway.fromSystemProperty();
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage().contains(missing.toString()));
+			assertTrue(e.getMessage().contains(FileCurrencyExchangeRateGateway.RATES_FILE_PROPERTY));
+			return;
+		}
+		throw new AssertionError("expected a missing rates file to fail at startup");
+	}
+
+	private void write(String content, long modifiedSeconds) throws IOException {
+		Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+		Files.setLastModifiedTime(file, FileTime.fromMillis(TimeUnit.SECONDS.toMillis(modifiedSeconds)));
+	}
+}
@@ -0,0 +1,106 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.behaviors.impl.AccountGatewayDBBehaviorsFactoryImpl;
+import com.progressoft.jip.behaviors.impl.PaymentPurposeBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.AccountGateway;
+import com.progressoft.jip.gateways.PaymentPurposeGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlAccountGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentPurposeGateway;
+import com.progressoft.jip.gateways.views.AccountView;
+import com.progressoft.jip.gateways.views.PaymentPurposeView;
+
+public class MySqlInListLookupTest {
+
+	private static final List<String> ACCOUNTS = Arrays.asList("JO94CBJO0010000000000131000302",
+			"JO71CBJO0000000000001234567890");
+	private static final List<String> PURPOSES = Arrays.asList("SALA", "NORM");
+
+	private StubDataSource stub;
+	private AccountGateway accountGateway;
+	private PaymentPurposeGateway purposeGateway;
+
+	@Before
+	public void setUp() {
+		stub = new StubDataSource(0, (sql, parameters) -> {
+			if (sql.contains("ACCOUNT")) {
+				Rows rows = new Rows("iban", "accountType", "balance", "status", "currencyCode", "rule");
+				Arrays.stream(parameters).filter(ACCOUNTS::contains)
+						.forEach(iban -> rows.row(iban, "CURRENT", BigDecimal.TEN, "ACTIVE", "JOD", "always"));
+				return rows;
+			}
+			Rows rows = new Rows("code", "name");
+			Arrays.stream(parameters).filter(PURPOSES::contains).forEach(code -> rows.row(code, "purpose " + code));
+			return rows;
+		});
+		accountGateway = new MySqlAccountGateway(stub.dataSource(), new AccountGatewayDBBehaviorsFactoryImpl());
+		purposeGateway = new MySqlPaymentPurposeGateway(stub.dataSource(), new PaymentPurposeBehaviorsFactoryImpl());
+	}
+
+	@Test
+	public void givenRepeatedAndUnknownIbans_LoadingAccountsByIbans_ShouldQueryOnceAndKeyByIban() {
+		Map<String, AccountView> accounts = accountGateway.loadAccountsByIbans(
+				Arrays.asList(ACCOUNTS.get(0), "JO00UNKNOWN", ACCOUNTS.get(0), ACCOUNTS.get(1), null));
+
+		assertEquals(1, stub.roundTrips());
+		assertEquals(2, accounts.size());
+		assertEquals(ACCOUNTS.get(1), accounts.get(ACCOUNTS.get(1)).getIban());
+		assertFalse(accounts.containsKey("JO00UNKNOWN"));
+	}
+
+	@Test
+	public void givenMoreIbansThanChunkSize_LoadingAccountsByIbans_ShouldQueryOncePerChunkAndMergeResults() {
+		AccountGateway chunked = new MySqlAccountGateway(stub.dataSource(), new AccountGatewayDBBehaviorsFactoryImpl(), 2);
+
+		Map<String, AccountView> accounts = chunked.loadAccountsByIbans(
+				Arrays.asList(ACCOUNTS.get(0), "JO00UNKNOWN", ACCOUNTS.get(0), "JO11UNKNOWN", ACCOUNTS.get(1)));
+
+		assertEquals(2, stub.roundTrips());
+		assertEquals(2, accounts.size());
+		assertTrue(accounts.keySet().containsAll(ACCOUNTS));
+	}
+
+	@Test
+	public void givenRepeatedCodes_LoadingPaymentPurposesByCodes_ShouldQueryOnceAndKeyByCode() {
+		Map<String, PaymentPurposeView> purposes = purposeGateway
+				.loadPaymentPurposesByCodes(Arrays.asList("SALA", "SALA", "NORM", "XXXX"));
+
+		assertEquals(1, stub.roundTrips());
+		assertEquals("purpose NORM", purposes.get("NORM").getName());
+		assertEquals(2, purposes.size());
+	}
+
+	@Test
+	public void givenMoreCodesThanChunkSize_LoadingPaymentPurposesByCodes_ShouldQueryOncePerChunkAndMergeResults() {
+		PaymentPurposeGateway chunked = new MySqlPaymentPurposeGateway(stub.dataSource(),
+				new PaymentPurposeBehaviorsFactoryImpl(), 2);
+
+		Map<String, PaymentPurposeView> purposes = chunked
+				.loadPaymentPurposesByCodes(Arrays.asList("SALA", "XXXX", "SALA", "YYYY", "NORM"));
+
+		assertEquals(2, stub.roundTrips());
+		assertEquals(2, purposes.size());
+		assertTrue(purposes.keySet().containsAll(PURPOSES));
+	}
+
+	@Test
+	public void givenNoKeys_LoadingByInList_ShouldNotQuery() {
+		assertTrue(accountGateway.loadAccountsByIbans(Collections.emptyList()).isEmpty());
+		assertTrue(purposeGateway.loadPaymentPurposesByCodes(Collections.singleton(null)).isEmpty());
+
+		assertEquals(0, stub.roundTrips());
+	}
+}
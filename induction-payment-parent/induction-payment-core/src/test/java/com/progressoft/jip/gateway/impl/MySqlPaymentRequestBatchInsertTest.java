@@ -0,0 +1,100 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.exceptions.NoPaymentRequestInsertedException;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+import com.progressoft.jip.gateways.views.PaymentRequestView;
+
+public class MySqlPaymentRequestBatchInsertTest {
+
+	private static final String REJECTED_BENEFICIARY = "rejected";
+
+	private StubDataSource stub;
+	private PaymentRequestGateway gateway;
+
+	@Before
+	public void setUp() {
+		AtomicInteger sequence = new AtomicInteger();
+		stub = new StubDataSource(0, (sql, parameters) -> {
+			if (REJECTED_BENEFICIARY.equals(parameters[2]))
+				throw new IllegalStateException("constraint violation");
+			return Rows.updated(1).row(sequence.incrementAndGet());
+		});
+		gateway = new MySqlPaymentRequestGateway(stub.dataSource(), new PaymentRequestBehaviorsFactoryImpl(), 100);
+	}
+
+	@Test
+	public void givenPaymentRequests_CallingInsertPaymentRequests_ShouldSendOneRoundTripPerBatch() {
+		List<PaymentRequestInsertResult> results = gateway.insertPaymentRequests(paymentRequests(250, -1));
+
+		assertEquals(3, stub.roundTrips());
+		assertEquals(250, results.size());
+		for (int i = 0; i < results.size(); i++) {
+			assertTrue(results.get(i).isInserted());
+			assertEquals(i + 1, results.get(i).getGeneratedId());
+		}
+	}
+
+	@Test
+	public void givenRejectedPaymentRequest_CallingInsertPaymentRequests_ShouldReportOnlyThatRowAsFailed() {
+		List<PaymentRequestInsertResult> results = gateway.insertPaymentRequests(paymentRequests(150, 120));
+
+		assertEquals(150, results.size());
+		PaymentRequestInsertResult rejected = results.get(120);
+		assertFalse(rejected.isInserted());
+		assertTrue(rejected.getFailure() instanceof NoPaymentRequestInsertedException);
+		assertEquals(REJECTED_BENEFICIARY, rejected.getPaymentRequest().getBeneficiaryName());
+		assertEquals(121, results.get(121).getGeneratedId());
+		assertEquals(149, results.stream().filter(PaymentRequestInsertResult::isInserted).count());
+	}
+
+	@Test
+	public void givenNullPaymentRequest_CallingInsertPaymentRequests_ShouldFailItWithoutSendingIt() {
+		List<PaymentRequestView> requests = paymentRequests(2, -1);
+		requests.add(1, null);
+
+		List<PaymentRequestInsertResult> results = gateway.insertPaymentRequests(requests);
+
+		assertEquals(1, results.get(0).getGeneratedId());
+		assertFalse(results.get(1).isInserted());
+		assertEquals(2, results.get(2).getGeneratedId());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenZeroBatchSize_CreatingGateway_ShouldThrowIllegalArgumentException() {
+		new MySqlPaymentRequestGateway(stub.dataSource(), new PaymentRequestBehaviorsFactoryImpl(), 0);
+	}
+
+	private List<PaymentRequestView> paymentRequests(int count, int rejectedIndex) {
+		List<PaymentRequestView> requests = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			PaymentRequest request = new PaymentRequest();
+			request.setOrderingAccountIban("JO94CBJO0010000000000131000302");
+			request.setBeneficiaryAccountIban("JO71CBJO0000000000001234567890");
+			request.setBeneficiaryName(i == rejectedIndex ? REJECTED_BENEFICIARY : "beneficiary" + i);
+			request.setPaymentAmount(BigDecimal.TEN);
+			request.setCurrencyCode("JOD");
+			request.setPurposeCode("SALA");
+			request.setPaymentDate(Date.valueOf("2017-01-01"));
+			requests.add(request);
+		}
+		return requests;
+	}
+}
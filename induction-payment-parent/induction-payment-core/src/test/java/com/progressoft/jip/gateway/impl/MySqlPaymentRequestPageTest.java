@@ -0,0 +1,92 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestPage;
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.exceptions.InvalidContinuationTokenException;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+import com.progressoft.jip.gateways.views.PaymentRequestView;
+
+public class MySqlPaymentRequestPageTest {
+
+	private static final String IBAN = "JO94CBJO0010000000000131000302";
+
+	private List<PaymentRequest> table;
+	private PaymentRequestGateway gateway;
+
+	@Before
+	public void setUp() {
+		table = new ArrayList<>();
+		for (int id = 1; id <= 95; id++) {
+			PaymentRequest request = new PaymentRequest();
+			request.setId(id);
+			request.setOrderingAccountIban(id % 3 == 0 ? "OTHER" : IBAN);
+			request.setPaymentDate(Date.valueOf(LocalDate.of(2017, 1, 1).plusDays(id % 7)));
+			table.add(request);
+		}
+		StubDataSource stub = new StubDataSource(0, (sql, parameters) -> {
+			Comparator<PaymentRequest> keyset = Comparator.comparing(PaymentRequest::getPaymentDate)
+					.thenComparing(PaymentRequest::getId);
+			boolean after = sql.contains("PAYMENT_DATE > ?");
+			int limit = (int) parameters[parameters.length - 1];
+			Rows rows = Rows.paymentRequests();
+			table.stream().filter(p -> p.getOrderingAccountIban().equals(parameters[0]))
+					.filter(p -> !after || p.getPaymentDate().after((Date) parameters[1])
+							|| p.getPaymentDate().equals(parameters[2]) && p.getId() > (int) parameters[3])
+					.sorted(keyset).limit(limit)
+					.forEach(p -> rows.row(p.getId(), p.getOrderingAccountIban(), null, null, null, null, null,
+							p.getPaymentDate(), null));
+			return rows;
+		});
+		gateway = new MySqlPaymentRequestGateway(stub.dataSource(), new PaymentRequestBehaviorsFactoryImpl());
+	}
+
+	@Test
+	public void givenManyPaymentRequests_FollowingContinuationTokens_ShouldVisitEachRequestOnceInKeysetOrder() {
+		List<Integer> expected = table.stream().filter(p -> p.getOrderingAccountIban().equals(IBAN))
+				.sorted(Comparator.comparing(PaymentRequest::getPaymentDate).thenComparing(PaymentRequest::getId))
+				.map(PaymentRequest::getId).collect(Collectors.toList());
+		List<Integer> visited = new ArrayList<>();
+		String token = null;
+		int pages = 0;
+		do {
+			PaymentRequestPage page = gateway.loadPaymentRequestsPageByOrderingAccountIban(IBAN, 10, token);
+			assertTrue(page.getPaymentRequests().size() <= 10);
+			page.getPaymentRequests().stream().map(PaymentRequestView::getId).forEach(visited::add);
+			token = page.getContinuationToken();
+			pages++;
+		} while (token != null);
+
+		assertEquals(expected, visited);
+		assertEquals((expected.size() + 9) / 10, pages);
+	}
+
+	@Test
+	public void givenPageSizeCoveringAllRequests_LoadingFirstPage_ShouldNotReturnContinuationToken() {
+		PaymentRequestPage page = gateway.loadPaymentRequestsPageByOrderingAccountIban(IBAN, 1000, null);
+
+		assertFalse(page.hasNextPage());
+		assertEquals(64, page.getPaymentRequests().size());
+	}
+
+	@Test(expected = InvalidContinuationTokenException.class)
+	public void givenTamperedToken_LoadingPage_ShouldThrowInvalidContinuationTokenException() {
+		gateway.loadPaymentRequestsPageByOrderingAccountIban(IBAN, 10, "not-a-token");
+	}
+}
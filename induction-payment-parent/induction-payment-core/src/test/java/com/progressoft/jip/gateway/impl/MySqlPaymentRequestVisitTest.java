@@ -0,0 +1,76 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+
+public class MySqlPaymentRequestVisitTest {
+
+	private static final int ROWS = 10_000;
+
+	private StubDataSource stub;
+
+	@Before
+	public void setUp() {
+		stub = new StubDataSource(0, (sql, parameters) -> {
+			Rows rows = Rows.paymentRequests();
+			for (int i = 1; i <= ROWS; i++)
+				rows.row(i, null, null, "beneficiary" + i, BigDecimal.valueOf(i), null, null, null, null);
+			return rows;
+		});
+	}
+
+	@Test
+	public void givenPaymentRequests_CallingForEachPaymentRequest_ShouldVisitEveryRowInOrder() {
+		PaymentRequestGateway gateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl());
+		AtomicInteger visited = new AtomicInteger();
+
+		gateway.forEachPaymentRequest(p -> {
+			int expected = visited.incrementAndGet();
+			assertEquals(expected, p.getId());
+			assertEquals("beneficiary" + expected, p.getBeneficiaryName());
+			assertEquals(BigDecimal.valueOf(expected), p.getPaymentAmount());
+		});
+
+		assertEquals(ROWS, visited.get());
+		assertEquals(1, stub.roundTrips());
+		assertEquals(MySqlPaymentRequestGateway.DEFAULT_FETCH_SIZE, stub.lastFetchSize());
+		assertEquals(0, stub.openResources());
+	}
+
+	@Test
+	public void givenFetchSize_CallingForEachPaymentRequest_ShouldApplyItToTheCursor() {
+		PaymentRequestGateway gateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl(), MySqlPaymentRequestGateway.DEFAULT_INSERT_BATCH_SIZE, 250);
+
+		gateway.forEachPaymentRequest(p -> {
+		});
+
+		assertEquals(250, stub.lastFetchSize());
+	}
+
+	@Test
+	public void givenFailingVisitor_CallingForEachPaymentRequest_ShouldCloseTheCursor() {
+		PaymentRequestGateway gateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl());
+		try {
+			gateway.forEachPaymentRequest(p -> {
+				throw new IllegalStateException("stop");
+			});
+		} catch (IllegalStateException e) {
+			assertEquals("stop", e.getMessage());
+		}
+
+		assertEquals(0, stub.openResources());
+	}
+}
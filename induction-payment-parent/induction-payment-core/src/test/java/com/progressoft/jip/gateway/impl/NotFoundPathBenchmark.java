@@ -0,0 +1,126 @@
+package com.progressoft.jip.gateway.impl;
+
+import static com.progressoft.jip.benchmarks.Benchmarks.medianNanos;
+import static com.progressoft.jip.benchmarks.Benchmarks.perOperation;
+import static com.progressoft.jip.benchmarks.Benchmarks.report;
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.behaviors.impl.CurrencyGatewayDBBehaviorsFactoryImpl;
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.CurrencyGateway;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyNotFoundExption;
+import com.progressoft.jip.gateways.exceptions.NoneExistingPaymentRequestException;
+import com.progressoft.jip.gateways.sql.impl.MySqlCurrencyGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+import com.progressoft.jip.iban.IBANGeneralValidator;
+import com.progressoft.jip.iban.IBANValidationStatus;
+import com.progressoft.jip.iban.exception.InvalidIBANException;
+
+public class NotFoundPathBenchmark {
+
+	private static final int CALLS = 20_000;
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 5;
+
+	private CurrencyGateway currencyGateway;
+	private PaymentRequestGateway paymentRequestGateway;
+
+	@Before
+	public void setUp() {
+		StubDataSource stub = new StubDataSource(0, (sql, parameters) -> {
+			if (sql.contains("PAYMENT_REQUEST"))
+				return Rows.paymentRequests();
+			return new Rows("code", "name", "coinsName");
+		});
+		currencyGateway = new MySqlCurrencyGateway(stub.dataSource(), new CurrencyGatewayDBBehaviorsFactoryImpl());
+		paymentRequestGateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl());
+	}
+
+	@Test
+	public void lookUpMissingCurrency() throws Exception {
+		long thrown = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> countFound(CALLS, i -> {
+			try {
+				return currencyGateway.loadCurrencyByCode("XXX") != null;
+			} catch (CurrencyNotFoundExption e) {
+				return false;
+			}
+		}));
+		long optional = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> countFound(CALLS, i -> currencyGateway.findCurrencyByCode("XXX").isPresent()));
+
+		report("missing currency", perOperation("stackless exception", thrown, CALLS),
+				perOperation("Optional", optional, CALLS));
+	}
+
+	@Test
+	public void lookUpMissingPaymentRequest() throws Exception {
+		long thrown = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> countFound(CALLS, i -> {
+			try {
+				return paymentRequestGateway.loadPaymentRequestById(i) != null;
+			} catch (NoneExistingPaymentRequestException e) {
+				return false;
+			}
+		}));
+		long optional = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> countFound(CALLS, i -> paymentRequestGateway.findPaymentRequestById(i).isPresent()));
+
+		report("missing payment request", perOperation("stackless exception", thrown, CALLS),
+				perOperation("Optional", optional, CALLS));
+	}
+
+	@Test
+	public void validateInvalidIbans() throws Exception {
+		IBANGeneralValidator validator = new IBANGeneralValidator();
+		List<String> invalid = invalidIbans();
+		for (String iban : invalid)
+			assertEquals(IBANValidationStatus.BAD_CHECKSUM, validator.check(iban));
+
+		long thrown = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> countFound(invalid.size(), i -> {
+			try {
+				validator.validate(invalid.get(i));
+				return true;
+			} catch (InvalidIBANException e) {
+				return false;
+			}
+		}));
+		long checked = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> countFound(invalid.size(), i -> validator.check(invalid.get(i)) == IBANValidationStatus.VALID));
+
+		report(invalid.size() + " invalid IBANs", perOperation("InvalidIBANException", thrown, invalid.size()),
+				perOperation("check", checked, invalid.size()));
+	}
+
+	private static int countFound(int calls, IntPredicate call) {
+		int found = 0;
+		for (int i = 0; i < calls; i++)
+			if (call.test(i))
+				found++;
+		return found;
+	}
+
+	private List<String> invalidIbans() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			return reader.lines().map(String::trim).filter(l -> !l.isEmpty()).map(NotFoundPathBenchmark::breakChecksum)
+					.collect(Collectors.toList());
+		}
+	}
+
+	private static String breakChecksum(String iban) {
+		char digit = iban.charAt(2);
+		return iban.substring(0, 2) + (char) (digit == '9' ? '0' : digit + 1) + iban.substring(3);
+	}
+}
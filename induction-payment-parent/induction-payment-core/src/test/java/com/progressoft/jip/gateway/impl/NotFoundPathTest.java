@@ -0,0 +1,84 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.behaviors.impl.CurrencyGatewayDBBehaviorsFactoryImpl;
+import com.progressoft.jip.behaviors.impl.PaymentRequestBehaviorsFactoryImpl;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+import com.progressoft.jip.gateways.CurrencyGateway;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyNotFoundExption;
+import com.progressoft.jip.gateways.exceptions.NoneExistingPaymentRequestException;
+import com.progressoft.jip.gateways.sql.impl.MySqlCurrencyGateway;
+import com.progressoft.jip.gateways.sql.impl.MySqlPaymentRequestGateway;
+
+public class NotFoundPathTest {
+
+	private CurrencyGateway currencyGateway;
+	private PaymentRequestGateway paymentRequestGateway;
+
+	@Before
+	public void setUp() {
+		StubDataSource stub = new StubDataSource(0, (sql, parameters) -> {
+			if (sql.contains("PAYMENT_REQUEST"))
+				return "1".equals(String.valueOf(parameters[0]))
+						? Rows.paymentRequests().row(1, null, null, "beneficiary", null, null, null, null, null)
+						: Rows.paymentRequests();
+			Rows rows = new Rows("code", "name", "coinsName");
+			return "JOD".equals(parameters[0]) ? rows.row("JOD", "Jordanian Dinar", "Fils") : rows;
+		});
+		currencyGateway = new MySqlCurrencyGateway(stub.dataSource(), new CurrencyGatewayDBBehaviorsFactoryImpl());
+		paymentRequestGateway = new MySqlPaymentRequestGateway(stub.dataSource(),
+				new PaymentRequestBehaviorsFactoryImpl());
+	}
+
+	@Test
+	public void givenMissingRows_CallingFindMethods_ShouldReturnEmptyInsteadOfThrowing() {
+		assertEquals("JOD", currencyGateway.findCurrencyByCode("JOD").get().getCode());
+		assertFalse(currencyGateway.findCurrencyByCode("XXX").isPresent());
+		assertFalse(currencyGateway.findCurrencyByCode("X").isPresent());
+		assertEquals(1, paymentRequestGateway.findPaymentRequestById(1).get().getId());
+		assertFalse(paymentRequestGateway.findPaymentRequestById(2).isPresent());
+		assertTrue(paymentRequestGateway.findPaymentRequestsByOrderingAccountIban("JO00").isEmpty());
+	}
+
+	@Test
+	public void givenMissingCurrency_FindingIt_ShouldReturnEmpty() {
+		assertEquals(Optional.empty(), currencyGateway.findCurrencyByCode("XXX"));
+	}
+
+	@Test
+	public void givenMissingCurrency_LoadingIt_ShouldThrowStacklessNotFound() {
+		try {
+			currencyGateway.loadCurrencyByCode("XXX");
+		} catch (CurrencyNotFoundExption e) {
+			assertEquals(0, e.getStackTrace().length);
+			return;
+		}
+		fail("expected CurrencyNotFoundExption");
+	}
+
+	@Test
+	public void givenMissingPaymentRequest_FindingIt_ShouldReturnEmpty() {
+		assertEquals(Optional.empty(), paymentRequestGateway.findPaymentRequestById(2));
+	}
+
+	@Test
+	public void givenMissingPaymentRequest_LoadingIt_ShouldThrowStacklessNotFound() {
+		try {
+			paymentRequestGateway.loadPaymentRequestById(2);
+		} catch (NoneExistingPaymentRequestException e) {
+			assertEquals(0, e.getStackTrace().length);
+			return;
+		}
+		fail("expected NoneExistingPaymentRequestException");
+	}
+}
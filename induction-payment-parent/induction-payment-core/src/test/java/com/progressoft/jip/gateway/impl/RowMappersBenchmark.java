@@ -0,0 +1,55 @@
+package com.progressoft.jip.gateway.impl;
+
+import static com.progressoft.jip.benchmarks.Benchmarks.medianNanos;
+import static com.progressoft.jip.benchmarks.Benchmarks.report;
+import static com.progressoft.jip.benchmarks.Benchmarks.result;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.behaviors.handlers.MappedListHandler;
+import com.progressoft.jip.behaviors.handlers.RowMappers;
+import com.progressoft.jip.behaviors.impl.Constants;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+
+public class RowMappersBenchmark {
+
+	private static final int ROWS = 100_000;
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 5;
+
+	private QueryRunner runner;
+
+	@Before
+	public void setUp() {
+		Rows rows = Rows.paymentRequests();
+		for (int i = 1; i <= ROWS; i++)
+			rows.row(i, "JO94CBJO0010000000000131000302", "JO71CBJO0000000000001234567890", "beneficiary" + i,
+					BigDecimal.valueOf(i, 2), "JOD", "SALA", Date.valueOf("2017-01-01"), i + " dinars");
+		runner = new QueryRunner(new StubDataSource(0, (sql, parameters) -> rows).dataSource());
+	}
+
+	@Test
+	public void mapHundredThousandPaymentRequests() throws Exception {
+		long beanListHandler = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> query(new BeanListHandler<>(PaymentRequest.class)));
+		long mappedListHandler = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> query(new MappedListHandler<>(RowMappers.PAYMENT_REQUEST)));
+
+		report(ROWS + " rows", result("BeanListHandler", beanListHandler, TimeUnit.MILLISECONDS),
+				result("MappedListHandler", mappedListHandler, TimeUnit.MILLISECONDS));
+	}
+
+	private List<PaymentRequest> query(ResultSetHandler<List<PaymentRequest>> handler) throws Exception {
+		return runner.query(Constants.SELECT_ALL_PAYMENT_REQUESTS, handler);
+	}
+}
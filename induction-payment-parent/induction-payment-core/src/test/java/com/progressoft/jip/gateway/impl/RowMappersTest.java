@@ -0,0 +1,59 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.ResultSetHandler;
+import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.behaviors.handlers.MappedListHandler;
+import com.progressoft.jip.behaviors.handlers.RowMappers;
+import com.progressoft.jip.behaviors.impl.Constants;
+import com.progressoft.jip.gateway.impl.StubDataSource.Rows;
+
+public class RowMappersTest {
+
+	private static final int ROWS = 1_000;
+
+	private QueryRunner runner;
+
+	@Before
+	public void setUp() {
+		Rows rows = Rows.paymentRequests();
+		for (int i = 1; i <= ROWS; i++)
+			rows.row(i, "JO94CBJO0010000000000131000302", "JO71CBJO0000000000001234567890", "beneficiary" + i,
+					BigDecimal.valueOf(i, 2), "JOD", "SALA", Date.valueOf("2017-01-01"), i + " dinars");
+		runner = new QueryRunner(new StubDataSource(0, (sql, parameters) -> rows).dataSource());
+	}
+
+	@Test
+	public void givenSameResultSet_MappingByIndexAndByBeanProcessor_ShouldProduceEqualBeans() throws SQLException {
+		List<PaymentRequest> byIndex = query(new MappedListHandler<>(RowMappers.PAYMENT_REQUEST));
+		List<PaymentRequest> byBean = query(new BeanListHandler<>(PaymentRequest.class));
+
+		assertEquals(ROWS, byIndex.size());
+		assertEquals(describe(byBean), describe(byIndex));
+	}
+
+	private List<PaymentRequest> query(ResultSetHandler<List<PaymentRequest>> handler) throws SQLException {
+		return runner.query(Constants.SELECT_ALL_PAYMENT_REQUESTS, handler);
+	}
+
+	private static List<String> describe(List<PaymentRequest> requests) {
+		Function<PaymentRequest, String> fields = p -> Arrays.asList(p.getId(), p.getOrderingAccountIban(),
+				p.getBeneficiaryAccountIban(), p.getBeneficiaryName(), p.getPaymentAmount(), p.getCurrencyCode(),
+				p.getPurposeCode(), p.getPaymentDate(), p.getAmountInWords()).toString();
+		return requests.stream().map(fields).collect(Collectors.toList());
+	}
+}
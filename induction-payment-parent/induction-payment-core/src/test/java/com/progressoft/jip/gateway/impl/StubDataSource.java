@@ -0,0 +1,251 @@
+package com.progressoft.jip.gateway.impl;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import javax.sql.DataSource;
+
+public class StubDataSource {
+
+	public static class Rows {
+		private final String[] labels;
+		private final List<Object[]> rows = new ArrayList<>();
+		private final int updateCount;
+
+		public Rows(String... labels) {
+			this.labels = labels;
+			this.updateCount = 0;
+		}
+
+		private Rows(int updateCount) {
+			this.labels = new String[0];
+			this.updateCount = updateCount;
+		}
+
+		public static Rows updated(int count) {
+			return new Rows(count);
+		}
+
+		public static Rows paymentRequests() {
+			return new Rows("id", "orderingAccountIBAN", "beneficiaryAccountIBAN", "beneficiaryName", "paymentAmount",
+					"currencyCode", "purposeCode", "paymentDate", "amountInWords");
+		}
+
+		public Rows row(Object... values) {
+			rows.add(values);
+			return this;
+		}
+	}
+
+	private final BiFunction<String, Object[], Rows> database;
+	private final long latencyMillis;
+	private final AtomicInteger roundTrips = new AtomicInteger();
+	private final AtomicInteger openResources = new AtomicInteger();
+	private volatile int lastFetchSize;
+
+	public StubDataSource(long latencyMillis, BiFunction<String, Object[], Rows> database) {
+		this.latencyMillis = latencyMillis;
+		this.database = database;
+	}
+
+	public int roundTrips() {
+		return roundTrips.get();
+	}
+
+	public int openResources() {
+		return openResources.get();
+	}
+
+	public int lastFetchSize() {
+		return lastFetchSize;
+	}
+
+	public DataSource dataSource() {
+		return proxy(DataSource.class, (method, args) -> {
+			if (method.getName().equals("getConnection"))
+				return connection();
+			return null;
+		});
+	}
+
+	private Connection connection() {
+		return proxy(Connection.class, closeable((method, args) -> {
+			if (method.getName().equals("prepareStatement"))
+				return statement((String) args[0]);
+			if (method.getName().equals("getAutoCommit"))
+				return true;
+			return null;
+		}));
+	}
+
+	private PreparedStatement statement(String sql) {
+		int parameterCount = (int) sql.chars().filter(c -> c == '?').count();
+		Object[] parameters = new Object[parameterCount];
+		List<Object[]> batch = new ArrayList<>();
+		Rows generatedKeys = new Rows("GENERATED_KEY");
+		ParameterMetaData metaData = proxy(ParameterMetaData.class, (method, args) -> {
+			if (method.getName().equals("getParameterCount"))
+				return parameterCount;
+			return null;
+		});
+		return proxy(PreparedStatement.class, closeable((method, args) -> {
+			switch (method.getName()) {
+			case "setFetchSize":
+				lastFetchSize = (int) args[0];
+				return null;
+			case "getParameterMetaData":
+				return metaData;
+			case "setObject":
+			case "setNull":
+				parameters[(int) args[0] - 1] = method.getName().equals("setNull") ? null : args[1];
+				return null;
+			case "executeQuery":
+				roundTrip();
+				return resultSet(database.apply(sql, parameters.clone()));
+			case "executeUpdate":
+				roundTrip();
+				generatedKeys.rows.clear();
+				return update(sql, parameters.clone(), generatedKeys);
+			case "addBatch":
+				batch.add(parameters.clone());
+				return null;
+			case "executeBatch":
+				roundTrip();
+				generatedKeys.rows.clear();
+				return executeBatch(sql, batch, generatedKeys);
+			case "getGeneratedKeys":
+				return resultSet(generatedKeys);
+			default:
+				return null;
+			}
+		}));
+	}
+
+	private int update(String sql, Object[] parameters, Rows generatedKeys) {
+		Rows result = database.apply(sql, parameters);
+		generatedKeys.rows.addAll(result.rows);
+		return result.updateCount;
+	}
+
+	private int[] executeBatch(String sql, List<Object[]> batch, Rows generatedKeys) throws BatchUpdateException {
+		int[] counts = new int[batch.size()];
+		boolean failed = false;
+		for (int i = 0; i < counts.length; i++) {
+			try {
+				counts[i] = update(sql, batch.get(i), generatedKeys);
+			} catch (RuntimeException e) {
+				counts[i] = Statement.EXECUTE_FAILED;
+				failed = true;
+			}
+		}
+		batch.clear();
+		if (failed)
+			throw new BatchUpdateException(counts);
+		return counts;
+	}
+
+	private void roundTrip() throws InterruptedException {
+		roundTrips.incrementAndGet();
+		TimeUnit.MILLISECONDS.sleep(latencyMillis);
+	}
+
+	private ResultSet resultSet(Rows result) {
+		int[] cursor = { -1 };
+		Object[] lastValue = { null };
+		ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (method, args) -> {
+			switch (method.getName()) {
+			case "getColumnCount":
+				return result.labels.length;
+			case "getColumnLabel":
+			case "getColumnName":
+				return result.labels[(int) args[0] - 1];
+			default:
+				return null;
+			}
+		});
+		return proxy(ResultSet.class, closeable((method, args) -> {
+			String name = method.getName();
+			if (name.equals("next"))
+				return ++cursor[0] < result.rows.size();
+			if (name.equals("getMetaData"))
+				return metaData;
+			if (name.equals("wasNull"))
+				return lastValue[0] == null;
+			if (name.startsWith("get") && args != null && args.length == 1) {
+				int index = args[0] instanceof Integer ? (int) args[0]
+						: Arrays.asList(result.labels).indexOf(args[0]) + 1;
+				lastValue[0] = result.rows.get(cursor[0])[index - 1];
+				return convert(lastValue[0], method.getReturnType());
+			}
+			return null;
+		}));
+	}
+
+	private static Object convert(Object value, Class<?> type) {
+		if (value == null)
+			return defaultValue(type);
+		if (type == int.class)
+			return ((Number) value).intValue();
+		if (type == long.class)
+			return ((Number) value).longValue();
+		if (type == double.class)
+			return ((Number) value).doubleValue();
+		if (type == String.class)
+			return value.toString();
+		return value;
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		if (type == boolean.class)
+			return false;
+		if (type == int.class)
+			return 0;
+		if (type == long.class)
+			return 0L;
+		if (type == double.class)
+			return 0d;
+		return null;
+	}
+
+	private interface Handler {
+		Object handle(Method method, Object[] args) throws Exception;
+	}
+
+	private Handler closeable(Handler handler) {
+		openResources.incrementAndGet();
+		boolean[] closed = { false };
+		return (method, args) -> {
+			if (method.getName().equals("close") && !closed[0]) {
+				closed[0] = true;
+				openResources.decrementAndGet();
+			}
+			return handler.handle(method, args);
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Handler handler) {
+		InvocationHandler invocationHandler = (proxy, method, args) -> {
+			if (method.getDeclaringClass() == Object.class)
+				return method.invoke(handler, args);
+			Object value = handler.handle(method, args);
+			return value == null ? defaultValue(method.getReturnType()) : value;
+		};
+		return (T) Proxy.newProxyInstance(StubDataSource.class.getClassLoader(), new Class<?>[] { type },
+				invocationHandler);
+	}
+}
@@ -0,0 +1,120 @@
+package com.progressoft.jip.gateway.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateway.sql.YahooCurrencyExchangeRateGateway;
+import com.progressoft.jip.utilities.restful.RestfulResponseFormat;
+import com.progressoft.jip.utilities.restful.impl.YahooCurrenciesXmlResponseParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+public class YahooCurrencyExchangeRateGatewayHttpTest {
+
+	private static final String RATE = "<query><results><rate id=\"USDJOD\"><Name>USD/JOD</Name><Rate>0.7090</Rate>"
+			+ "</rate></results></query>";
+
+	private HttpServer server;
+	private Set<Integer> clientPorts;
+	private volatile int status;
+	private volatile long delayMillis;
+
+	@Before
+	public void startServer() throws IOException {
+		clientPorts = ConcurrentHashMap.newKeySet();
+		status = 200;
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/yql", this::respond);
+		server.start();
+	}
+
+	@After
+	public void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	public void givenStubServer_LoadingRate_ShouldParseTheStreamedResponse() {
+		CurrencyExchangeRate rate = gateway(1000).loadCurrencyExchangeRate("JOD", "USD");
+
+		assertEquals("JOD", rate.getCodeFrom());
+		assertEquals("USD", rate.getCodeTo());
+		assertEquals(0.709, rate.getRate(), 0);
+	}
+
+	@Test
+	public void givenSequentialRequests_LoadingRates_ShouldReuseOneKeepAliveConnection() {
+		YahooCurrencyExchangeRateGateway gateway = gateway(1000);
+		for (int i = 0; i < 5; i++)
+			gateway.loadCurrencyExchangeRate("JOD", "USD");
+
+		assertEquals(1, clientPorts.size());
+	}
+
+	@Test
+	public void givenStubServer_LoadingRateAsync_ShouldCompleteWithTheRate() throws Exception {
+		assertEquals(0.709, gateway(1000).loadCurrencyExchangeRateAsync("JOD", "USD").get(5, TimeUnit.SECONDS).getRate(),
+				0);
+	}
+
+	@Test
+	public void givenSlowServer_LoadingRate_ShouldFailAfterTheReadTimeout() {
+		delayMillis = 2000;
+		long start = System.nanoTime();
+		try {
+			gateway(200).loadCurrencyExchangeRate("JOD", "USD");
+		} catch (IllegalStateException e) {
+			assertTrue(System.nanoTime() - start < TimeUnit.MILLISECONDS.toNanos(1500));
+			return;
+		}
+		throw new AssertionError("expected the read to time out");
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void givenServerError_LoadingRate_ShouldThrowIllegalState() {
+		status = 503;
+		gateway(1000).loadCurrencyExchangeRate("JOD", "USD");
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void givenClosedGateway_LoadingRateAsync_ShouldRejectTheRequest() {
+		YahooCurrencyExchangeRateGateway gateway = gateway(1000);
+		gateway.close();
+
+		gateway.loadCurrencyExchangeRateAsync("JOD", "USD");
+	}
+
+	private YahooCurrencyExchangeRateGateway gateway(int readTimeoutMillis) {
+		return new YahooCurrencyExchangeRateGateway("http://127.0.0.1:" + server.getAddress().getPort() + "/yql?q=",
+				RestfulResponseFormat.XML, new YahooCurrenciesXmlResponseParser(), 1000, readTimeoutMillis);
+	}
+
+	private void respond(HttpExchange exchange) throws IOException {
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		try {
+			Thread.sleep(delayMillis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		byte[] body = RATE.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/xml; charset=UTF-8");
+		exchange.sendResponseHeaders(status, body.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+}
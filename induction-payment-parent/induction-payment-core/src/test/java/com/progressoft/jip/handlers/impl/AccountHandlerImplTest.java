@@ -0,0 +1,53 @@
+package com.progressoft.jip.handlers.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.Test;
+
+import com.progressoft.jip.beans.Account;
+import com.progressoft.jip.datastructures.Amount;
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.handlers.exceptions.AccountDoesNotHaveEnoughBalanceException;
+
+public class AccountHandlerImplTest {
+
+	private final AccountHandlerImpl handler = new AccountHandlerImpl(account -> {
+	});
+
+	@Test
+	public void givenForeignAmount_Debiting_ShouldSubtractItRoundedToTheAccountMinorUnit() {
+		Account account = account("USD", "500.00");
+
+		handler.debit(account, jod("100.005"));
+
+		assertEquals(new BigDecimal("358.99"), account.getBalance());
+	}
+
+	@Test(expected = AccountDoesNotHaveEnoughBalanceException.class)
+	public void givenDebitOneMinorUnitAboveALargeBalance_Debiting_ShouldThrowNotEnoughBalance() {
+		handler.debit(account("JOD", "9007199254740.993"), jod("9007199254740.994"));
+	}
+
+	@Test
+	public void givenAmount_Crediting_ShouldAddItExactly() {
+		Account account = account("JOD", "0.100");
+
+		handler.credit(account, jod("0.200"));
+
+		assertEquals(new BigDecimal("0.300"), account.getBalance());
+	}
+
+	private static Amount jod(String value) {
+		return new Amount((from, to) -> new CurrencyExchangeRateHandler(new CurrencyExchangeRate(from, to, 1.41)),
+				new BigDecimal(value), "JOD");
+	}
+
+	private static Account account(String currencyCode, String balance) {
+		Account account = new Account();
+		account.setCurrencyCode(currencyCode);
+		account.setBalance(new BigDecimal(balance));
+		return account;
+	}
+}
@@ -0,0 +1,32 @@
+package com.progressoft.jip.iban.console;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.progressoft.jip.iban.IBANValidationStatus;
+import com.progressoft.jip.iban.impl.BulkIBANValidator;
+
+public class IBANValidationCommandTest {
+
+	@Test
+	public void givenCsvWithHeader_RunningCommand_ShouldWriteOneResultRowPerIban() throws IOException {
+		String csv = "IBAN,beneficiary\n" + "CR0515202001026284066,Ahmad\n" + "\"CR0615202001026284066\",Sami\n"
+				+ "XX0515202001026284066\n" + "JO94\n";
+		StringWriter out = new StringWriter();
+
+		Map<IBANValidationStatus, Long> summary = new IBANValidationCommand(new BulkIBANValidator())
+				.run(new StringReader(csv), out);
+
+		assertEquals(String.join(System.lineSeparator(), "line,iban,status", "2,CR0515202001026284066,VALID",
+				"3,CR0615202001026284066,BAD_CHECKSUM", "4,XX0515202001026284066,UNKNOWN_COUNTRY",
+				"5,JO94,BAD_FORMAT", ""), out.toString());
+		assertEquals(Long.valueOf(1), summary.get(IBANValidationStatus.VALID));
+		assertEquals(4, summary.values().stream().mapToLong(Long::longValue).sum());
+	}
+}
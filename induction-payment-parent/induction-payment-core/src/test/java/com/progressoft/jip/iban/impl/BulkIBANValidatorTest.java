@@ -0,0 +1,78 @@
+package com.progressoft.jip.iban.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.progressoft.jip.iban.IBANValidationResult;
+import com.progressoft.jip.iban.IBANValidationStatus;
+
+public class BulkIBANValidatorTest {
+
+	private final BulkIBANValidator validator = new BulkIBANValidator();
+
+	@Test
+	public void givenIbans_CheckingThem_ShouldReportWhyEachFailed() {
+		assertEquals(IBANValidationStatus.VALID, validator.check("CR0515202001026284066"));
+		assertEquals(IBANValidationStatus.BAD_CHECKSUM, validator.check("CR0615202001026284066"));
+		assertEquals(IBANValidationStatus.BAD_FORMAT, validator.check("CR05152020010262840"));
+		assertEquals(IBANValidationStatus.BAD_FORMAT, validator.check("cr0515202001026284066"));
+		assertEquals(IBANValidationStatus.BAD_FORMAT, validator.check(""));
+		assertEquals(IBANValidationStatus.BAD_FORMAT, validator.check(null));
+		assertEquals(IBANValidationStatus.UNKNOWN_COUNTRY, validator.check("XX0515202001026284066"));
+	}
+
+	@Test
+	public void givenFormatTestCorpus_ValidatingInParallel_ShouldAcceptAllInInputOrder() throws IOException {
+		List<String> corpus;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			corpus = reader.lines().map(String::trim).collect(Collectors.toList());
+		}
+
+		List<IBANValidationResult> results = validator.validate(corpus);
+
+		assertEquals(corpus.size(), results.size());
+		for (int i = 0; i < results.size(); i++) {
+			assertEquals(i + 1, results.get(i).getLineNumber());
+			assertEquals(corpus.get(i), results.get(i).getIban());
+			assertTrue(results.get(i).isValid());
+		}
+	}
+
+	@Test
+	public void givenStreamLongerThanChunk_Validating_ShouldDeliverEveryLineInOrder() {
+		BulkIBANValidator chunked = new BulkIBANValidator(IBANCountryFormatsRegistry.getInstance(), 7);
+		List<String> ibans = IntStream.range(0, 100)
+				.mapToObj(i -> i % 3 == 0 ? "CR0515202001026284066" : "XX" + i).collect(Collectors.toList());
+		List<IBANValidationResult> results = new ArrayList<>();
+
+		long count = chunked.validate(ibans.stream(), results::add);
+
+		assertEquals(100, count);
+		assertEquals(ibans, results.stream().map(IBANValidationResult::getIban).collect(Collectors.toList()));
+		assertEquals(IntStream.rangeClosed(1, 100).boxed().map(Long::valueOf).collect(Collectors.toList()),
+				results.stream().map(IBANValidationResult::getLineNumber).collect(Collectors.toList()));
+		assertEquals(34, results.stream().filter(IBANValidationResult::isValid).count());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenZeroChunkSize_CreatingValidator_ShouldThrowIllegalArgumentException() {
+		new BulkIBANValidator(IBANCountryFormatsRegistry.getInstance(), 0);
+	}
+
+	@Test
+	public void givenEmptyList_Validating_ShouldReturnNoResults() {
+		assertEquals(0, validator.validate(Arrays.asList()).size());
+	}
+}
@@ -0,0 +1,48 @@
+package com.progressoft.jip.iban.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import com.progressoft.jip.iban.exception.CountryCodeNotFoundException;
+
+public class IBANCountryFormatsRegistryTest {
+
+	private final IBANCountryFormatsRegistry registry = IBANCountryFormatsRegistry.getInstance();
+
+	@Test
+	public void givenRegistry_GettingItTwice_ShouldReturnTheSameInstance() {
+		assertSame(registry, IBANCountryFormatsRegistry.getInstance());
+	}
+
+	@Test
+	public void givenKnownCountryCode_GettingCountryFormat_ShouldReturnParsedColumns() {
+		IBANCountryFormat format = registry.getCountryFormat("AL");
+
+		assertEquals("Albania", format.getCountryName());
+		assertEquals("AL2!n8!n16!c", format.getIbanFormat());
+		assertEquals(28, format.getIbanLength());
+	}
+
+	@Test
+	public void givenRegistry_CountingCountries_ShouldHaveOneEntryPerCsvLine() {
+		assertEquals(69, registry.getCountryFormats().size());
+	}
+
+	@Test
+	public void givenUnknownCountryCode_FindingCountryFormat_ShouldReturnNull() {
+		assertNull(registry.findCountryFormat("XX"));
+	}
+
+	@Test(expected = CountryCodeNotFoundException.class)
+	public void givenUnknownCountryCode_GettingCountryFormat_ShouldThrowCountryCodeNotFound() {
+		registry.getCountryFormat("XX");
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void givenRegistry_ModifyingCountryFormats_ShouldThrowUnsupportedOperation() {
+		registry.getCountryFormats().remove("AL");
+	}
+}
@@ -0,0 +1,92 @@
+package com.progressoft.jip.iban.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class IBANFormatMatcherTest {
+
+	private final IBANCountryFormatsRegistry registry = IBANCountryFormatsRegistry.getInstance();
+	private List<String> corpus;
+
+	@Before
+	public void loadCorpus() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			corpus = reader.lines().map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void givenFormatTestCorpus_MatchingEachIban_ShouldAcceptAll() {
+		List<String> rejected = corpus.stream().filter(iban -> !matcherFor(iban).matches(iban))
+				.collect(Collectors.toList());
+
+		assertEquals(new ArrayList<String>(), rejected);
+	}
+
+	@Test
+	public void givenFormatTestCorpusAndMutations_MatchingEachIban_ShouldAgreeWithRegexBuiltFromFormat() {
+		for (String iban : corpus) {
+			IBANFormatMatcher matcher = matcherFor(iban);
+			Pattern regex = Pattern.compile(toRegex(matcher.getFormat()));
+			for (String candidate : mutations(iban))
+				assertEquals(candidate, regex.matcher(candidate).matches(), matcher.matches(candidate));
+		}
+	}
+
+	@Test
+	public void givenFormat_CompilingIt_ShouldExpandToOnePositionPerCharacter() {
+		IBANFormatMatcher matcher = IBANFormatMatcher.compile("AL2!n8!n16!c");
+
+		assertEquals(28, matcher.length());
+		assertTrue(matcher.matches("AL47212110090000000235698741"));
+		assertFalse(matcher.matches("AL4721211009000000023569874"));
+		assertFalse(matcher.matches("AX47212110090000000235698741"));
+		assertFalse(matcher.matches("AL4A212110090000000235698741"));
+	}
+
+	private IBANFormatMatcher matcherFor(String iban) {
+		return registry.getCountryFormat(iban.substring(0, 2)).getFormatMatcher();
+	}
+
+	private static List<String> mutations(String iban) {
+		List<String> mutations = new ArrayList<>();
+		mutations.add(iban);
+		mutations.add(iban.substring(0, iban.length() - 1));
+		mutations.add(iban + "0");
+		for (int i = 0; i < iban.length(); i++) {
+			for (char replacement : new char[] { '0', 'Z', 'z', '-' }) {
+				StringBuilder mutated = new StringBuilder(iban);
+				mutated.setCharAt(i, replacement);
+				mutations.add(mutated.toString());
+			}
+		}
+		return mutations;
+	}
+
+	private static String toRegex(String format) {
+		Matcher matcher = Pattern.compile("([0-9]{1,2})!([nac])").matcher(format);
+		StringBuffer regex = new StringBuffer();
+		while (matcher.find()) {
+			String count = matcher.group(1);
+			String type = matcher.group(2);
+			String characterClass = "n".equals(type) ? "[0-9]" : "a".equals(type) ? "[a-zA-Z]" : "[0-9a-zA-Z]";
+			matcher.appendReplacement(regex, characterClass + "{" + count + "}");
+		}
+		matcher.appendTail(regex);
+		return regex.toString();
+	}
+}
@@ -0,0 +1,45 @@
+package com.progressoft.jip.iban.impl;
+
+import static com.progressoft.jip.benchmarks.Benchmarks.medianNanos;
+import static com.progressoft.jip.benchmarks.Benchmarks.perOperation;
+import static com.progressoft.jip.benchmarks.Benchmarks.report;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class IBANModValidatorBenchmark {
+
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 9;
+
+	private final IBANModValidator validator = new IBANModValidator();
+	private List<String> corpus;
+
+	@Before
+	public void loadCorpus() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			corpus = reader.lines().map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void checkMod97OverFormatTestCorpus() throws Exception {
+		long legacy = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> countValid(LegacyMod97::isValid));
+		long inPlace = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> countValid(validator::isValid));
+
+		report(corpus.size() + " IBANs, mod-97", perOperation("string based", legacy, corpus.size()),
+				perOperation("in place", inPlace, corpus.size()));
+	}
+
+	private long countValid(Predicate<String> checksum) {
+		return corpus.stream().filter(checksum).count();
+	}
+}
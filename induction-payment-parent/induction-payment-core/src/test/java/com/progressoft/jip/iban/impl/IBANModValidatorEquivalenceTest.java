@@ -0,0 +1,44 @@
+package com.progressoft.jip.iban.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class IBANModValidatorEquivalenceTest {
+
+	private final IBANModValidator validator = new IBANModValidator();
+	private List<String> corpus;
+
+	@Before
+	public void loadCorpus() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			corpus = reader.lines().map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void givenFormatTestCorpusAndMutations_CheckingMod97_ShouldAgreeWithStringBasedChecksum() {
+		int valid = 0;
+		for (String iban : corpus) {
+			for (int i = 0; i < iban.length(); i++) {
+				for (char digit = '0'; digit <= '9'; digit++) {
+					StringBuilder mutated = new StringBuilder(iban);
+					mutated.setCharAt(i, iban.charAt(i) >= 'A' ? iban.charAt(i) : digit);
+					String candidate = mutated.toString();
+					assertEquals(candidate, LegacyMod97.isValid(candidate), validator.isValid(candidate));
+				}
+			}
+			if (validator.isValid(iban))
+				valid++;
+		}
+		assertEquals(corpus.size(), valid);
+	}
+}
@@ -0,0 +1,96 @@
+package com.progressoft.jip.iban.impl;
+
+import static com.progressoft.jip.benchmarks.Benchmarks.medianNanos;
+import static com.progressoft.jip.benchmarks.Benchmarks.perOperation;
+import static com.progressoft.jip.benchmarks.Benchmarks.report;
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.iban.IBANGeneralValidator;
+
+public class IBANValidationBenchmark {
+
+	private static final int WARMUP_ROUNDS = 3;
+	private static final int MEASURED_ROUNDS = 5;
+
+	private List<String> ibans;
+
+	@Before
+	public void loadIbans() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			ibans = reader.lines().map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void lookUpCountryFormatPerIban() throws Exception {
+		IBANCountryFormatsRegistry registry = IBANCountryFormatsRegistry.getInstance();
+		assertEquals(lengths(LegacyCountryFormats::getIBANLength),
+				lengths(code -> registry.getCountryFormat(code).getIbanLength()));
+
+		long reread = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS, () -> lengths(LegacyCountryFormats::getIBANLength));
+		long shared = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> lengths(code -> registry.getCountryFormat(code).getIbanLength()));
+
+		report(ibans.size() + " IBANs, country format lookup", perOperation("csv read per call", reread, ibans.size()),
+				perOperation("shared registry", shared, ibans.size()));
+	}
+
+	@Test
+	public void validateIbans() throws Exception {
+		IBANGeneralValidator validator = new IBANGeneralValidator();
+
+		long validated = medianNanos(WARMUP_ROUNDS, MEASURED_ROUNDS,
+				() -> ibans.stream().filter(validator::isValid).count());
+
+		report(ibans.size() + " IBANs, full validation", perOperation("shared registry", validated, ibans.size()));
+	}
+
+	private long lengths(CountryLength length) {
+		long total = 0;
+		for (String iban : ibans)
+			total += length.of(iban.substring(0, 2));
+		return total;
+	}
+
+	private interface CountryLength {
+		int of(String countryCode);
+	}
+
+	/**
+	 * Country formats looked up the way they were before the registry: the CSV
+	 * is scanned from the classpath on every call.
+	 */
+	private static class LegacyCountryFormats {
+		private static final String IBAN_COUNTRY_FORMATS_FILE = "ibanformats/IBANCountryFormats.csv";
+		private static final int COUNTRY_CODE_INDEX = 1;
+		private static final int IBAN_LENGTH_INDEX = 3;
+
+		static int getIBANLength(String countryCode) {
+			return Integer.parseInt(line(countryCode).split(",")[IBAN_LENGTH_INDEX].trim());
+		}
+
+		private static String line(String countryCode) {
+			try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+					LegacyCountryFormats.class.getClassLoader().getResourceAsStream(IBAN_COUNTRY_FORMATS_FILE),
+					StandardCharsets.UTF_8))) {
+				Optional<String> line = reader.lines()
+						.filter(l -> l.split(",")[COUNTRY_CODE_INDEX].equals(countryCode)).findAny();
+				return line.orElseThrow(IllegalStateException::new);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,57 @@
+package com.progressoft.jip.iban.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.iban.IBANGeneralValidator;
+import com.progressoft.jip.iban.IBANValidationStatus;
+import com.progressoft.jip.iban.exception.InvalidIBANException;
+
+public class IBANValidationTest {
+
+	private List<String> ibans;
+
+	@Before
+	public void loadIbans() throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+				getClass().getClassLoader().getResourceAsStream("ibanformats/IBANFormatTest.csv")))) {
+			ibans = reader.lines().map(String::trim).filter(l -> !l.isEmpty()).collect(Collectors.toList());
+		}
+	}
+
+	@Test
+	public void givenTestIbans_ValidatingThemWithTheSharedRegistry_ShouldAcceptEveryOne() throws InvalidIBANException {
+		IBANGeneralValidator validator = new IBANGeneralValidator();
+		for (String iban : ibans)
+			validator.validate(iban);
+	}
+
+	@Test
+	public void givenInvalidIbans_CheckingAndValidatingThem_ShouldAgreeWithoutThrowingFromCheck() {
+		IBANGeneralValidator validator = new IBANGeneralValidator();
+		List<String> invalid = ibans.stream().map(IBANValidationTest::breakChecksum).collect(Collectors.toList());
+		for (String iban : invalid) {
+			assertEquals(IBANValidationStatus.BAD_CHECKSUM, validator.check(iban));
+			try {
+				validator.validate(iban);
+				fail("expected " + iban + " to be rejected");
+			} catch (InvalidIBANException e) {
+				// the exception path rejects the same IBAN
+			}
+		}
+	}
+
+	private static String breakChecksum(String iban) {
+		char digit = iban.charAt(2);
+		return iban.substring(0, 2) + (char) (digit == '9' ? '0' : digit + 1) + iban.substring(3);
+	}
+}
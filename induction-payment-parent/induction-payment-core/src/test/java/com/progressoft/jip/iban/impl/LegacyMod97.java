@@ -0,0 +1,38 @@
+package com.progressoft.jip.iban.impl;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The checksum as it was computed before it walked the characters in place,
+ * kept as the reference for equivalence and the benchmark.
+ */
+final class LegacyMod97 {
+
+	private static final int SEVEN_DIGITS = 7;
+	private static final int CHARS_TO_MOVE = 4;
+	private static final long TEN_POW_SEVEN_MOD_97 = 10_000_000 % 97;
+
+	private LegacyMod97() {
+	}
+
+	static boolean isValid(String iban) {
+		String result = iban.substring(CHARS_TO_MOVE) + iban.substring(0, CHARS_TO_MOVE);
+		result = Stream.of(result.split(""))
+				.map(c -> c.charAt(0) >= 'A' && c.charAt(0) <= 'Z'
+						? Integer.toString(c.charAt(0) - 'A' + 10) : c)
+				.collect(Collectors.joining());
+		int start = result.length();
+		int end = start;
+		long base = 1;
+		long remainder = 0;
+		while (start > 0) {
+			start = Math.max(start - SEVEN_DIGITS, 0);
+			long digits = (Long.parseLong(result.substring(start, end)) % 97 * base) % 97;
+			remainder = (remainder + digits) % 97;
+			base = (base * TEN_POW_SEVEN_MOD_97) % 97;
+			end -= SEVEN_DIGITS;
+		}
+		return remainder == 1;
+	}
+}
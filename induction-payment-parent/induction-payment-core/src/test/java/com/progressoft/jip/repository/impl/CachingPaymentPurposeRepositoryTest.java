@@ -0,0 +1,77 @@
+package com.progressoft.jip.repository.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.beans.PaymentPurpose;
+import com.progressoft.jip.gateways.exceptions.PaymentPurposeNotFoundException;
+import com.progressoft.jip.handlers.impl.PaymentPurposeHandlerImpl;
+import com.progressoft.jip.handlers.validators.impl.PaymentPurposeValidator;
+import com.progressoft.jip.usecases.PaymentPurposeGatewayMock;
+import com.progressoft.jip.usecases.PaymentPurposeUseCases;
+import com.progressoft.jip.usecases.impl.PaymentPurposeUseCasesImpl;
+
+public class CachingPaymentPurposeRepositoryTest {
+
+	private AtomicInteger loads;
+	private CachingPaymentPurposeRepository repository;
+	private PaymentPurposeUseCases useCases;
+
+	@Before
+	public void setUp() {
+		loads = new AtomicInteger();
+		repository = new CachingPaymentPurposeRepository(
+				new PaymentPurposeRepositoryImpl(new PaymentPurposeGatewayMock() {
+					@Override
+					public PaymentPurpose loadPaymentPurposeByCode(String code) {
+						loads.incrementAndGet();
+						return super.loadPaymentPurposeByCode(code);
+					}
+				}));
+		useCases = new PaymentPurposeUseCasesImpl(repository,
+				new PaymentPurposeHandlerImpl(new PaymentPurposeValidator()));
+	}
+
+	@Test
+	public void givenCachedPurpose_LoadingItAgain_ShouldNotHitTheGateway() {
+		for (int i = 0; i < 10; i++)
+			assertEquals("SALARY", repository.loadPaymentPurposeByCode("SALA").getName());
+
+		assertEquals(1, loads.get());
+		assertEquals(9, repository.getHits());
+		assertEquals(1, repository.getMisses());
+	}
+
+	@Test
+	public void givenCachedPurposes_CreatingPurposeThroughUseCases_ShouldRefreshTheList() throws Exception {
+		assertEquals(2, useCases.getAllPaymentPurposes().size());
+		assertEquals(2, useCases.getAllPaymentPurposes().size());
+
+		useCases.createPaymentPurpose(new PaymentPurpose("GIFT", "GIFT"));
+
+		assertEquals(3, useCases.getAllPaymentPurposes().size());
+	}
+
+	@Test
+	public void givenCachedPurpose_EditingItThroughUseCases_ShouldReturnTheNewName() throws Exception {
+		repository.loadPaymentPurposeByCode("SALA");
+
+		useCases.editPaymentPurpose(new PaymentPurpose("SALA", "WAGES"));
+
+		assertEquals("WAGES", repository.loadPaymentPurposeByCode("SALA").getName());
+		assertEquals(2, loads.get());
+	}
+
+	@Test(expected = PaymentPurposeNotFoundException.class)
+	public void givenCachedPurpose_DeletingItThroughUseCases_ShouldStopServingIt() {
+		repository.loadPaymentPurposeByCode("NORM");
+
+		useCases.deletePaymentPurpose("NORM");
+
+		repository.loadPaymentPurposeByCode("NORM");
+	}
+}
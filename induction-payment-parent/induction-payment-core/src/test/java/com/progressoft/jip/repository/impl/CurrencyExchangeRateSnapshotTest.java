@@ -0,0 +1,231 @@
+package com.progressoft.jip.repository.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateway.CurrencyExchangeRateGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+
+public class CurrencyExchangeRateSnapshotTest {
+
+	private final Map<String, Double> usdRates = new ConcurrentHashMap<>();
+	private final AtomicInteger batches = new AtomicInteger();
+	private final List<Collection<String>> requestedCodes = new ArrayList<>();
+	private final AtomicLong clock = new AtomicLong();
+	private final Queue<Runnable> pendingRefreshes = new ArrayDeque<>();
+	private volatile boolean offline;
+	private StubCurrencyGateway currencies;
+	private CurrencyExchangeRateSnapshot snapshot;
+
+	private final CurrencyExchangeRateGateway batchingGateway = new CurrencyExchangeRateGateway() {
+		@Override
+		public CurrencyExchangeRate loadCurrencyExchangeRate(String codeFrom, String codeTo) {
+			throw new AssertionError("rates should be fetched in one batch");
+		}
+
+		@Override
+		public Collection<CurrencyExchangeRate> loadCurrencyExchangeRatesFrom(String codeFrom,
+				Collection<String> codesTo) {
+			batches.incrementAndGet();
+			if (offline)
+				throw new IllegalStateException("offline");
+			synchronized (requestedCodes) {
+				requestedCodes.add(codesTo);
+			}
+			List<CurrencyExchangeRate> rates = new ArrayList<>();
+			for (String codeTo : codesTo)
+				if (usdRates.containsKey(codeTo))
+					rates.add(new CurrencyExchangeRate(codeFrom, codeTo, usdRates.get(codeTo)));
+			return rates;
+		}
+	};
+
+	@Before
+	public void setUp() {
+		usdRates.put("JOD", 0.709);
+		usdRates.put("EUR", 0.92);
+		currencies = new StubCurrencyGateway("USD", "JOD", "EUR", "XXX");
+		snapshot = snapshot(batchingGateway);
+	}
+
+	@Test
+	public void givenKnownCurrencies_ReadingRates_ShouldFetchEveryOtherCodeInOneBatch() {
+		Map<String, BigDecimal> rates = snapshot.rates();
+
+		assertEquals(1, batches.get());
+		assertEquals(3, requestedCodes.get(0).size());
+		assertFalse(requestedCodes.get(0).contains("USD"));
+		assertEquals(new BigDecimal("0.709"), rates.get("JOD"));
+		assertEquals(new BigDecimal("0.92"), rates.get("EUR"));
+		assertFalse(rates.containsKey("XXX"));
+	}
+
+	@Test
+	public void givenFreshSnapshot_ReadingRatesAgain_ShouldNotFetchAgain() {
+		snapshot.rates();
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(3));
+		snapshot.rates();
+
+		assertEquals(1, batches.get());
+		assertEquals(1, currencies.loads());
+		assertEquals(0, pendingRefreshes.size());
+	}
+
+	@Test
+	public void givenExpiredSnapshot_ReadingRates_ShouldReloadCodesAndRates() {
+		snapshot.rates();
+		usdRates.put("JOD", 0.7095);
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+
+		assertEquals(new BigDecimal("0.7095"), snapshot.rates().get("JOD"));
+		assertEquals(2, batches.get());
+		assertEquals(2, currencies.loads());
+	}
+
+	@Test
+	public void givenSnapshotPastRefreshThreshold_ReadingRates_ShouldServeItAndRefreshOnceInBackground() {
+		snapshot.rates();
+		usdRates.put("JOD", 0.7095);
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(4));
+
+		assertEquals(new BigDecimal("0.709"), snapshot.rates().get("JOD"));
+		assertEquals(new BigDecimal("0.709"), snapshot.rates().get("JOD"));
+		assertEquals(1, pendingRefreshes.size());
+		assertEquals(1, batches.get());
+
+		pendingRefreshes.poll().run();
+
+		assertEquals(new BigDecimal("0.7095"), snapshot.rates().get("JOD"));
+		assertEquals(2, batches.get());
+		assertEquals(1, snapshot.getRefreshes());
+	}
+
+	@Test
+	public void givenRefreshRunningPastTtl_ReadingRates_ShouldServeTheStaleSnapshot() {
+		snapshot.rates();
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(4));
+		snapshot.rates();
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+		assertEquals(new BigDecimal("0.709"), snapshot.rates().get("JOD"));
+		assertEquals(1, batches.get());
+		assertEquals(1, snapshot.getMisses());
+	}
+
+	@Test
+	public void givenFailingRefresh_ReadingRates_ShouldKeepServingAndTryAgain() {
+		snapshot.rates();
+		offline = true;
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(4));
+		snapshot.rates();
+		pendingRefreshes.poll().run();
+
+		assertEquals(new BigDecimal("0.709"), snapshot.rates().get("JOD"));
+		assertEquals(1, snapshot.getRefreshFailures());
+		assertEquals(1, pendingRefreshes.size());
+	}
+
+	@Test
+	public void givenRejectingRefreshExecutor_ReadingRates_ShouldKeepServingAndCountTheFailure() {
+		CurrencyExchangeRateSnapshot rejecting = new CurrencyExchangeRateSnapshot(currencies, batchingGateway, r -> {
+			throw new RejectedExecutionException();
+		}, "USD", 5, 4, TimeUnit.MINUTES, clock::get);
+		rejecting.rates();
+		clock.addAndGet(TimeUnit.MINUTES.toNanos(4));
+
+		assertEquals(new BigDecimal("0.709"), rejecting.rates().get("JOD"));
+		assertEquals(new BigDecimal("0.709"), rejecting.rates().get("JOD"));
+		assertEquals(2, rejecting.getRefreshFailures());
+	}
+
+	@Test
+	public void givenConcurrentReadsOfMissingSnapshot_ReadingRates_ShouldLoadItOnce() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger pairs = new AtomicInteger();
+		CurrencyExchangeRateSnapshot slow = snapshot((from, to) -> {
+			loading.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			pairs.incrementAndGet();
+			return new CurrencyExchangeRate(from, to, usdRates.getOrDefault(to, 1.0));
+		});
+		ExecutorService readers = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<Map<String, BigDecimal>>> reads = new ArrayList<>();
+			for (int i = 0; i < 8; i++)
+				reads.add(slow::rates);
+			List<Future<Map<String, BigDecimal>>> results = new ArrayList<>();
+			for (Callable<Map<String, BigDecimal>> read : reads)
+				results.add(readers.submit(read));
+			loading.await(5, TimeUnit.SECONDS);
+			release.countDown();
+			for (Future<Map<String, BigDecimal>> result : results)
+				assertEquals(new BigDecimal("0.709"), result.get(5, TimeUnit.SECONDS).get("JOD"));
+		} finally {
+			readers.shutdownNow();
+		}
+
+		assertEquals(3, pairs.get());
+		assertEquals(1, currencies.loads());
+	}
+
+	@Test
+	public void givenHitsAndMisses_ReadingMetrics_ShouldReportHitRatioAndAge() {
+		assertFalse(snapshot.getAge(TimeUnit.SECONDS).isPresent());
+		for (int i = 0; i < 4; i++)
+			snapshot.rates();
+		clock.addAndGet(TimeUnit.SECONDS.toNanos(90));
+
+		assertEquals(3, snapshot.getHits());
+		assertEquals(1, snapshot.getMisses());
+		assertEquals(0.75, snapshot.getHitRatio(), 0);
+		assertEquals(90, snapshot.getAge(TimeUnit.SECONDS).getAsLong());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void givenSnapshot_ModifyingItsRates_ShouldBeRejected() {
+		snapshot.rates().put("JOD", BigDecimal.ONE);
+	}
+
+	@Test
+	public void givenPerPairGateway_ReadingRates_ShouldLeaveOutUnknownPairs() {
+		CurrencyExchangeRateSnapshot perPair = snapshot((from, to) -> {
+			if (!usdRates.containsKey(to))
+				throw new CurrencyCodeNotFoundException();
+			return new CurrencyExchangeRate(from, to, usdRates.get(to));
+		});
+
+		assertEquals(2, perPair.rates().size());
+	}
+
+	private CurrencyExchangeRateSnapshot snapshot(CurrencyExchangeRateGateway gateway) {
+		return new CurrencyExchangeRateSnapshot(currencies, gateway, pendingRefreshes::add, "USD", 5, 4,
+				TimeUnit.MINUTES, clock::get);
+	}
+}
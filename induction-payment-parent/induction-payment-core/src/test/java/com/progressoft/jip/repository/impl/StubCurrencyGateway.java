@@ -0,0 +1,50 @@
+package com.progressoft.jip.repository.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.progressoft.jip.beans.Currency;
+import com.progressoft.jip.gateways.CurrencyGateway;
+import com.progressoft.jip.gateways.exceptions.CurrencyNotFoundExption;
+import com.progressoft.jip.gateways.views.CurrencyView;
+
+/**
+ * A {@link CurrencyGateway} over a fixed list of codes that counts how often
+ * the full list is loaded.
+ */
+class StubCurrencyGateway implements CurrencyGateway {
+
+	private final List<CurrencyView> currencies = new ArrayList<>();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	StubCurrencyGateway(String... codes) {
+		for (String code : codes) {
+			Currency currency = new Currency();
+			currency.setCode(code);
+			currencies.add(currency);
+		}
+	}
+
+	@Override
+	public Collection<CurrencyView> loadCurrencies() {
+		loads.incrementAndGet();
+		return currencies;
+	}
+
+	@Override
+	public CurrencyView loadCurrencyByCode(String currencyCode) {
+		return findCurrencyByCode(currencyCode).orElseThrow(CurrencyNotFoundExption::new);
+	}
+
+	@Override
+	public Optional<CurrencyView> findCurrencyByCode(String currencyCode) {
+		return currencies.stream().filter(currency -> currency.getCode().equals(currencyCode)).findAny();
+	}
+
+	int loads() {
+		return loads.get();
+	}
+}
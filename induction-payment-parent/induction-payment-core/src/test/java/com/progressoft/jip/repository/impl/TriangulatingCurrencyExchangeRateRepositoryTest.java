@@ -0,0 +1,84 @@
+package com.progressoft.jip.repository.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.datastructures.Amount;
+import com.progressoft.jip.datastructures.CurrencyExchangeRate;
+import com.progressoft.jip.gateways.exceptions.CurrencyCodeNotFoundException;
+
+public class TriangulatingCurrencyExchangeRateRepositoryTest {
+
+	private static final List<String> CURRENCIES = Arrays.asList("USD", "JOD", "EUR", "GBP");
+
+	private Map<String, Double> usdRates;
+	private AtomicInteger fetches;
+	private CurrencyExchangeRateSnapshot snapshot;
+	private TriangulatingCurrencyExchangeRateRepository repository;
+
+	@Before
+	public void setUp() {
+		usdRates = new HashMap<>();
+		usdRates.put("JOD", 0.709);
+		usdRates.put("EUR", 0.92);
+		usdRates.put("GBP", 0.79);
+		fetches = new AtomicInteger();
+		snapshot = new CurrencyExchangeRateSnapshot(new StubCurrencyGateway(CURRENCIES.toArray(new String[0])),
+				(from, to) -> {
+					fetches.incrementAndGet();
+					if (!"USD".equals(from) || !usdRates.containsKey(to))
+						throw new CurrencyCodeNotFoundException();
+					return new CurrencyExchangeRate(from, to, usdRates.get(to));
+				}, Runnable::run);
+		repository = new TriangulatingCurrencyExchangeRateRepository(snapshot);
+	}
+
+	@Test
+	public void givenRatesFromBase_LoadingCrossRate_ShouldDivideAndRoundToScale() {
+		assertEquals(new BigDecimal("1.297602"), repository.rate("JOD", "EUR"));
+		assertEquals(new BigDecimal("0.770652"), repository.rate("EUR", "JOD"));
+		assertEquals(new BigDecimal("1.410437"), repository.rate("JOD", "USD"));
+		assertEquals(new BigDecimal("0.709"), repository.rate("USD", "JOD"));
+		assertEquals(BigDecimal.ONE, repository.rate("GBP", "GBP"));
+	}
+
+	@Test
+	public void givenFourCurrencies_LoadingEveryPair_ShouldFetchAndKeepOnlyBaseRates() {
+		for (String from : CURRENCIES)
+			for (String to : CURRENCIES)
+				repository.loadCurrencyExchangeRate(from, to);
+
+		assertEquals(3, fetches.get());
+		assertEquals(3, snapshot.rates().size());
+	}
+
+	@Test
+	public void givenCustomRoundingPolicy_LoadingCrossRate_ShouldApplyIt() {
+		TriangulatingCurrencyExchangeRateRepository twoDecimals = new TriangulatingCurrencyExchangeRateRepository(
+				snapshot, 2, RoundingMode.DOWN);
+
+		assertEquals(new BigDecimal("1.29"), twoDecimals.rate("JOD", "EUR"));
+	}
+
+	@Test
+	public void givenAmount_ValuingItInAnotherCurrency_ShouldUseTriangulatedRate() {
+		Amount amount = new Amount(repository, new BigDecimal("100.00"), "JOD");
+
+		assertEquals(new BigDecimal("129.76020000"), amount.valueIn("EUR"));
+	}
+
+	@Test(expected = CurrencyCodeNotFoundException.class)
+	public void givenUnknownCurrency_LoadingCrossRate_ShouldThrowCurrencyCodeNotFound() {
+		repository.rate("JOD", "XXX");
+	}
+}
@@ -3,7 +3,9 @@ package com.progressoft.jip.usecases;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.progressoft.jip.beans.PaymentPurpose;
 import com.progressoft.jip.gateways.PaymentPurposeGateway;
@@ -45,6 +47,16 @@ public class PaymentPurposeGatewayMock implements PaymentPurposeGateway {
 		return Collections.unmodifiableCollection(paymentPurposes);
 	}
 
+	@Override
+	public Map<String, PaymentPurposeView> loadPaymentPurposesByCodes(Collection<String> codes) {
+		Map<String, PaymentPurposeView> loaded = new HashMap<>();
+		for (PaymentPurposeView purpose : paymentPurposes) {
+			if (codes.contains(purpose.getCode()))
+				loaded.put(purpose.getCode(), purpose);
+		}
+		return loaded;
+	}
+
 	@Override
 	public void deletePaymentPurposeByCode(String code) {
 		for (int i = 0; i < paymentPurposes.size(); i++) {
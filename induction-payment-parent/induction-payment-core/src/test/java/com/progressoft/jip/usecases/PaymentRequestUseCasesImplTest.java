@@ -0,0 +1,180 @@
+package com.progressoft.jip.usecases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.beans.Account;
+import com.progressoft.jip.beans.PaymentPurpose;
+import com.progressoft.jip.beans.PaymentRequest;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.gateways.AccountGateway;
+import com.progressoft.jip.gateways.PaymentPurposeGateway;
+import com.progressoft.jip.gateways.PaymentRequestGateway;
+import com.progressoft.jip.gateways.exceptions.AccountNotFoundException;
+import com.progressoft.jip.gateways.exceptions.PaymentPurposeNotFoundException;
+import com.progressoft.jip.gateways.views.PaymentRequestView;
+import com.progressoft.jip.handlers.exceptions.ValidationException;
+import com.progressoft.jip.handlers.impl.PaymentRequestHandlerImpl;
+import com.progressoft.jip.handlers.validators.impl.PaymentPurposeValidator;
+import com.progressoft.jip.handlers.validators.impl.PaymentRequestValidator;
+import com.progressoft.jip.iban.IBANGeneralValidator;
+import com.progressoft.jip.iban.exception.InvalidIBANException;
+import com.progressoft.jip.repository.PaymentRequestRepository;
+import com.progressoft.jip.repository.impl.AccountRepositoryImpl;
+import com.progressoft.jip.repository.impl.PaymentPurposeRepositoryImpl;
+import com.progressoft.jip.repository.impl.PaymentRequestRepositoryImpl;
+import com.progressoft.jip.report.ReportProvider;
+import com.progressoft.jip.rules.impl.PaymentRules;
+import com.progressoft.jip.usecases.impl.PaymentRequestUseCasesImpl;
+import com.progressoft.jip.utilities.chequewriting.impl.AbstractAmountWriter;
+import com.progressoft.jip.utilities.chequewriting.impl.EnglishChequeAmountWriter;
+
+public class PaymentRequestUseCasesImplTest {
+
+	private static final String ORDERING_IBAN = "JO94CBJO0010000000000131000302";
+	private static final String BENEFICIARY_IBAN = "JO71CBJO0000000000001234567890";
+	private static final String RULE = "always";
+	private static final String WRITER = "EnglishWriter";
+
+	private Map<String, AtomicInteger> calls;
+	private PaymentRequestUseCases useCases;
+	private AbstractAmountWriter amountWriter;
+
+	@Before
+	public void setUp() {
+		calls = new ConcurrentHashMap<>();
+		PaymentRules.getInstance().registerRule(RULE, date -> true);
+		PaymentRequestRepository paymentRequestRepository = new PaymentRequestRepositoryImpl(
+				counting(PaymentRequestGateway.class, (method, args) -> {
+					if ("loadPaymentRequestById".equals(method))
+						return paymentRequest();
+					if ("insertPaymentRequests".equals(method))
+						return ((Collection<?>) args[0]).stream()
+								.map(p -> PaymentRequestInsertResult.inserted((PaymentRequestView) p, 1))
+								.collect(Collectors.toList());
+					return null;
+				}));
+		AccountRepositoryImpl accountRepository = new AccountRepositoryImpl(
+				counting(AccountGateway.class, (method, args) -> {
+					if ("loadAccountsByIbans".equals(method))
+						return Collections.singletonMap(ORDERING_IBAN, account());
+					return account();
+				}));
+		PaymentPurposeRepositoryImpl purposeRepository = new PaymentPurposeRepositoryImpl(
+				counting(PaymentPurposeGateway.class, (method, args) -> {
+					if ("loadPaymentPurposesByCodes".equals(method))
+						return Collections.singletonMap("SALA", purpose("SALA"));
+					return purpose((String) args[0]);
+				}));
+		PaymentRequestValidator validator = new PaymentRequestValidator(PaymentRules.getInstance(),
+				accountRepository, purposeRepository, new IBANGeneralValidator(), new PaymentPurposeValidator());
+		useCases = new PaymentRequestUseCasesImpl(new PaymentRequestHandlerImpl(null, validator), accountRepository,
+				paymentRequestRepository, new ReportProvider(paymentRequestRepository));
+		amountWriter = new AbstractAmountWriter();
+		amountWriter.addWriter(WRITER, new EnglishChequeAmountWriter());
+	}
+
+	@Test
+	public void givenPaymentRequest_CallingCreatePaymentRequest_ShouldLoadAccountAndPurposeOnce()
+			throws ValidationException {
+		useCases.createPaymentRequest(paymentRequest(), amountWriter, WRITER);
+
+		assertEquals(1, calls("loadAccountByIban"));
+		assertEquals(1, calls("loadPaymentPurposeByCode"));
+		assertEquals(1, calls("insertPaymentRequest"));
+	}
+
+	@Test
+	public void givenExistingPaymentRequest_EditingDateAmountOrPurpose_ShouldLoadEachEntityOncePerEdit()
+			throws ValidationException {
+		useCases.editPaymentRequestDate(LocalDate.of(2017, 2, 1), 1);
+		useCases.editPaymentRequestAmount(BigDecimal.ONE, 1);
+		useCases.editPaymentRequestPurpose("NORM", 1);
+
+		assertEquals(3, calls("loadPaymentRequestById"));
+		assertEquals(3, calls("loadAccountByIban"));
+		assertEquals(3, calls("loadPaymentPurposeByCode"));
+		assertEquals(3, calls("updatePaymentRequest"));
+	}
+
+	@Test
+	public void givenManyPaymentRequests_CallingCreatePaymentRequests_ShouldResolveReferencesWithOneQueryEach() {
+		List<PaymentRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			requests.add(paymentRequest());
+		requests.get(10).setPurposeCode("XXXX");
+		requests.get(20).setOrderingAccountIban("JO00UNKNOWN");
+		requests.get(30).setBeneficiaryAccountIban("JO00INVALID");
+
+		List<PaymentRequestInsertResult> results = useCases.createPaymentRequests(requests, amountWriter, WRITER);
+
+		assertEquals(1, calls("loadAccountsByIbans"));
+		assertEquals(1, calls("loadPaymentPurposesByCodes"));
+		assertEquals(0, calls("loadAccountByIban"));
+		assertEquals(0, calls("loadPaymentPurposeByCode"));
+		assertEquals(1000, results.size());
+		assertTrue(results.get(10).getFailure() instanceof PaymentPurposeNotFoundException);
+		assertTrue(results.get(20).getFailure() instanceof AccountNotFoundException);
+		assertTrue(results.get(30).getFailure() instanceof InvalidIBANException);
+		assertEquals(997, results.stream().filter(PaymentRequestInsertResult::isInserted).count());
+	}
+
+	private int calls(String method) {
+		return calls.getOrDefault(method, new AtomicInteger()).get();
+	}
+
+	@FunctionalInterface
+	private interface Answer {
+		Object answer(String method, Object[] args);
+	}
+
+	private <T> T counting(Class<T> type, Answer answer) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			calls.computeIfAbsent(method.getName(), m -> new AtomicInteger()).incrementAndGet();
+			return answer.answer(method.getName(), args);
+		}));
+	}
+
+	private static PaymentRequest paymentRequest() {
+		PaymentRequest request = new PaymentRequest();
+		request.setId(1);
+		request.setOrderingAccountIban(ORDERING_IBAN);
+		request.setBeneficiaryAccountIban(BENEFICIARY_IBAN);
+		request.setBeneficiaryName("beneficiary");
+		request.setPaymentAmount(BigDecimal.TEN);
+		request.setCurrencyCode("JOD");
+		request.setPurposeCode("SALA");
+		request.setPaymentDate(Date.valueOf("2017-01-01"));
+		return request;
+	}
+
+	private static Account account() {
+		Account account = new Account();
+		account.setIban(ORDERING_IBAN);
+		account.setRule(RULE);
+		return account;
+	}
+
+	private static PaymentPurpose purpose(String code) {
+		PaymentPurpose purpose = new PaymentPurpose();
+		purpose.setCode(code);
+		purpose.setName("purpose " + code);
+		return purpose;
+	}
+}
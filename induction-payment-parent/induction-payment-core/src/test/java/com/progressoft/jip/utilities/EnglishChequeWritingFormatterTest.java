@@ -3,6 +3,11 @@ package com.progressoft.jip.utilities;
 import static org.junit.Assert.assertEquals;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -151,4 +156,38 @@ public class EnglishChequeWritingFormatterTest {
 				formatter.writeAmountInWords(new BigDecimal("3564.51"), currencyCode));
 	}
 
+	@Test
+	public void givenAmountBeyondIntegerRange_WhenFormattingChequeAmount_ReturnsBillions() {
+		assertEquals("Three Billion Five Hundred Million  US Dollar Five Cents ",
+				formatter.writeAmountInWords(new BigDecimal("3500000000.05"), currencyCode));
+	}
+
+	@Test
+	public void givenLargestDecimalColumnAmount_WhenFormattingChequeAmount_ReturnsQuadrillions() {
+		assertEquals("Ninety Nine Quadrillion Nine Hundred Ninety Nine Trillion Nine Hundred Ninety Nine Billion "
+				+ "Nine Hundred Ninety Nine Million Nine Hundred Ninety Nine Thousand Nine Hundred Ninety Nine "
+				+ "US Dollar Ninety Nine Cents ",
+				formatter.writeAmountInWords(new BigDecimal("99999999999999999.99"), currencyCode));
+	}
+
+	@Test
+	public void givenSharedWriter_WhenFormattingConcurrently_ReturnsEachAmountUnmixed() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> usd = new ArrayList<>();
+			List<Future<String>> jod = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				usd.add(pool.submit(() -> formatter.writeAmountInWords(new BigDecimal("3564.51"), "USD")));
+				jod.add(pool.submit(() -> formatter.writeAmountInWords(new BigDecimal("6981231.63"), "JOD")));
+			}
+			for (Future<String> words : usd)
+				assertEquals("Three Thousand Five Hundred Sixty Four US Dollar Fifty One Cents ", words.get());
+			String expectedJod = formatter.writeAmountInWords(new BigDecimal("6981231.63"), "JOD");
+			for (Future<String> words : jod)
+				assertEquals(expectedJod, words.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
 }
@@ -0,0 +1,113 @@
+package com.progressoft.jip.utilities.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class BoundedCacheTest {
+
+	private AtomicInteger loads;
+	private BoundedCache<String, String> cache;
+
+	@Before
+	public void setUp() {
+		loads = new AtomicInteger();
+		cache = new BoundedCache<>(2);
+	}
+
+	@Test
+	public void givenLoadedEntry_ReadingItAgain_ShouldCountAHit() {
+		load("JOD");
+		load("JOD");
+		load("JOD");
+
+		assertEquals(1, loads.get());
+		assertEquals(2, cache.getHits());
+		assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void givenFullCache_LoadingNewKey_ShouldEvictAnEntryNotReadSinceItWasLoaded() {
+		load("JOD");
+		load("USD");
+		load("JOD");
+		load("EUR");
+		load("JOD");
+		load("USD");
+
+		assertEquals(2, cache.size());
+		assertEquals(4, loads.get());
+	}
+
+	@Test
+	public void givenManyMoreKeysThanMaxSize_Loading_ShouldStayWithinMaxSize() {
+		for (int i = 0; i < 100; i++)
+			load("K" + i);
+
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void givenNullValue_LoadingIt_ShouldNotCacheIt() {
+		cache.get("XXX", k -> null);
+
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void givenCachedEntries_InvalidatingAll_ShouldLoadThemAgain() {
+		load("JOD");
+		cache.invalidateAll();
+		load("JOD");
+
+		assertEquals(2, loads.get());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenZeroSize_CreatingCache_ShouldThrowIllegalArgumentException() {
+		new BoundedCache<String, String>(0);
+	}
+
+	@Test
+	public void givenConcurrentMissesForOneKey_Loading_ShouldLoadItOnce() throws Exception {
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService readers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++)
+				results.add(readers.submit(() -> {
+					start.await();
+					return cache.get("JOD", k -> {
+						try {
+							Thread.sleep(50);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						return k + loads.incrementAndGet();
+					});
+				}));
+			start.countDown();
+			for (Future<String> result : results)
+				assertEquals("JOD1", result.get(5, TimeUnit.SECONDS));
+		} finally {
+			readers.shutdownNow();
+		}
+
+		assertEquals(1, loads.get());
+	}
+
+	private String load(String key) {
+		return cache.get(key, k -> k + loads.incrementAndGet());
+	}
+
+}
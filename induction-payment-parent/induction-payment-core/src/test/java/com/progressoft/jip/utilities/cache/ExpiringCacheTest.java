@@ -0,0 +1,104 @@
+package com.progressoft.jip.utilities.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExpiringCacheTest {
+
+	private AtomicLong now;
+	private AtomicInteger loads;
+	private ExpiringCache<String, String> cache;
+
+	@Before
+	public void setUp() {
+		now = new AtomicLong();
+		loads = new AtomicInteger();
+		cache = new ExpiringCache<>(2, 10, TimeUnit.SECONDS, now::get);
+	}
+
+	@Test
+	public void givenLoadedEntry_ReadingItAfterTtl_ShouldLoadItAgain() {
+		load("JOD");
+		now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+		load("JOD");
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		load("JOD");
+
+		assertEquals(2, loads.get());
+		assertEquals(1, cache.getHits());
+		assertEquals(2, cache.getMisses());
+	}
+
+	@Test
+	public void givenFullCache_LoadingNewKey_ShouldEvictLeastRecentlyUsed() {
+		load("JOD");
+		load("USD");
+		load("JOD");
+		load("EUR");
+		load("JOD");
+		load("USD");
+
+		assertEquals(2, cache.size());
+		assertEquals(4, loads.get());
+	}
+
+	@Test
+	public void givenNullValue_LoadingIt_ShouldNotCacheIt() {
+		cache.get("XXX", k -> null);
+
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void givenInvalidationDuringLoad_LoadingEntry_ShouldNotCacheStaleValue() {
+		cache.get("JOD", k -> {
+			cache.invalidateAll();
+			return "stale";
+		});
+
+		assertEquals(0, cache.size());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void givenZeroSize_CreatingCache_ShouldThrowIllegalArgumentException() {
+		new ExpiringCache<String, String>(0, 1, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void givenSomeCachedKeys_GettingAll_ShouldLoadOnlyMissingKeysInOneCall() {
+		load("JOD");
+		List<Set<String>> requested = new ArrayList<>();
+
+		Map<String, String> values = cache.getAll(Arrays.asList("JOD", "USD", "USD", "XXX"), keys -> {
+			requested.add(new HashSet<>(keys));
+			Map<String, String> loaded = new HashMap<>();
+			keys.stream().filter(k -> !"XXX".equals(k)).forEach(k -> loaded.put(k, k.toLowerCase()));
+			return loaded;
+		});
+
+		assertEquals(Collections.singletonList(new HashSet<>(Arrays.asList("USD", "XXX"))), requested);
+		assertEquals(2, values.size());
+		assertEquals("usd", values.get("USD"));
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getHits());
+	}
+
+	private String load(String key) {
+		return cache.get(key, k -> k + loads.incrementAndGet());
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.progressoft.jip.utilities.chequewriting.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.progressoft.jip.utilities.chequewriting.ChequeAmountWriter;
+
+public class CachingChequeAmountWriterTest {
+
+	private AtomicInteger writes;
+	private ChequeAmountWriter counting;
+
+	@Before
+	public void setUp() {
+		writes = new AtomicInteger();
+		counting = (amount, currencyCode) -> {
+			writes.incrementAndGet();
+			return amount.toPlainString() + " " + currencyCode;
+		};
+	}
+
+	@Test
+	public void givenRepeatedPayrollAmounts_Writing_ShouldWriteEachAmountOnce() {
+		CachingChequeAmountWriter writer = new CachingChequeAmountWriter(counting);
+		for (int i = 0; i < 1000; i++)
+			assertEquals("2500.00 JOD", writer.writeAmountInWords(new BigDecimal("2500.00"), "JOD"));
+
+		assertEquals(1, writes.get());
+		assertEquals(999, writer.getHits());
+		assertEquals(0.999, writer.getHitRatio(), 1e-9);
+	}
+
+	@Test
+	public void givenSameValueInDifferentScaleOrCurrency_Writing_ShouldKeepSeparateEntries() {
+		CachingChequeAmountWriter writer = new CachingChequeAmountWriter(counting);
+
+		assertEquals("1.5 USD", writer.writeAmountInWords(new BigDecimal("1.5"), "USD"));
+		assertEquals("1.50 USD", writer.writeAmountInWords(new BigDecimal("1.50"), "USD"));
+		assertEquals("1.5 JOD", writer.writeAmountInWords(new BigDecimal("1.5"), "JOD"));
+		assertEquals(3, writes.get());
+	}
+
+	@Test
+	public void givenMoreAmountsThanMaxSize_Writing_ShouldEvictLeastRecentlyUsed() {
+		CachingChequeAmountWriter writer = new CachingChequeAmountWriter(counting, 2);
+		writer.writeAmountInWords(BigDecimal.ONE, "USD");
+		writer.writeAmountInWords(BigDecimal.TEN, "USD");
+		writer.writeAmountInWords(BigDecimal.ONE, "USD");
+		writer.writeAmountInWords(BigDecimal.ZERO, "USD");
+		writer.writeAmountInWords(BigDecimal.ONE, "USD");
+		writer.writeAmountInWords(BigDecimal.TEN, "USD");
+
+		assertEquals(2, writer.size());
+		assertEquals(4, writes.get());
+	}
+
+	@Test
+	public void givenWritersRegisteredWithCacheSizes_Writing_ShouldCacheOnlyTheConfiguredOnes() {
+		AbstractAmountWriter amountWriter = new AbstractAmountWriter();
+		amountWriter.addWriter("cached", counting);
+		amountWriter.addWriter("plain", counting, 0);
+		for (int i = 0; i < 3; i++) {
+			amountWriter.writeAmount("cached", "USD", BigDecimal.TEN);
+			amountWriter.writeAmount("plain", "USD", BigDecimal.TEN);
+		}
+
+		assertEquals(4, writes.get());
+		assertEquals(2, amountWriter.getCache("cached").get().getHits());
+		assertFalse(amountWriter.getCache("plain").isPresent());
+	}
+}
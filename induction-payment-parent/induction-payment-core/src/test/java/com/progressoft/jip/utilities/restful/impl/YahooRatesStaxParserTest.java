@@ -0,0 +1,78 @@
+package com.progressoft.jip.utilities.restful.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+public class YahooRatesStaxParserTest {
+
+	private static final String[] CODES = { "USD", "JOD", "EUR", "GBP", "AED", "SAR", "KWD", "EGP", "CHF", "JPY" };
+
+	private final YahooRatesStaxParser parser = new YahooRatesStaxParser();
+
+	@Test
+	public void givenMultiPairResponse_ParsingFromStream_ShouldMatchTheXStreamParser() throws IOException {
+		String response = response();
+
+		YahooXmlResponse streamed = parser.parse(
+				new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+		YahooXmlResponse mapped = new YahooCurrenciesXmlResponseParser().parse(response);
+
+		assertEquals(CODES.length * (CODES.length - 1) + 1, streamed.rates().size());
+		assertEquals(describe(mapped), describe(streamed));
+		assertEquals("JOD", streamed.fromCode());
+		assertEquals("USD", streamed.toCode());
+		assertTrue(Double.isNaN(streamed.rates().get(streamed.rates().size() - 1).value()));
+	}
+
+	@Test
+	public void givenSharedInstance_ParsingFromManyThreads_ShouldReturnEveryRate() throws Exception {
+		String response = response();
+		String expected = describe(parser.parse(response));
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<String>> results = new ArrayList<>();
+			for (int i = 0; i < 64; i++)
+				results.add(pool.submit(() -> describe(parser.parse(response))));
+			for (Future<String> result : results)
+				assertEquals(expected, result.get());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static String response() {
+		StringBuilder xml = new StringBuilder(
+				"<?xml version=\"1.0\" encoding=\"UTF-8\"?><query><results>");
+		int n = 0;
+		for (String to : CODES)
+			for (String from : CODES)
+				if (!to.equals(from))
+					xml.append(rate(to + from, to + "/" + from, String.valueOf(0.5 + n++ / 1000.0)));
+		xml.append(rate("QQQJOD", "N/A", "N/A"));
+		return xml.append("</results></query>").toString();
+	}
+
+	private static String rate(String id, String name, String value) {
+		return "<rate id=\"" + id + "\"><Name>" + name + "</Name><Rate>" + value + "</Rate><Date>1/9/2017</Date>"
+				+ "<Time>7:55am</Time><Ask>" + value + "</Ask><Bid>" + value + "</Bid></rate>";
+	}
+
+	private static String describe(YahooXmlResponse response) {
+		Function<Rate, String> fields = r -> Arrays.asList(r.id, r.name, r.rate, r.date, r.time).toString();
+		return response.rates().stream().map(fields).collect(Collectors.joining("\n"));
+	}
+}
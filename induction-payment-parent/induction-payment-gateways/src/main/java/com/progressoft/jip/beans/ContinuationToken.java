@@ -0,0 +1,54 @@
+package com.progressoft.jip.beans;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+import com.progressoft.jip.gateways.exceptions.InvalidContinuationTokenException;
+import com.progressoft.jip.gateways.views.PaymentRequestView;
+
+public class ContinuationToken {
+
+	private static final String SEPARATOR = "|";
+
+	private final LocalDate lastPaymentDate;
+	private final int lastId;
+
+	public ContinuationToken(LocalDate lastPaymentDate, int lastId) {
+		this.lastPaymentDate = lastPaymentDate;
+		this.lastId = lastId;
+	}
+
+	public static ContinuationToken after(PaymentRequestView paymentRequest) {
+		return new ContinuationToken(paymentRequest.getPaymentDate().toLocalDate(), paymentRequest.getId());
+	}
+
+	public static ContinuationToken decode(String token) {
+		if (Objects.isNull(token) || token.isEmpty())
+			return null;
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = decoded.indexOf(SEPARATOR);
+			return new ContinuationToken(LocalDate.parse(decoded.substring(0, separator)),
+					Integer.parseInt(decoded.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new InvalidContinuationTokenException(token, e);
+		}
+	}
+
+	public String encode() {
+		String raw = lastPaymentDate + SEPARATOR + lastId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public LocalDate getLastPaymentDate() {
+		return lastPaymentDate;
+	}
+
+	public int getLastId() {
+		return lastId;
+	}
+
+}
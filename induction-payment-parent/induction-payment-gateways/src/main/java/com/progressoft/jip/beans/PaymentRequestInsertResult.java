@@ -0,0 +1,45 @@
+package com.progressoft.jip.beans;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import com.progressoft.jip.gateways.views.PaymentRequestView;
+
+public class PaymentRequestInsertResult implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private final PaymentRequestView paymentRequest;
+	private final int generatedId;
+	private final Exception failure;
+
+	private PaymentRequestInsertResult(PaymentRequestView paymentRequest, int generatedId, Exception failure) {
+		this.paymentRequest = paymentRequest;
+		this.generatedId = generatedId;
+		this.failure = failure;
+	}
+
+	public static PaymentRequestInsertResult inserted(PaymentRequestView paymentRequest, int generatedId) {
+		return new PaymentRequestInsertResult(paymentRequest, generatedId, null);
+	}
+
+	public static PaymentRequestInsertResult failed(PaymentRequestView paymentRequest, Exception failure) {
+		return new PaymentRequestInsertResult(paymentRequest, 0, failure);
+	}
+
+	public PaymentRequestView getPaymentRequest() {
+		return paymentRequest;
+	}
+
+	public boolean isInserted() {
+		return Objects.isNull(failure);
+	}
+
+	public int getGeneratedId() {
+		return generatedId;
+	}
+
+	public Exception getFailure() {
+		return failure;
+	}
+
+}
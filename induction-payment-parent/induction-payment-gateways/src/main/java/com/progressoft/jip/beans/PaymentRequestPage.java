@@ -0,0 +1,32 @@
+package com.progressoft.jip.beans;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Objects;
+
+import com.progressoft.jip.gateways.views.PaymentRequestView;
+
+public class PaymentRequestPage implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private final Collection<PaymentRequestView> paymentRequests;
+	private final String continuationToken;
+
+	public PaymentRequestPage(Collection<PaymentRequestView> paymentRequests, String continuationToken) {
+		this.paymentRequests = paymentRequests;
+		this.continuationToken = continuationToken;
+	}
+
+	public Collection<PaymentRequestView> getPaymentRequests() {
+		return paymentRequests;
+	}
+
+	public String getContinuationToken() {
+		return continuationToken;
+	}
+
+	public boolean hasNextPage() {
+		return Objects.nonNull(continuationToken);
+	}
+
+}
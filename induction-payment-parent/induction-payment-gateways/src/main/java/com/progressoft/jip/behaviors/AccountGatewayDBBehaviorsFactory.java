@@ -1,6 +1,7 @@
 package com.progressoft.jip.behaviors;
 
 import java.util.Collection;
+import java.util.Map;
 
 import com.progressoft.jip.gateways.views.AccountView;
 
@@ -10,6 +11,8 @@ public interface AccountGatewayDBBehaviorsFactory {
 
     Behavior<Collection<AccountView>> loadAccounts();
 
+    Behavior<Map<String, AccountView>> loadAccountsByIbans();
+
 	Behavior<Void> updateAccount();
 
 	Behavior<Void> createAccount();
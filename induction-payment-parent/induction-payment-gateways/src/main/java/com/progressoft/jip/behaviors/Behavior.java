@@ -2,21 +2,18 @@ package com.progressoft.jip.behaviors;
 
 import javax.sql.DataSource;
 
-public interface Behavior<R> {
-
-    void openConnection(DataSource dataSource);
+import org.apache.commons.dbutils.QueryRunner;
 
-    void registerParameters(Object... parameters);
-
-    R operation();
+/**
+ * A single JDBC operation. Implementations must not keep per-call state in
+ * fields: the runner and parameters of each call are passed down the stack,
+ * so one instance can be shared by any number of threads.
+ */
+public interface Behavior<R> {
 
-    void closeConnection();
+    R operation(QueryRunner runner, Object... parameters);
 
-    default R execute(DataSource dataSource, Object... parameters){
-	openConnection(dataSource);
-	registerParameters(parameters);
-	R res = operation();
-	closeConnection();
-	return res;
+    default R execute(DataSource dataSource, Object... parameters) {
+	return operation(new QueryRunner(dataSource), parameters);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.progressoft.jip.behaviors;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import com.progressoft.jip.gateways.views.CurrencyView;
 
@@ -10,4 +11,6 @@ public interface CurrencyGatewayDBBehaviorsFactory {
 
     Behavior<CurrencyView> loadCurrencyByCode();
 
+    Behavior<Optional<CurrencyView>> findCurrencyByCode();
+
 }
@@ -1,6 +1,7 @@
 package com.progressoft.jip.behaviors;
 
 import java.util.Collection;
+import java.util.Map;
 
 import com.progressoft.jip.gateways.views.PaymentPurposeView;
 
@@ -12,6 +13,8 @@ public interface PaymentPurposeBehaviorsFactory {
 
     Behavior<Collection<PaymentPurposeView>> loadPaymentPurposesBehavior();
 
+    Behavior<Map<String, PaymentPurposeView>> loadPaymentPurposesByCodesBehavior();
+
     Behavior<Void> deletePaymentPurposeByCodeBehavior();
 
     Behavior<Void> updatePaymentPurposeNameBehavior();
@@ -1,21 +1,35 @@
 package com.progressoft.jip.behaviors;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.gateways.views.PaymentRequestView;
 
 public interface PaymentRequestBehaviorsFactory {
 	
 	Behavior<PaymentRequestView> loadPaymentRequestById();
 
+	Behavior<Optional<PaymentRequestView>> findPaymentRequestById();
+
 	Behavior<Void> deletePaymentRequestById();
 
 	Behavior<Void> insertPaymentRequest();
 
+	Behavior<List<PaymentRequestInsertResult>> insertPaymentRequests();
+
 	Behavior<Collection<PaymentRequestView>> loadPaymentRequests();
 
+	Behavior<Void> visitPaymentRequests();
+
 	Behavior<Collection<PaymentRequestView>> loadPaymentRequestsByOrderingAccIBAN();
 
+	Behavior<Collection<PaymentRequestView>> findPaymentRequestsByOrderingAccIBAN();
+
+	Behavior<PaymentRequestPage> loadPaymentRequestsPageByOrderingAccIBAN();
+
 	Behavior<Collection<PaymentRequestView>> loadPaymentRequestsByPaymentDate();
 
 	Behavior<Void> updatePaymentRequest();
@@ -0,0 +1,21 @@
+package com.progressoft.jip.behaviors.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.handlers.AbstractListHandler;
+
+public class MappedListHandler<T> extends AbstractListHandler<T> {
+
+	private final RowMapper<T> mapper;
+
+	public MappedListHandler(RowMapper<T> mapper) {
+		this.mapper = mapper;
+	}
+
+	@Override
+	protected T handleRow(ResultSet resultSet) throws SQLException {
+		return mapper.map(resultSet);
+	}
+
+}
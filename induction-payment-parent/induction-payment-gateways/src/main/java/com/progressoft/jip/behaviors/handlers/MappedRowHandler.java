@@ -0,0 +1,21 @@
+package com.progressoft.jip.behaviors.handlers;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.apache.commons.dbutils.ResultSetHandler;
+
+public class MappedRowHandler<T> implements ResultSetHandler<T> {
+
+	private final RowMapper<T> mapper;
+
+	public MappedRowHandler(RowMapper<T> mapper) {
+		this.mapper = mapper;
+	}
+
+	@Override
+	public T handle(ResultSet resultSet) throws SQLException {
+		return resultSet.next() ? mapper.map(resultSet) : null;
+	}
+
+}
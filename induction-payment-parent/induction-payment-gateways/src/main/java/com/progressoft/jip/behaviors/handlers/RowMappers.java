@@ -0,0 +1,57 @@
+package com.progressoft.jip.behaviors.handlers;
+
+import com.progressoft.jip.beans.Account;
+import com.progressoft.jip.beans.Currency;
+import com.progressoft.jip.beans.PaymentPurpose;
+import com.progressoft.jip.beans.PaymentRequest;
+
+/**
+ * Column positions follow the select lists in
+ * {@link com.progressoft.jip.behaviors.impl.Constants}; keep both in step.
+ */
+public final class RowMappers {
+
+	public static final RowMapper<PaymentRequest> PAYMENT_REQUEST = rs -> {
+		PaymentRequest paymentRequest = new PaymentRequest();
+		paymentRequest.setId(rs.getInt(1));
+		paymentRequest.setOrderingAccountIban(rs.getString(2));
+		paymentRequest.setBeneficiaryAccountIban(rs.getString(3));
+		paymentRequest.setBeneficiaryName(rs.getString(4));
+		paymentRequest.setPaymentAmount(rs.getBigDecimal(5));
+		paymentRequest.setCurrencyCode(rs.getString(6));
+		paymentRequest.setPurposeCode(rs.getString(7));
+		paymentRequest.setPaymentDate(rs.getDate(8));
+		paymentRequest.setAmountInWords(rs.getString(9));
+		return paymentRequest;
+	};
+
+	public static final RowMapper<Account> ACCOUNT = rs -> {
+		Account account = new Account();
+		account.setIban(rs.getString(1));
+		account.setType(rs.getString(2));
+		account.setBalance(rs.getBigDecimal(3));
+		account.setStatus(rs.getString(4));
+		account.setCurrencyCode(rs.getString(5));
+		account.setRule(rs.getString(6));
+		return account;
+	};
+
+	public static final RowMapper<Currency> CURRENCY = rs -> {
+		Currency currency = new Currency();
+		currency.setCode(rs.getString(1));
+		currency.setName(rs.getString(2));
+		currency.setCoinsName(rs.getString(3));
+		return currency;
+	};
+
+	public static final RowMapper<PaymentPurpose> PAYMENT_PURPOSE = rs -> {
+		PaymentPurpose paymentPurpose = new PaymentPurpose();
+		paymentPurpose.setCode(rs.getString(1));
+		paymentPurpose.setName(rs.getString(2));
+		return paymentPurpose;
+	};
+
+	private RowMappers() {
+	}
+
+}
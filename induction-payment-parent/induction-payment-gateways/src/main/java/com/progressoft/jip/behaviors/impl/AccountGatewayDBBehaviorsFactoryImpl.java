@@ -2,16 +2,21 @@ package com.progressoft.jip.behaviors.impl;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.ResultSetHandler;
 
 import com.progressoft.jip.beans.Account;
-import com.progressoft.jip.behaviors.AbstractBehavior;
 import com.progressoft.jip.behaviors.AccountGatewayDBBehaviorsFactory;
 import com.progressoft.jip.behaviors.Behavior;
+import com.progressoft.jip.behaviors.handlers.MappedListHandler;
+import com.progressoft.jip.behaviors.handlers.RowMappers;
 import com.progressoft.jip.gateways.exceptions.AccountNotFoundException;
 import com.progressoft.jip.gateways.exceptions.InvalidBalanceException;
 import com.progressoft.jip.gateways.exceptions.NoAccountInsertedException;
@@ -21,16 +26,18 @@ import com.progressoft.jip.gateways.views.AccountView;
 
 public class AccountGatewayDBBehaviorsFactoryImpl implements AccountGatewayDBBehaviorsFactory {
 
-	public static final Behavior<AccountView> LOAD_ACCOUNT_BY_IBAN = new AbstractBehavior<AccountView>() {
+	private static final ResultSetHandler<List<Account>> ACCOUNTS_HANDLER = new MappedListHandler<>(RowMappers.ACCOUNT);
+
+	public static final Behavior<AccountView> LOAD_ACCOUNT_BY_IBAN = new Behavior<AccountView>() {
 
 		@Override
-		public AccountView operation() {
+		public AccountView operation(QueryRunner runner, Object... parameters) {
 			String iban = (String) parameters[0];
 			if (Objects.isNull(iban) || iban.trim().length() == 0) {
 				throw new NullAccountIBANException();
 			}
 			try {
-				List<Account> list = runner.query(Constants.GET_ACCOUNT_BY_IBAN, new BeanListHandler<>(Account.class),
+				List<Account> list = runner.query(Constants.GET_ACCOUNT_BY_IBAN, ACCOUNTS_HANDLER,
 						iban);
 				if (list.isEmpty())
 					throw new AccountNotFoundException();
@@ -42,13 +49,13 @@ public class AccountGatewayDBBehaviorsFactoryImpl implements AccountGatewayDBBeh
 
 	};
 
-	public static final Behavior<Collection<AccountView>> LOAD_ACCOUNTS = new AbstractBehavior<Collection<AccountView>>() {
+	public static final Behavior<Collection<AccountView>> LOAD_ACCOUNTS = new Behavior<Collection<AccountView>>() {
 
 		@Override
-		public Collection<AccountView> operation() {
+		public Collection<AccountView> operation(QueryRunner runner, Object... parameters) {
 			try {
 				ArrayList<AccountView> collection = new ArrayList<>();
-				runner.query(Constants.GET_ACCOUNTS, new BeanListHandler<>(Account.class)).stream()
+				runner.query(Constants.GET_ACCOUNTS, ACCOUNTS_HANDLER).stream()
 						.forEach(a -> collection.add((AccountView) a));
 				return collection;
 			} catch (SQLException e) {
@@ -57,14 +64,37 @@ public class AccountGatewayDBBehaviorsFactoryImpl implements AccountGatewayDBBeh
 		}
 
 	};
-	public static final Behavior<Void> INSERT_ACCOUNT_BEHAVIOR = new AbstractBehavior<Void>() {
-		int effectedRow = 0;
+	public static final Behavior<Map<String, AccountView>> LOAD_ACCOUNTS_BY_IBANS = new Behavior<Map<String, AccountView>>() {
+
+		@Override
+		public Map<String, AccountView> operation(QueryRunner runner, Object... parameters) {
+			@SuppressWarnings("unchecked")
+			Collection<String> ibans = (Collection<String>) parameters[0];
+			int chunkSize = (int) parameters[1];
+			Object[] distinct = ibans.stream().filter(Objects::nonNull).distinct().toArray();
+			Map<String, AccountView> accounts = new HashMap<>();
+			try {
+				for (int from = 0; from < distinct.length; from += chunkSize) {
+					Object[] chunk = Arrays.copyOfRange(distinct, from, Math.min(from + chunkSize, distinct.length));
+					runner.query(Constants.GET_ACCOUNTS_BY_IBANS + Constants.inList(chunk.length), ACCOUNTS_HANDLER,
+							chunk).forEach(a -> accounts.put(a.getIban(), a));
+				}
+				return accounts;
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	};
+
+	public static final Behavior<Void> INSERT_ACCOUNT_BEHAVIOR = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			AccountView dataStructure = (AccountView) parameters[0];
 			if (dataStructure.getBalance().doubleValue() < 0)
 				throw new InvalidBalanceException();
+			int effectedRow;
 			try {
 				effectedRow = runner.update(Constants.INSERT_ACCOUNT, dataStructure.getIban(), dataStructure.getType(),
 						dataStructure.getBalance(), dataStructure.getStatus(), dataStructure.getCurrencyCode(),
@@ -77,14 +107,14 @@ public class AccountGatewayDBBehaviorsFactoryImpl implements AccountGatewayDBBeh
 			return null;
 		}
 	};
-	private static final Behavior<Void> UPDATE_ACCOUNT_BEHAVIOR = new AbstractBehavior<Void>() {
-		int effectedRow = 0;
+	private static final Behavior<Void> UPDATE_ACCOUNT_BEHAVIOR = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			AccountView dataStructure = (AccountView) parameters[0];
 			if (dataStructure.getBalance().doubleValue() < 0)
 				throw new InvalidBalanceException();
+			int effectedRow;
 			try {
 				effectedRow = runner.update(Constants.UPDATE_ACCOUNT, dataStructure.getType(),
 						dataStructure.getBalance(), dataStructure.getStatus(), dataStructure.getCurrencyCode(),
@@ -108,6 +138,11 @@ public class AccountGatewayDBBehaviorsFactoryImpl implements AccountGatewayDBBeh
 		return LOAD_ACCOUNTS;
 	}
 
+	@Override
+	public Behavior<Map<String, AccountView>> loadAccountsByIbans() {
+		return LOAD_ACCOUNTS_BY_IBANS;
+	}
+
 	@Override
 	public Behavior<Void> createAccount() {
 		return INSERT_ACCOUNT_BEHAVIOR;
@@ -16,7 +16,7 @@ public class Constants {
 			+ DB_NAME + "." + PAYMENT_PURPOSE_TABLE + " WHERE CODE = ?";
 	public static final String INSERT_PAYMENT_PURPOSE_SQL_STATEMENT = "insert into " + DB_NAME + "."
 			+ PAYMENT_PURPOSE_TABLE + " (CODE,NAME) VALUES(?,?)";
-	public static final String LOAD_PAYMENT_PURPOSES_SQL_STATEMENT = "select * from " + DB_NAME + "."
+	public static final String LOAD_PAYMENT_PURPOSES_SQL_STATEMENT = "select CODE as code,NAME as name from " + DB_NAME + "."
 			+ PAYMENT_PURPOSE_TABLE + "";
 	public static final String DELETE_PAYMENT_PURPOSE_SQL_STATEMENT = "delete from " + DB_NAME + "."
 			+ PAYMENT_PURPOSE_TABLE + " where CODE = ?";
@@ -47,6 +47,10 @@ public class Constants {
 
 	public static final String SELECT_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN = "select ID as id,ORD_IBAN as orderingAccountIBAN,BENEF_IBAN as beneficiaryAccountIBAN,BENEF_NAME as beneficiaryName,AMOUNT as paymentAmount,CURRENCY_CODE as currencyCode,PURPOSE_CODE as purposeCode,PAYMENT_DATE as paymentDate, AMOUNT_IN_WORDS as amountInWords from PAYMENT_SYSTEM.PAYMENT_REQUEST where ORD_IBAN = ?";
 
+	public static final String SELECT_PAYMENT_REQUESTS_PAGE_BY_ORDERING_ACCOUNT_IBAN = "select ID as id,ORD_IBAN as orderingAccountIBAN,BENEF_IBAN as beneficiaryAccountIBAN,BENEF_NAME as beneficiaryName,AMOUNT as paymentAmount,CURRENCY_CODE as currencyCode,PURPOSE_CODE as purposeCode,PAYMENT_DATE as paymentDate, AMOUNT_IN_WORDS as amountInWords from PAYMENT_SYSTEM.PAYMENT_REQUEST where ORD_IBAN = ? order by PAYMENT_DATE, ID limit ?";
+
+	public static final String SELECT_PAYMENT_REQUESTS_PAGE_AFTER_BY_ORDERING_ACCOUNT_IBAN = "select ID as id,ORD_IBAN as orderingAccountIBAN,BENEF_IBAN as beneficiaryAccountIBAN,BENEF_NAME as beneficiaryName,AMOUNT as paymentAmount,CURRENCY_CODE as currencyCode,PURPOSE_CODE as purposeCode,PAYMENT_DATE as paymentDate, AMOUNT_IN_WORDS as amountInWords from PAYMENT_SYSTEM.PAYMENT_REQUEST where ORD_IBAN = ? and (PAYMENT_DATE > ? or (PAYMENT_DATE = ? and ID > ?)) order by PAYMENT_DATE, ID limit ?";
+
 	public static final String INSERT_PAYMENT_REQUEST_SQL = "insert into PAYMENT_SYSTEM.PAYMENT_REQUEST VALUES (null,?,?,?,?,?,?,?,?)";
 
 	public static final String INSERT_ACCOUNT = "insert into PAYMENT_SYSTEM.ACCOUNT values(?,?,?,?,?,?)";
@@ -54,4 +58,15 @@ public class Constants {
 	public static final String UPDATE_ACCOUNT = "update ACCOUNT set TYPE=? , BALANCE=?, STATUS=?, CURRENCY_CODE=?,RULE=? where IBAN=?";
 	public static final String UPDATE_PAYMENT_REQUEST_SQL = "update PAYMENT_REQUEST set ORD_IBAN=?,BENEF_IBAN=?,BENEF_NAME=?,AMOUNT=?,CURRENCY_CODE=?,PURPOSE_CODE=?,PAYMENT_DATE=?,AMOUNT_IN_WORDS=? where ID=?";
 
+	public static final String GET_ACCOUNTS_BY_IBANS = GET_ACCOUNTS + " where IBAN in ";
+	public static final String LOAD_PAYMENT_PURPOSES_BY_CODES_SQL_STATEMENT = LOAD_PAYMENT_PURPOSES_SQL_STATEMENT
+			+ " where CODE in ";
+
+	public static String inList(int size) {
+		StringBuilder list = new StringBuilder("(");
+		for (int i = 0; i < size; i++)
+			list.append(i == 0 ? "?" : ",?");
+		return list.append(')').toString();
+	}
+
 }
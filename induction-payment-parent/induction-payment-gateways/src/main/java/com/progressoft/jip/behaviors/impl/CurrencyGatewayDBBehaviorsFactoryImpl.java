@@ -3,28 +3,35 @@ package com.progressoft.jip.behaviors.impl;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
-import org.apache.commons.dbutils.handlers.BeanHandler;
-import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.ResultSetHandler;
 
 import com.progressoft.jip.beans.Currency;
-import com.progressoft.jip.behaviors.AbstractBehavior;
 import com.progressoft.jip.behaviors.Behavior;
 import com.progressoft.jip.behaviors.CurrencyGatewayDBBehaviorsFactory;
+import com.progressoft.jip.behaviors.handlers.MappedListHandler;
+import com.progressoft.jip.behaviors.handlers.MappedRowHandler;
+import com.progressoft.jip.behaviors.handlers.RowMappers;
 import com.progressoft.jip.gateways.exceptions.CurrencyNotFoundExption;
 import com.progressoft.jip.gateways.exceptions.ShortCurrencyCodeException;
 import com.progressoft.jip.gateways.views.CurrencyView;
 
 public class CurrencyGatewayDBBehaviorsFactoryImpl implements CurrencyGatewayDBBehaviorsFactory {
 
-	public static final Behavior<Collection<CurrencyView>> LOAD_CURRENCIES = new AbstractBehavior<Collection<CurrencyView>>() {
+	private static final ResultSetHandler<List<Currency>> CURRENCIES_HANDLER = new MappedListHandler<>(RowMappers.CURRENCY);
+	private static final ResultSetHandler<Currency> CURRENCY_HANDLER = new MappedRowHandler<>(RowMappers.CURRENCY);
+
+	public static final Behavior<Collection<CurrencyView>> LOAD_CURRENCIES = new Behavior<Collection<CurrencyView>>() {
 
 		@Override
-		public Collection<CurrencyView> operation() {
+		public Collection<CurrencyView> operation(QueryRunner runner, Object... parameters) {
 			try {
 				ArrayList<CurrencyView> collection = new ArrayList<>();
-				runner.query(Constants.SELECT_ALL_CRNCYS, new BeanListHandler<>(Currency.class)).stream()
+				runner.query(Constants.SELECT_ALL_CRNCYS, CURRENCIES_HANDLER).stream()
 						.forEach(c -> collection.add((CurrencyView) c));
 				return collection;
 			} catch (SQLException e) {
@@ -34,35 +41,36 @@ public class CurrencyGatewayDBBehaviorsFactoryImpl implements CurrencyGatewayDBB
 
 	};
 
-	public static final Behavior<CurrencyView> LOAD_CURRENCY_BY_CODE = new AbstractBehavior<CurrencyView>() {
+	public static final Behavior<Optional<CurrencyView>> FIND_CURRENCY_BY_CODE = new Behavior<Optional<CurrencyView>>() {
 
 		@Override
-		public CurrencyView operation() {
+		public Optional<CurrencyView> operation(QueryRunner runner, Object... parameters) {
 			String code = (String) parameters[0];
-			if (isShortCode(code))
-				throw new ShortCurrencyCodeException();
-			return loadCurrency(loadCurrenciesFromDB(code));
-		}
-
-		private CurrencyView loadCurrency(CurrencyView currency) {
-			if (Objects.isNull(currency))
-				throw new CurrencyNotFoundExption();
-			return currency;
-		}
-
-		private CurrencyView loadCurrenciesFromDB(String code) {
+			if (Objects.isNull(code) || isShortCode(code))
+				return Optional.empty();
 			try {
-				return runner.query(Constants.SELECT_CRNCY_BY_CODE, new BeanHandler<>(Currency.class), code);
+				return Optional.ofNullable(runner.query(Constants.SELECT_CRNCY_BY_CODE, CURRENCY_HANDLER, code));
 			} catch (SQLException e) {
 				throw new IllegalStateException(e);
 			}
 		}
+	};
+
+	public static final Behavior<CurrencyView> LOAD_CURRENCY_BY_CODE = new Behavior<CurrencyView>() {
 
-		private boolean isShortCode(String code) {
-			return code.length() < 3;
+		@Override
+		public CurrencyView operation(QueryRunner runner, Object... parameters) {
+			String code = (String) parameters[0];
+			if (isShortCode(code))
+				throw new ShortCurrencyCodeException();
+			return FIND_CURRENCY_BY_CODE.operation(runner, code).orElseThrow(CurrencyNotFoundExption::new);
 		}
 	};
 
+	private static boolean isShortCode(String code) {
+		return code.length() < 3;
+	}
+
 	@Override
 	public Behavior<Collection<CurrencyView>> loadCurrencies() {
 		return LOAD_CURRENCIES;
@@ -73,4 +81,9 @@ public class CurrencyGatewayDBBehaviorsFactoryImpl implements CurrencyGatewayDBB
 		return LOAD_CURRENCY_BY_CODE;
 	}
 
+	@Override
+	public Behavior<Optional<CurrencyView>> findCurrencyByCode() {
+		return FIND_CURRENCY_BY_CODE;
+	}
+
 }
@@ -2,15 +2,21 @@ package com.progressoft.jip.behaviors.impl;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
-import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.ResultSetHandler;
 
 import com.progressoft.jip.beans.PaymentPurpose;
-import com.progressoft.jip.behaviors.AbstractBehavior;
 import com.progressoft.jip.behaviors.Behavior;
 import com.progressoft.jip.behaviors.PaymentPurposeBehaviorsFactory;
+import com.progressoft.jip.behaviors.handlers.MappedListHandler;
+import com.progressoft.jip.behaviors.handlers.RowMappers;
 import com.progressoft.jip.gateways.exceptions.DuplicatePaymentPurposeCodeException;
 import com.progressoft.jip.gateways.exceptions.EmptyPaymentPurposeCodeException;
 import com.progressoft.jip.gateways.exceptions.NoneExistingPaymentPurposeException;
@@ -20,19 +26,21 @@ import com.progressoft.jip.jparepositories.exceptions.NullPaymentPurposeExceptio
 
 public class PaymentPurposeBehaviorsFactoryImpl implements PaymentPurposeBehaviorsFactory {
 
+	private static final ResultSetHandler<List<PaymentPurpose>> PAYMENT_PURPOSES_HANDLER = new MappedListHandler<>(RowMappers.PAYMENT_PURPOSE);
+
 	private static final String SQL_STATE_DUPLICATE_ENTRY = "23000";
 
-	public static final Behavior<PaymentPurposeView> LOAD_PAYMENT_PURPOSE_BY_CODE = new AbstractBehavior<PaymentPurposeView>() {
+	public static final Behavior<PaymentPurposeView> LOAD_PAYMENT_PURPOSE_BY_CODE = new Behavior<PaymentPurposeView>() {
 
 		@Override
-		public PaymentPurposeView operation() {
+		public PaymentPurposeView operation(QueryRunner runner, Object... parameters) {
 			String code = (String) parameters[0];
 			// TODO validations should'nt be here
 			validateCode(code);
 			try {
 				ArrayList<PaymentPurposeView> collection = new ArrayList<>();
 				runner.query(Constants.LOAD_PAYMENT_PURPOSE_BY_CODE_SQL_STATEMENT,
-						new BeanListHandler<>(PaymentPurpose.class), code).stream()
+						PAYMENT_PURPOSES_HANDLER, code).stream()
 						.forEach(pp -> collection.add((PaymentPurposeView) pp));
 				if (collection.isEmpty())
 					throw new PaymentPurposeNotFoundException();
@@ -43,10 +51,10 @@ public class PaymentPurposeBehaviorsFactoryImpl implements PaymentPurposeBehavio
 		}
 	};
 
-	public static final Behavior<Void> INSERT_PAYMENT_RURPOSE_BEHAVIOR = new AbstractBehavior<Void>() {
+	public static final Behavior<Void> INSERT_PAYMENT_RURPOSE_BEHAVIOR = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			PaymentPurposeView paymentPurpose = (PaymentPurposeView) parameters[0];
 			validateCode(paymentPurpose.getCode());
 			if (Objects.isNull(paymentPurpose.getName())) {
@@ -65,13 +73,13 @@ public class PaymentPurposeBehaviorsFactoryImpl implements PaymentPurposeBehavio
 
 	};
 
-	public static final Behavior<Collection<PaymentPurposeView>> LOAD_PAYMENT_PURPOSES = new AbstractBehavior<Collection<PaymentPurposeView>>() {
+	public static final Behavior<Collection<PaymentPurposeView>> LOAD_PAYMENT_PURPOSES = new Behavior<Collection<PaymentPurposeView>>() {
 
 		@Override
-		public Collection<PaymentPurposeView> operation() {
+		public Collection<PaymentPurposeView> operation(QueryRunner runner, Object... parameters) {
 			try {
 				ArrayList<PaymentPurposeView> collection = new ArrayList<PaymentPurposeView>();
-				runner.query(Constants.LOAD_PAYMENT_PURPOSES_SQL_STATEMENT, new BeanListHandler<>(PaymentPurpose.class))
+				runner.query(Constants.LOAD_PAYMENT_PURPOSES_SQL_STATEMENT, PAYMENT_PURPOSES_HANDLER)
 						.stream().forEach(pp -> collection.add((PaymentPurposeView) pp));
 				return collection;
 			} catch (SQLException e) {
@@ -81,10 +89,33 @@ public class PaymentPurposeBehaviorsFactoryImpl implements PaymentPurposeBehavio
 
 	};
 
-	public static final Behavior<Void> DELETE_PAYMENT_PURPOSE_BY_CODE = new AbstractBehavior<Void>() {
+	public static final Behavior<Map<String, PaymentPurposeView>> LOAD_PAYMENT_PURPOSES_BY_CODES = new Behavior<Map<String, PaymentPurposeView>>() {
+
+		@Override
+		public Map<String, PaymentPurposeView> operation(QueryRunner runner, Object... parameters) {
+			@SuppressWarnings("unchecked")
+			Collection<String> codes = (Collection<String>) parameters[0];
+			int chunkSize = (int) parameters[1];
+			Object[] distinct = codes.stream().filter(Objects::nonNull).distinct().toArray();
+			Map<String, PaymentPurposeView> purposes = new HashMap<>();
+			try {
+				for (int from = 0; from < distinct.length; from += chunkSize) {
+					Object[] chunk = Arrays.copyOfRange(distinct, from, Math.min(from + chunkSize, distinct.length));
+					runner.query(Constants.LOAD_PAYMENT_PURPOSES_BY_CODES_SQL_STATEMENT + Constants.inList(chunk.length),
+							PAYMENT_PURPOSES_HANDLER, chunk).forEach(pp -> purposes.put(pp.getCode(), pp));
+				}
+				return purposes;
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+	};
+
+	public static final Behavior<Void> DELETE_PAYMENT_PURPOSE_BY_CODE = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			String code = (String) parameters[0];
 			try {
 				int effectedRows = runner.update(Constants.DELETE_PAYMENT_PURPOSE_SQL_STATEMENT, code);
@@ -98,10 +129,10 @@ public class PaymentPurposeBehaviorsFactoryImpl implements PaymentPurposeBehavio
 
 	};
 
-	public static final Behavior<Void> UPDATE_PAYMENT_PURPOSE_NAME = new AbstractBehavior<Void>() {
+	public static final Behavior<Void> UPDATE_PAYMENT_PURPOSE_NAME = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			String code = (String) parameters[0];
 			String newName = (String) parameters[1];
 			int effectedRows;
@@ -141,6 +172,11 @@ public class PaymentPurposeBehaviorsFactoryImpl implements PaymentPurposeBehavio
 		return LOAD_PAYMENT_PURPOSES;
 	}
 
+	@Override
+	public Behavior<Map<String, PaymentPurposeView>> loadPaymentPurposesByCodesBehavior() {
+		return LOAD_PAYMENT_PURPOSES_BY_CODES;
+	}
+
 	@Override
 	public Behavior<Void> deletePaymentPurposeByCodeBehavior() {
 		return DELETE_PAYMENT_PURPOSE_BY_CODE;
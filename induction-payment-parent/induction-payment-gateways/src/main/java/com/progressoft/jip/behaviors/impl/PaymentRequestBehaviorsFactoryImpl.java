@@ -1,50 +1,72 @@
 package com.progressoft.jip.behaviors.impl;
 
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
-import org.apache.commons.dbutils.handlers.BeanListHandler;
+import org.apache.commons.dbutils.QueryRunner;
+import org.apache.commons.dbutils.ResultSetHandler;
 
+import com.progressoft.jip.beans.ContinuationToken;
 import com.progressoft.jip.beans.PaymentRequest;
-import com.progressoft.jip.behaviors.AbstractBehavior;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.behaviors.Behavior;
 import com.progressoft.jip.behaviors.PaymentRequestBehaviorsFactory;
+import com.progressoft.jip.behaviors.handlers.MappedListHandler;
+import com.progressoft.jip.behaviors.handlers.RowMappers;
 import com.progressoft.jip.gateways.exceptions.AccountDoesNotHavePaymentRequestsException;
 import com.progressoft.jip.gateways.exceptions.EmptyAccountIBANException;
+import com.progressoft.jip.gateways.exceptions.NoPaymentRequestInsertedException;
 import com.progressoft.jip.gateways.exceptions.NoneExistingPaymentRequestException;
 import com.progressoft.jip.gateways.exceptions.NullAccountIBANException;
 import com.progressoft.jip.gateways.views.PaymentRequestView;
 
 public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehaviorsFactory {
 
-	public static final Behavior<PaymentRequestView> LOAD_PAYMENT_REQUEST_BY_ID = new AbstractBehavior<PaymentRequestView>() {
+	private static final ResultSetHandler<List<PaymentRequest>> PAYMENT_REQUESTS_HANDLER = new MappedListHandler<>(RowMappers.PAYMENT_REQUEST);
+
+	public static final Behavior<Optional<PaymentRequestView>> FIND_PAYMENT_REQUEST_BY_ID = new Behavior<Optional<PaymentRequestView>>() {
 
 		@Override
-		public PaymentRequestView operation() {
+		public Optional<PaymentRequestView> operation(QueryRunner runner, Object... parameters) {
 			int id = (int) parameters[0];
 			try {
-				List<PaymentRequestView> list = new ArrayList<>();
-				runner.query(Constants.LOAD_PAYMENT_REQUEST_BY_ID_SQL_STATEMENT,
-						new BeanListHandler<>(PaymentRequest.class), id).stream()
-						.forEach(pr -> list.add((PaymentRequestView) pr));
-				if (list.isEmpty())
-					throw new NoneExistingPaymentRequestException();
-				return list.get(0);
+				List<PaymentRequest> list = runner.query(Constants.LOAD_PAYMENT_REQUEST_BY_ID_SQL_STATEMENT,
+						PAYMENT_REQUESTS_HANDLER, id);
+				return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
 			} catch (SQLException e) {
 				throw new IllegalStateException(e);
 			}
 		}
 	};
 
-	public static final Behavior<Void> DELETE_PAYMENT_REQUEST_BY_ID = new AbstractBehavior<Void>() {
+	public static final Behavior<PaymentRequestView> LOAD_PAYMENT_REQUEST_BY_ID = new Behavior<PaymentRequestView>() {
+
+		@Override
+		public PaymentRequestView operation(QueryRunner runner, Object... parameters) {
+			return FIND_PAYMENT_REQUEST_BY_ID.operation(runner, parameters)
+					.orElseThrow(NoneExistingPaymentRequestException::new);
+		}
+	};
+
+	public static final Behavior<Void> DELETE_PAYMENT_REQUEST_BY_ID = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			int id = (int) parameters[0];
 			try {
 				int effectedRow = runner.update(Constants.DELETE_PAYMENT_REQUEST_SQL_STATMENT, id);
@@ -57,17 +79,13 @@ public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehavio
 		}
 	};
 
-	public static final Behavior<Void> INSERT_PAYMENT_REQUEST = new AbstractBehavior<Void>() {
+	public static final Behavior<Void> INSERT_PAYMENT_REQUEST = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			PaymentRequestView dataStructure = (PaymentRequestView) parameters[0];
 			try {
-				int effectedRow = runner.update(Constants.INSERT_PAYMENT_REQUEST_SQL,
-						dataStructure.getOrderingAccountIban(), dataStructure.getBeneficiaryAccountIban(),
-						dataStructure.getBeneficiaryName(), dataStructure.getPaymentAmount(),
-						dataStructure.getCurrencyCode(), dataStructure.getPurposeCode(), dataStructure.getPaymentDate(),
-						dataStructure.getAmountInWords());
+				int effectedRow = runner.update(Constants.INSERT_PAYMENT_REQUEST_SQL, insertParameters(dataStructure));
 				if (effectedRow == 0)
 					throw new NoneExistingPaymentRequestException();
 				return null;
@@ -77,48 +95,166 @@ public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehavio
 		}
 	};
 
-	public static final Behavior<Collection<PaymentRequestView>> LOAD_PAYMENT_REQUESTS = new AbstractBehavior<Collection<PaymentRequestView>>() {
+	public static final Behavior<List<PaymentRequestInsertResult>> INSERT_PAYMENT_REQUESTS = new Behavior<List<PaymentRequestInsertResult>>() {
+
+		@Override
+		public List<PaymentRequestInsertResult> operation(QueryRunner runner, Object... parameters) {
+			@SuppressWarnings("unchecked")
+			List<PaymentRequestView> requests = new ArrayList<>((Collection<PaymentRequestView>) parameters[0]);
+			int batchSize = (int) parameters[1];
+			List<PaymentRequestInsertResult> results = new ArrayList<>(requests.size());
+			try (Connection connection = runner.getDataSource().getConnection();
+					PreparedStatement statement = connection.prepareStatement(Constants.INSERT_PAYMENT_REQUEST_SQL,
+							Statement.RETURN_GENERATED_KEYS)) {
+				for (int from = 0; from < requests.size(); from += batchSize)
+					results.addAll(insertBatch(statement,
+							requests.subList(from, Math.min(from + batchSize, requests.size()))));
+				return results;
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private List<PaymentRequestInsertResult> insertBatch(PreparedStatement statement,
+				List<PaymentRequestView> batch) throws SQLException {
+			PaymentRequestInsertResult[] results = new PaymentRequestInsertResult[batch.size()];
+			List<Integer> queued = new ArrayList<>();
+			for (int i = 0; i < batch.size(); i++) {
+				if (Objects.isNull(batch.get(i))) {
+					results[i] = PaymentRequestInsertResult.failed(null,
+							new NoPaymentRequestInsertedException("null payment request"));
+					continue;
+				}
+				Object[] values = insertParameters(batch.get(i));
+				for (int p = 0; p < values.length; p++)
+					statement.setObject(p + 1, values[p]);
+				statement.addBatch();
+				queued.add(i);
+			}
+			if (queued.isEmpty())
+				return Arrays.asList(results);
+			int[] counts;
+			SQLException batchFailure = null;
+			try {
+				counts = statement.executeBatch();
+			} catch (BatchUpdateException e) {
+				counts = e.getUpdateCounts();
+				batchFailure = e;
+			}
+			try (ResultSet keys = statement.getGeneratedKeys()) {
+				for (int q = 0; q < queued.size(); q++) {
+					PaymentRequestView request = batch.get(queued.get(q));
+					if (q >= counts.length || counts[q] == Statement.EXECUTE_FAILED || counts[q] == 0)
+						results[queued.get(q)] = PaymentRequestInsertResult.failed(request,
+								new NoPaymentRequestInsertedException("payment request was not inserted", batchFailure));
+					else
+						results[queued.get(q)] = PaymentRequestInsertResult.inserted(request,
+								keys.next() ? keys.getInt(1) : 0);
+				}
+			}
+			return Arrays.asList(results);
+		}
+	};
+
+	public static final Behavior<Collection<PaymentRequestView>> LOAD_PAYMENT_REQUESTS = new Behavior<Collection<PaymentRequestView>>() {
+
+		@Override
+		public Collection<PaymentRequestView> operation(QueryRunner runner, Object... parameters) {
+			try {
+				return Collections.unmodifiableCollection(
+						runner.query(Constants.SELECT_ALL_PAYMENT_REQUESTS, PAYMENT_REQUESTS_HANDLER));
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	public static final Behavior<Void> VISIT_PAYMENT_REQUESTS = new Behavior<Void>() {
+
+		@Override
+		public Void operation(QueryRunner runner, Object... parameters) {
+			@SuppressWarnings("unchecked")
+			Consumer<? super PaymentRequestView> visitor = (Consumer<? super PaymentRequestView>) parameters[0];
+			int fetchSize = (int) parameters[1];
+			try (Connection connection = runner.getDataSource().getConnection();
+					PreparedStatement statement = connection.prepareStatement(Constants.SELECT_ALL_PAYMENT_REQUESTS,
+							ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+				statement.setFetchSize(fetchSize);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					while (resultSet.next())
+						visitor.accept(RowMappers.PAYMENT_REQUEST.map(resultSet));
+				}
+				return null;
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	public static final Behavior<Collection<PaymentRequestView>> FIND_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN = new Behavior<Collection<PaymentRequestView>>() {
 
 		@Override
-		public Collection<PaymentRequestView> operation() {
+		public Collection<PaymentRequestView> operation(QueryRunner runner, Object... parameters) {
+			String iban = (String) parameters[0];
+			if (Objects.isNull(iban))
+				throw new NullAccountIBANException();
+			if (iban.isEmpty())
+				throw new EmptyAccountIBANException();
 			try {
-				List<PaymentRequestView> collection = new ArrayList<>();
-				runner.query(Constants.SELECT_ALL_PAYMENT_REQUESTS, new BeanListHandler<>(PaymentRequest.class))
-						.stream().forEach(pr -> collection.add((PaymentRequestView) pr));
-				return collection;
+				return Collections.unmodifiableCollection(runner
+						.query(Constants.SELECT_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN, PAYMENT_REQUESTS_HANDLER, iban));
 			} catch (SQLException e) {
 				throw new IllegalStateException(e);
 			}
 		}
 	};
 
-	public static final Behavior<Collection<PaymentRequestView>> LOAD_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN = new AbstractBehavior<Collection<PaymentRequestView>>() {
+	public static final Behavior<Collection<PaymentRequestView>> LOAD_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN = new Behavior<Collection<PaymentRequestView>>() {
+
+		@Override
+		public Collection<PaymentRequestView> operation(QueryRunner runner, Object... parameters) {
+			Collection<PaymentRequestView> paymentRequests = FIND_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN
+					.operation(runner, parameters);
+			if (paymentRequests.isEmpty())
+				throw new AccountDoesNotHavePaymentRequestsException();
+			return paymentRequests;
+		}
+	};
+
+	public static final Behavior<PaymentRequestPage> LOAD_PAYMENT_REQUESTS_PAGE_BY_ORDERING_ACCOUNT_IBAN = new Behavior<PaymentRequestPage>() {
 
 		@Override
-		public Collection<PaymentRequestView> operation() {
+		public PaymentRequestPage operation(QueryRunner runner, Object... parameters) {
 			String iban = (String) parameters[0];
+			int pageSize = (int) parameters[1];
+			ContinuationToken after = (ContinuationToken) parameters[2];
 			if (Objects.isNull(iban))
 				throw new NullAccountIBANException();
 			if (iban.isEmpty())
 				throw new EmptyAccountIBANException();
 			try {
-				List<PaymentRequestView> paymentRequests = new ArrayList<>();
-				runner.query(Constants.SELECT_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN,
-						new BeanListHandler<>(PaymentRequest.class), iban).stream()
-						.forEach(pr -> paymentRequests.add((PaymentRequestView) pr));
-				if (paymentRequests.isEmpty())
-					throw new AccountDoesNotHavePaymentRequestsException();
-				return Collections.unmodifiableCollection(paymentRequests);
+				List<PaymentRequest> rows = Objects.isNull(after)
+						? runner.query(Constants.SELECT_PAYMENT_REQUESTS_PAGE_BY_ORDERING_ACCOUNT_IBAN,
+								PAYMENT_REQUESTS_HANDLER, iban, pageSize + 1)
+						: runner.query(Constants.SELECT_PAYMENT_REQUESTS_PAGE_AFTER_BY_ORDERING_ACCOUNT_IBAN,
+								PAYMENT_REQUESTS_HANDLER, iban,
+								Date.valueOf(after.getLastPaymentDate()), Date.valueOf(after.getLastPaymentDate()),
+								after.getLastId(), pageSize + 1);
+				if (rows.size() <= pageSize)
+					return new PaymentRequestPage(Collections.unmodifiableCollection(rows), null);
+				List<PaymentRequest> page = rows.subList(0, pageSize);
+				return new PaymentRequestPage(Collections.unmodifiableCollection(page),
+						ContinuationToken.after(page.get(pageSize - 1)).encode());
 			} catch (SQLException e) {
 				throw new IllegalStateException(e);
 			}
 		}
 	};
 
-	private static final Behavior<Void> UPDATE_PAYMENT_REQUEST = new AbstractBehavior<Void>() {
+	private static final Behavior<Void> UPDATE_PAYMENT_REQUEST = new Behavior<Void>() {
 
 		@Override
-		public Void operation() {
+		public Void operation(QueryRunner runner, Object... parameters) {
 			PaymentRequestView dataStructure = (PaymentRequestView) parameters[0];
 			try {
 				int effectedRow = runner.update(Constants.UPDATE_PAYMENT_REQUEST_SQL,
@@ -135,15 +271,15 @@ public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehavio
 		}
 	};
 
-	private static final Behavior<Collection<PaymentRequestView>> LOAD_PAYMENT_REQUESTS_BY_PAYMENT_DATE = new AbstractBehavior<Collection<PaymentRequestView>>() {
+	private static final Behavior<Collection<PaymentRequestView>> LOAD_PAYMENT_REQUESTS_BY_PAYMENT_DATE = new Behavior<Collection<PaymentRequestView>>() {
 
 		@Override
-		public Collection<PaymentRequestView> operation() {
+		public Collection<PaymentRequestView> operation(QueryRunner runner, Object... parameters) {
 			String paymentDate = ((LocalDate) parameters[0]).toString();
 			try {
 				List<PaymentRequestView> list = new ArrayList<>();
 				runner.query(Constants.LOAD_PAYMENT_REQUEST_BY_PAYMENT_DATE,
-						new BeanListHandler<>(PaymentRequest.class), paymentDate).stream()
+						PAYMENT_REQUESTS_HANDLER, paymentDate).stream()
 						.forEach(pr -> list.add((PaymentRequestView) pr));
 				if (list.isEmpty())
 					throw new NoneExistingPaymentRequestException();
@@ -159,6 +295,11 @@ public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehavio
 		return LOAD_PAYMENT_REQUEST_BY_ID;
 	}
 
+	@Override
+	public Behavior<Optional<PaymentRequestView>> findPaymentRequestById() {
+		return FIND_PAYMENT_REQUEST_BY_ID;
+	}
+
 	@Override
 	public Behavior<Void> deletePaymentRequestById() {
 		return DELETE_PAYMENT_REQUEST_BY_ID;
@@ -169,16 +310,36 @@ public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehavio
 		return INSERT_PAYMENT_REQUEST;
 	}
 
+	@Override
+	public Behavior<List<PaymentRequestInsertResult>> insertPaymentRequests() {
+		return INSERT_PAYMENT_REQUESTS;
+	}
+
 	@Override
 	public Behavior<Collection<PaymentRequestView>> loadPaymentRequests() {
 		return LOAD_PAYMENT_REQUESTS;
 	}
 
+	@Override
+	public Behavior<Void> visitPaymentRequests() {
+		return VISIT_PAYMENT_REQUESTS;
+	}
+
 	@Override
 	public Behavior<Collection<PaymentRequestView>> loadPaymentRequestsByOrderingAccIBAN() {
 		return LOAD_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN;
 	}
 
+	@Override
+	public Behavior<Collection<PaymentRequestView>> findPaymentRequestsByOrderingAccIBAN() {
+		return FIND_PAYMENT_REQUESTS_BY_ORDERING_ACCOUNT_IBAN;
+	}
+
+	@Override
+	public Behavior<PaymentRequestPage> loadPaymentRequestsPageByOrderingAccIBAN() {
+		return LOAD_PAYMENT_REQUESTS_PAGE_BY_ORDERING_ACCOUNT_IBAN;
+	}
+
 	@Override
 	public Behavior<Collection<PaymentRequestView>> loadPaymentRequestsByPaymentDate() {
 		return LOAD_PAYMENT_REQUESTS_BY_PAYMENT_DATE;
@@ -189,4 +350,10 @@ public class PaymentRequestBehaviorsFactoryImpl implements PaymentRequestBehavio
 		return UPDATE_PAYMENT_REQUEST;
 	}
 
-}
+	private static Object[] insertParameters(PaymentRequestView dataStructure) {
+		return new Object[] { dataStructure.getOrderingAccountIban(), dataStructure.getBeneficiaryAccountIban(),
+				dataStructure.getBeneficiaryName(), dataStructure.getPaymentAmount(), dataStructure.getCurrencyCode(),
+				dataStructure.getPurposeCode(), dataStructure.getPaymentDate(), dataStructure.getAmountInWords() };
+	}
+
+}
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.progressoft.jip.gateways;
 
 import java.util.Collection;
+import java.util.Map;
 
 import com.progressoft.jip.gateways.views.AccountView;
 
@@ -10,6 +11,8 @@ public interface AccountGateway {
 
 	public Collection<AccountView> loadAccounts();
 
+	Map<String, AccountView> loadAccountsByIbans(Collection<String> ibans);
+
 	void updateAccount(AccountView account);
 
 	void createAccount(AccountView newAccount);
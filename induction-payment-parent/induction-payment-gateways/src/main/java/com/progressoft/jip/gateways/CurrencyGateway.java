@@ -1,6 +1,7 @@
 package com.progressoft.jip.gateways;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import com.progressoft.jip.gateways.views.CurrencyView;
 
@@ -10,4 +11,6 @@ public interface CurrencyGateway {
 
     CurrencyView loadCurrencyByCode(String currencyCode);
 
+    Optional<CurrencyView> findCurrencyByCode(String currencyCode);
+
 }
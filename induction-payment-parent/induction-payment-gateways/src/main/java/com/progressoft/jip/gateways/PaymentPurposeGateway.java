@@ -1,6 +1,7 @@
 package com.progressoft.jip.gateways;
 
 import java.util.Collection;
+import java.util.Map;
 
 import com.progressoft.jip.gateways.views.PaymentPurposeView;
 
@@ -12,6 +13,8 @@ public interface PaymentPurposeGateway {
 
 	Collection<PaymentPurposeView> loadPaymentPurposes();
 
+	Map<String, PaymentPurposeView> loadPaymentPurposesByCodes(Collection<String> codes);
+
 	void deletePaymentPurposeByCode(String code);
 
 	void updatePaymentPurposeName(PaymentPurposeView paymentPurpose);
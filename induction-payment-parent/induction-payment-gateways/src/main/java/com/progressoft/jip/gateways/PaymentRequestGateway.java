@@ -2,7 +2,12 @@ package com.progressoft.jip.gateways;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.gateways.views.PaymentRequestView;
 
 public interface PaymentRequestGateway {
@@ -11,12 +16,23 @@ public interface PaymentRequestGateway {
 
     PaymentRequestView loadPaymentRequestById(int id);
 
+    Optional<PaymentRequestView> findPaymentRequestById(int id);
+
     void insertPaymentRequest(PaymentRequestView paymentRequest);
 
+    List<PaymentRequestInsertResult> insertPaymentRequests(Collection<PaymentRequestView> paymentRequests);
+
     Collection<PaymentRequestView> loadPaymentRequests();
 
+    void forEachPaymentRequest(Consumer<? super PaymentRequestView> visitor);
+
     Collection<PaymentRequestView> loadPaymentRequestsByOrderingAccountIban(String iban);
 
+    Collection<PaymentRequestView> findPaymentRequestsByOrderingAccountIban(String iban);
+
+    PaymentRequestPage loadPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize,
+            String continuationToken);
+
 	Collection<PaymentRequestView> loadPaymentRequestsByPaymentDate(LocalDate paymentDate);
 
 	void updatePaymentRequest(PaymentRequestView request);
@@ -4,7 +4,7 @@ public class AccountDoesNotHavePaymentRequestsException extends RuntimeException
 	private static final long serialVersionUID = 1L;
 
 	public AccountDoesNotHavePaymentRequestsException() {
-		super();
+		super(null, null, false, false);
 	}
 
 	public AccountDoesNotHavePaymentRequestsException(String message) {
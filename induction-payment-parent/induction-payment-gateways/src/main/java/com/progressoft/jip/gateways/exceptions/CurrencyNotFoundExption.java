@@ -3,4 +3,7 @@ package com.progressoft.jip.gateways.exceptions;
 public class CurrencyNotFoundExption extends RuntimeException {
     private static final long serialVersionUID = 1L;
 
+    public CurrencyNotFoundExption() {
+	super(null, null, false, false);
+    }
 }
@@ -0,0 +1,27 @@
+package com.progressoft.jip.gateways.exceptions;
+
+public class InvalidContinuationTokenException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidContinuationTokenException() {
+		super();
+	}
+
+	public InvalidContinuationTokenException(String message, Throwable cause, boolean enableSuppression,
+			boolean writableStackTrace) {
+		super(message, cause, enableSuppression, writableStackTrace);
+	}
+
+	public InvalidContinuationTokenException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	public InvalidContinuationTokenException(String message) {
+		super(message);
+	}
+
+	public InvalidContinuationTokenException(Throwable cause) {
+		super(cause);
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.progressoft.jip.gateways.exceptions;
+
+public class NoPaymentRequestInsertedException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public NoPaymentRequestInsertedException() {
+		super();
+	}
+
+	public NoPaymentRequestInsertedException(String message, Throwable cause, boolean enableSuppression,
+			boolean writableStackTrace) {
+		super(message, cause, enableSuppression, writableStackTrace);
+	}
+
+	public NoPaymentRequestInsertedException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	public NoPaymentRequestInsertedException(String message) {
+		super(message);
+	}
+
+	public NoPaymentRequestInsertedException(Throwable cause) {
+		super(cause);
+	}
+
+}
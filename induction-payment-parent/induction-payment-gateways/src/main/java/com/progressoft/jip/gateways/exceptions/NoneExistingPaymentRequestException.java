@@ -2,4 +2,8 @@ package com.progressoft.jip.gateways.exceptions;
 
 public class NoneExistingPaymentRequestException extends RuntimeException {
     private static final long serialVersionUID = 1L;
+
+    public NoneExistingPaymentRequestException() {
+	super(null, null, false, false);
+    }
 }
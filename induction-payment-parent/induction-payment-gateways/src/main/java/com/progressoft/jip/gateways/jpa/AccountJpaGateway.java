@@ -2,7 +2,9 @@ package com.progressoft.jip.gateways.jpa;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.progressoft.jip.entities.AccountEntity;
 import com.progressoft.jip.gateways.AccountGateway;
@@ -12,12 +14,23 @@ import com.progressoft.jip.gateways.views.AccountView;
 import com.progressoft.jip.jparepositories.AccountJpaRepository;
 
 public class AccountJpaGateway implements AccountGateway {
+	public static final int DEFAULT_IN_LIST_CHUNK_SIZE = 1000;
+
 	private AccountJpaRepository accountJpaRepository;
 	private EntityToBeanConverter beanConverter;
 	private BeanToEntityConverter entityConverter;
+	private int inListChunkSize;
 
 	public AccountJpaGateway(EntityToBeanConverter beanConverter, BeanToEntityConverter entityConverter,
 			AccountJpaRepository accountJpaRepository) {
+		this(beanConverter, entityConverter, accountJpaRepository, DEFAULT_IN_LIST_CHUNK_SIZE);
+	}
+
+	public AccountJpaGateway(EntityToBeanConverter beanConverter, BeanToEntityConverter entityConverter,
+			AccountJpaRepository accountJpaRepository, int inListChunkSize) {
+		if (inListChunkSize < 1)
+			throw new IllegalArgumentException("in list chunk size must be positive");
+		this.inListChunkSize = inListChunkSize;
 		this.accountJpaRepository = accountJpaRepository;
 		this.beanConverter = beanConverter;
 		this.entityConverter = entityConverter;
@@ -37,6 +50,14 @@ public class AccountJpaGateway implements AccountGateway {
 		return accountViews;
 	}
 
+	@Override
+	public Map<String, AccountView> loadAccountsByIbans(Collection<String> ibans) {
+		Map<String, AccountView> accountViews = new HashMap<>();
+		accountJpaRepository.loadAccountsByIbans(ibans, inListChunkSize).stream()
+				.forEach(a -> accountViews.put(a.getIban(), beanConverter.toAccountBean(a)));
+		return accountViews;
+	}
+
 	@Override
 	public void updateAccount(AccountView account) {
 		AccountEntity accountEntity = entityConverter.toAccountEntity(account);
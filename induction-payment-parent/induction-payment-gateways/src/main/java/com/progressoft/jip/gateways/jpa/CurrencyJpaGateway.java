@@ -3,6 +3,7 @@ package com.progressoft.jip.gateways.jpa;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import com.progressoft.jip.entities.CurrencyEntity;
 import com.progressoft.jip.gateways.CurrencyGateway;
@@ -33,4 +34,9 @@ public class CurrencyJpaGateway implements CurrencyGateway {
 		return beanConverter.toCurrencyBean(loadCurrencyByCode);
 	}
 
+	@Override
+	public Optional<CurrencyView> findCurrencyByCode(String currencyCode) {
+		return currencyJpaRepository.findCurrencyByCode(currencyCode).map(beanConverter::toCurrencyBean);
+	}
+
 }
@@ -2,7 +2,9 @@ package com.progressoft.jip.gateways.jpa;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.progressoft.jip.entities.PaymentPurposeEntity;
 import com.progressoft.jip.gateways.PaymentPurposeGateway;
@@ -12,12 +14,23 @@ import com.progressoft.jip.gateways.views.PaymentPurposeView;
 import com.progressoft.jip.jparepositories.PaymentPurposeJpaRepository;
 
 public class PaymentPurposeJpaGateway implements PaymentPurposeGateway {
+	public static final int DEFAULT_IN_LIST_CHUNK_SIZE = AccountJpaGateway.DEFAULT_IN_LIST_CHUNK_SIZE;
+
 	private EntityToBeanConverter beanConverter;
 	private BeanToEntityConverter entityConverter;
 	private PaymentPurposeJpaRepository paymentPurposeJpaRepository;
+	private int inListChunkSize;
 
 	public PaymentPurposeJpaGateway(EntityToBeanConverter beanConverter, BeanToEntityConverter entityConverter,
 			PaymentPurposeJpaRepository paymentPurposeJpaRepository) {
+		this(beanConverter, entityConverter, paymentPurposeJpaRepository, DEFAULT_IN_LIST_CHUNK_SIZE);
+	}
+
+	public PaymentPurposeJpaGateway(EntityToBeanConverter beanConverter, BeanToEntityConverter entityConverter,
+			PaymentPurposeJpaRepository paymentPurposeJpaRepository, int inListChunkSize) {
+		if (inListChunkSize < 1)
+			throw new IllegalArgumentException("in list chunk size must be positive");
+		this.inListChunkSize = inListChunkSize;
 		this.beanConverter = beanConverter;
 		this.entityConverter = entityConverter;
 		this.paymentPurposeJpaRepository = paymentPurposeJpaRepository;
@@ -43,6 +56,14 @@ public class PaymentPurposeJpaGateway implements PaymentPurposeGateway {
 		return purposeViews;
 	}
 
+	@Override
+	public Map<String, PaymentPurposeView> loadPaymentPurposesByCodes(Collection<String> codes) {
+		Map<String, PaymentPurposeView> purposeViews = new HashMap<>();
+		paymentPurposeJpaRepository.loadPaymentPurposesByCodes(codes, inListChunkSize).stream()
+				.forEach(p -> purposeViews.put(p.getCode(), beanConverter.toPaymentPurposeBean(p)));
+		return purposeViews;
+	}
+
 	@Override
 	public void deletePaymentPurposeByCode(String code) {
 		paymentPurposeJpaRepository.deletePaymentPurposeByCode(code);
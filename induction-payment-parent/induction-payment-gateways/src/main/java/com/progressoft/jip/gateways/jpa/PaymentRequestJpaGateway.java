@@ -3,10 +3,19 @@ package com.progressoft.jip.gateways.jpa;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.progressoft.jip.beans.ContinuationToken;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.entities.PaymentRequestEntity;
 import com.progressoft.jip.gateways.PaymentRequestGateway;
 import com.progressoft.jip.gateways.jpa.converters.BeanToEntityConverter;
@@ -14,14 +23,33 @@ import com.progressoft.jip.gateways.jpa.converters.EntityToBeanConverter;
 import com.progressoft.jip.gateways.views.PaymentRequestView;
 import com.progressoft.jip.jparepositories.PaymentRequestJpaRepository;
 
+import repositories.loader.EntityManagerLoader;
+
 public class PaymentRequestJpaGateway implements PaymentRequestGateway {
 
+	public static final int DEFAULT_INSERT_CHUNK_SIZE = EntityManagerLoader.JDBC_BATCH_SIZE;
+	public static final int DEFAULT_FETCH_SIZE = 500;
+
 	private EntityToBeanConverter beanConverter;
 	private BeanToEntityConverter entityConverter;
 	private PaymentRequestJpaRepository paymentRequestJpaRepository;
+	private int insertChunkSize;
+	private int fetchSize;
 
 	public PaymentRequestJpaGateway(EntityToBeanConverter beanConverter, BeanToEntityConverter entityConverter,
 			PaymentRequestJpaRepository paymentRequestJpaRepository) {
+		this(beanConverter, entityConverter, paymentRequestJpaRepository, DEFAULT_INSERT_CHUNK_SIZE,
+				DEFAULT_FETCH_SIZE);
+	}
+
+	public PaymentRequestJpaGateway(EntityToBeanConverter beanConverter, BeanToEntityConverter entityConverter,
+			PaymentRequestJpaRepository paymentRequestJpaRepository, int insertChunkSize, int fetchSize) {
+		if (insertChunkSize < 1)
+			throw new IllegalArgumentException("insert chunk size must be positive");
+		if (fetchSize < 1)
+			throw new IllegalArgumentException("fetch size must be positive");
+		this.insertChunkSize = insertChunkSize;
+		this.fetchSize = fetchSize;
 		this.beanConverter = beanConverter;
 		this.entityConverter = entityConverter;
 		this.paymentRequestJpaRepository = paymentRequestJpaRepository;
@@ -38,12 +66,42 @@ public class PaymentRequestJpaGateway implements PaymentRequestGateway {
 		return beanConverter.toPaymentRequestBean(loadPaymentRequestById);
 	}
 
+	@Override
+	public Optional<PaymentRequestView> findPaymentRequestById(int id) {
+		return paymentRequestJpaRepository.findPaymentRequestById(id).map(beanConverter::toPaymentRequestBean);
+	}
+
 	@Override
 	public void insertPaymentRequest(PaymentRequestView paymentRequest) {
 		PaymentRequestEntity paymentRequestEntity = entityConverter.toPaymentRequestEntity(paymentRequest);
 		paymentRequestJpaRepository.insertPaymentRequest(paymentRequestEntity);
 	}
 
+	@Override
+	public List<PaymentRequestInsertResult> insertPaymentRequests(Collection<PaymentRequestView> paymentRequests) {
+		List<PaymentRequestView> requests = new ArrayList<>(paymentRequests);
+		PaymentRequestInsertResult[] results = new PaymentRequestInsertResult[requests.size()];
+		List<PaymentRequestEntity> entities = new ArrayList<>();
+		List<Integer> positions = new ArrayList<>();
+		for (int i = 0; i < requests.size(); i++) {
+			try {
+				entities.add(entityConverter.toPaymentRequestEntity(requests.get(i)));
+				positions.add(i);
+			} catch (RuntimeException e) {
+				results[i] = PaymentRequestInsertResult.failed(requests.get(i), e);
+			}
+		}
+		Map<Integer, RuntimeException> failures = paymentRequestJpaRepository.insertPaymentRequests(entities,
+				insertChunkSize);
+		for (int e = 0; e < entities.size(); e++) {
+			PaymentRequestView request = requests.get(positions.get(e));
+			results[positions.get(e)] = failures.containsKey(e)
+					? PaymentRequestInsertResult.failed(request, failures.get(e))
+					: PaymentRequestInsertResult.inserted(request, entities.get(e).getId());
+		}
+		return Arrays.asList(results);
+	}
+
 	@Override
 	public Collection<PaymentRequestView> loadPaymentRequests() {
 		Collection<PaymentRequestEntity> loadPaymentRequests = paymentRequestJpaRepository.loadPaymentRequests();
@@ -52,6 +110,12 @@ public class PaymentRequestJpaGateway implements PaymentRequestGateway {
 		return paymentRequestViews;
 	}
 
+	@Override
+	public void forEachPaymentRequest(Consumer<? super PaymentRequestView> visitor) {
+		paymentRequestJpaRepository.forEachPaymentRequest(p -> visitor.accept(beanConverter.toPaymentRequestBean(p)),
+				fetchSize);
+	}
+
 	@Override
 	public Collection<PaymentRequestView> loadPaymentRequestsByOrderingAccountIban(String iban) {
 		Collection<PaymentRequestEntity> loadPaymentRequestsByOrderingAccountIBAN = paymentRequestJpaRepository
@@ -62,11 +126,31 @@ public class PaymentRequestJpaGateway implements PaymentRequestGateway {
 		return paymentRequestViews;
 	}
 
+	@Override
+	public Collection<PaymentRequestView> findPaymentRequestsByOrderingAccountIban(String iban) {
+		return loadPaymentRequestsByOrderingAccountIban(iban);
+	}
+
+	@Override
+	public PaymentRequestPage loadPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize,
+			String continuationToken) {
+		if (pageSize < 1)
+			throw new IllegalArgumentException("page size must be positive");
+		ContinuationToken after = ContinuationToken.decode(continuationToken);
+		List<PaymentRequestEntity> rows = Objects.isNull(after)
+				? paymentRequestJpaRepository.loadPaymentRequestsPageByOrderingAccountIBAN(iban, null, 0, pageSize + 1)
+				: paymentRequestJpaRepository.loadPaymentRequestsPageByOrderingAccountIBAN(iban,
+						toDate(after.getLastPaymentDate()), after.getLastId(), pageSize + 1);
+		List<PaymentRequestView> page = new ArrayList<>();
+		rows.stream().limit(pageSize).forEach(p -> page.add(beanConverter.toPaymentRequestBean(p)));
+		String next = rows.size() > pageSize ? ContinuationToken.after(page.get(pageSize - 1)).encode() : null;
+		return new PaymentRequestPage(Collections.unmodifiableCollection(page), next);
+	}
+
 	@Override
 	public Collection<PaymentRequestView> loadPaymentRequestsByPaymentDate(LocalDate paymentDate) {
 		Collection<PaymentRequestEntity> loadPaymentRequestByPaymentDate = paymentRequestJpaRepository
-				.loadPaymentRequestByPaymentDate(
-						Date.from(paymentDate.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+				.loadPaymentRequestByPaymentDate(toDate(paymentDate));
 		List<PaymentRequestView> paymentRequestViews = new ArrayList<>();
 		loadPaymentRequestByPaymentDate.stream()
 				.forEach(p -> paymentRequestViews.add(beanConverter.toPaymentRequestBean(p)));
@@ -79,4 +163,8 @@ public class PaymentRequestJpaGateway implements PaymentRequestGateway {
 		paymentRequestJpaRepository.updatePaymentRequest(paymentRequestEntity);
 	}
 
+	private static Date toDate(LocalDate localDate) {
+		return Date.from(localDate.atStartOfDay(ZoneId.systemDefault()).toInstant());
+	}
+
 }
@@ -1,6 +1,7 @@
 package com.progressoft.jip.gateways.sql.impl;
 
 import java.util.Collection;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
@@ -12,15 +13,30 @@ import com.progressoft.jip.gateways.views.AccountView;
 
 public class MySqlAccountGateway extends AbstractGateway implements AccountGateway {
 
+	// keeps each IN list well below MySQL's max_allowed_packet and the
+	// prepared statement placeholder limit
+	public static final int DEFAULT_IN_LIST_CHUNK_SIZE = 1000;
+
 	private Behavior<AccountView> loadAccountByIBAN;
 	private Behavior<Collection<AccountView>> loadAccounts;
+	private Behavior<Map<String, AccountView>> loadAccountsByIbans;
 	private Behavior<Void> updateAccount;
 	private Behavior<Void> createAccount;
+	private int inListChunkSize;
 
 	public MySqlAccountGateway(DataSource dataSource, AccountGatewayDBBehaviorsFactory factory) {
+		this(dataSource, factory, DEFAULT_IN_LIST_CHUNK_SIZE);
+	}
+
+	public MySqlAccountGateway(DataSource dataSource, AccountGatewayDBBehaviorsFactory factory,
+			int inListChunkSize) {
 		super(dataSource);
+		if (inListChunkSize < 1)
+			throw new IllegalArgumentException("in list chunk size must be positive");
+		this.inListChunkSize = inListChunkSize;
 		this.loadAccountByIBAN = factory.loadAccountByIBAN();
 		this.loadAccounts = factory.loadAccounts();
+		this.loadAccountsByIbans = factory.loadAccountsByIbans();
 		this.updateAccount = factory.updateAccount();
 		this.createAccount = factory.createAccount();
 	}
@@ -35,6 +51,11 @@ public class MySqlAccountGateway extends AbstractGateway implements AccountGatew
 		return loadAccounts.execute(dataSource);
 	}
 
+	@Override
+	public Map<String, AccountView> loadAccountsByIbans(Collection<String> ibans) {
+		return loadAccountsByIbans.execute(dataSource, ibans, inListChunkSize);
+	}
+
 	@Override
 	public void updateAccount(AccountView account) {
 		updateAccount.execute(dataSource, account);
@@ -1,6 +1,7 @@
 package com.progressoft.jip.gateways.sql.impl;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import javax.sql.DataSource;
 
@@ -16,11 +17,13 @@ public class MySqlCurrencyGateway extends AbstractGateway implements CurrencyGat
 
     private Behavior<Collection<CurrencyView>> loadCurrencies;
     private Behavior<CurrencyView> loadCurrencyByCode;
+    private Behavior<Optional<CurrencyView>> findCurrencyByCode;
 
     public MySqlCurrencyGateway(DataSource dataSource, CurrencyGatewayDBBehaviorsFactory factory) {
 	super(dataSource);
 	this.loadCurrencies = factory.loadCurrencies();
 	this.loadCurrencyByCode = factory.loadCurrencyByCode();
+	this.findCurrencyByCode = factory.findCurrencyByCode();
     }
 
     @Override
@@ -31,4 +34,9 @@ public class MySqlCurrencyGateway extends AbstractGateway implements CurrencyGat
     public CurrencyView loadCurrencyByCode(String currencyCode) {
 	return loadCurrencyByCode.execute(dataSource, currencyCode);
     }
+
+    @Override
+    public Optional<CurrencyView> findCurrencyByCode(String currencyCode) {
+	return findCurrencyByCode.execute(dataSource, currencyCode);
+    }
 }
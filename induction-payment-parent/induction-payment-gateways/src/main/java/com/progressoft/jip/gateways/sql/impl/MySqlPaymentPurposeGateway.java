@@ -1,6 +1,7 @@
 package com.progressoft.jip.gateways.sql.impl;
 
 import java.util.Collection;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
@@ -14,17 +15,30 @@ import com.progressoft.jip.gateways.views.PaymentPurposeView;
 
 public class MySqlPaymentPurposeGateway extends AbstractGateway implements PaymentPurposeGateway {
 
+    public static final int DEFAULT_IN_LIST_CHUNK_SIZE = MySqlAccountGateway.DEFAULT_IN_LIST_CHUNK_SIZE;
+
     private final Behavior<PaymentPurposeView> loadPaymentPurposeByCode;
     private final Behavior<Void> insertPaymentPurpose;
     private final Behavior<Collection<PaymentPurposeView>> loadPaymentPurposes;
+    private final Behavior<Map<String, PaymentPurposeView>> loadPaymentPurposesByCodes;
     private final Behavior<Void> deletePaymentPurposeByCode;
     private final Behavior<Void> updatePaymentPurposeName;
+    private final int inListChunkSize;
 
     public MySqlPaymentPurposeGateway(DataSource dataSource, PaymentPurposeBehaviorsFactory factory) {
+	this(dataSource, factory, DEFAULT_IN_LIST_CHUNK_SIZE);
+    }
+
+    public MySqlPaymentPurposeGateway(DataSource dataSource, PaymentPurposeBehaviorsFactory factory,
+	    int inListChunkSize) {
 	super(dataSource);
+	if (inListChunkSize < 1)
+	    throw new IllegalArgumentException("in list chunk size must be positive");
+	this.inListChunkSize = inListChunkSize;
 	this.insertPaymentPurpose = factory.insertPaymentPurposeBehavior();
 	this.loadPaymentPurposeByCode = factory.loadPaymentPurposeByCodeBehavior();
 	this.loadPaymentPurposes = factory.loadPaymentPurposesBehavior();
+	this.loadPaymentPurposesByCodes = factory.loadPaymentPurposesByCodesBehavior();
 	this.deletePaymentPurposeByCode = factory.deletePaymentPurposeByCodeBehavior();
 	this.updatePaymentPurposeName = factory.updatePaymentPurposeNameBehavior();
     }
@@ -44,6 +58,11 @@ public class MySqlPaymentPurposeGateway extends AbstractGateway implements Payme
 	return loadPaymentPurposes.execute(dataSource);
     }
 
+    @Override
+    public Map<String, PaymentPurposeView> loadPaymentPurposesByCodes(Collection<String> codes) {
+	return loadPaymentPurposesByCodes.execute(dataSource, codes, inListChunkSize);
+    }
+
     @Override
     public void deletePaymentPurposeByCode(String code) {
 	deletePaymentPurposeByCode.execute(dataSource, code);
@@ -2,9 +2,15 @@ package com.progressoft.jip.gateways.sql.impl;
 
 import java.time.LocalDate;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.sql.DataSource;
 
+import com.progressoft.jip.beans.ContinuationToken;
+import com.progressoft.jip.beans.PaymentRequestInsertResult;
+import com.progressoft.jip.beans.PaymentRequestPage;
 import com.progressoft.jip.behaviors.Behavior;
 import com.progressoft.jip.behaviors.PaymentRequestBehaviorsFactory;
 import com.progressoft.jip.gateways.PaymentRequestGateway;
@@ -15,21 +21,52 @@ import com.progressoft.jip.gateways.views.PaymentRequestView;
 
 public class MySqlPaymentRequestGateway extends AbstractGateway implements PaymentRequestGateway {
 
+	public static final int DEFAULT_INSERT_BATCH_SIZE = 500;
+	// MySQL Connector/J only streams a forward-only result set row by row
+	// when the fetch size is Integer.MIN_VALUE (or useCursorFetch is on)
+	public static final int DEFAULT_FETCH_SIZE = Integer.MIN_VALUE;
+
 	private Behavior<PaymentRequestView> loadPaymentRequestById;
+	private Behavior<Optional<PaymentRequestView>> findPaymentRequestById;
 	private Behavior<Void> deletePaymentRequestById;
 	private Behavior<Void> insertPaymentRequest;
+	private Behavior<List<PaymentRequestInsertResult>> insertPaymentRequests;
 	private Behavior<Collection<PaymentRequestView>> loadPaymentRequests;
+	private Behavior<Void> visitPaymentRequests;
 	private Behavior<Collection<PaymentRequestView>> loadPaymentRequestsByOrderingAccIBAN;
+	private Behavior<Collection<PaymentRequestView>> findPaymentRequestsByOrderingAccIBAN;
+	private Behavior<PaymentRequestPage> loadPaymentRequestsPageByOrderingAccIBAN;
 	private Behavior<Collection<PaymentRequestView>> loadPaymentRequestsByPaymentDate;
 	private Behavior<Void> updatePaymentRequest;
+	private int insertBatchSize;
+	private int fetchSize;
 
 	public MySqlPaymentRequestGateway(DataSource dataSource, PaymentRequestBehaviorsFactory factory) {
+		this(dataSource, factory, DEFAULT_INSERT_BATCH_SIZE);
+	}
+
+	public MySqlPaymentRequestGateway(DataSource dataSource, PaymentRequestBehaviorsFactory factory,
+			int insertBatchSize) {
+		this(dataSource, factory, insertBatchSize, DEFAULT_FETCH_SIZE);
+	}
+
+	public MySqlPaymentRequestGateway(DataSource dataSource, PaymentRequestBehaviorsFactory factory,
+			int insertBatchSize, int fetchSize) {
 		super(dataSource);
+		if (insertBatchSize < 1)
+			throw new IllegalArgumentException("insert batch size must be positive");
+		this.insertBatchSize = insertBatchSize;
+		this.fetchSize = fetchSize;
 		this.loadPaymentRequestById = factory.loadPaymentRequestById();
+		this.findPaymentRequestById = factory.findPaymentRequestById();
 		this.deletePaymentRequestById = factory.deletePaymentRequestById();
 		this.insertPaymentRequest = factory.insertPaymentRequest();
+		this.insertPaymentRequests = factory.insertPaymentRequests();
 		this.loadPaymentRequests = factory.loadPaymentRequests();
+		this.visitPaymentRequests = factory.visitPaymentRequests();
 		this.loadPaymentRequestsByOrderingAccIBAN = factory.loadPaymentRequestsByOrderingAccIBAN();
+		this.findPaymentRequestsByOrderingAccIBAN = factory.findPaymentRequestsByOrderingAccIBAN();
+		this.loadPaymentRequestsPageByOrderingAccIBAN = factory.loadPaymentRequestsPageByOrderingAccIBAN();
 		this.loadPaymentRequestsByPaymentDate = factory.loadPaymentRequestsByPaymentDate();
 		this.updatePaymentRequest = factory.updatePaymentRequest();
 	}
@@ -44,21 +81,50 @@ public class MySqlPaymentRequestGateway extends AbstractGateway implements Payme
 		return loadPaymentRequestById.execute(dataSource, id);
 	}
 
+	@Override
+	public Optional<PaymentRequestView> findPaymentRequestById(int id) {
+		return findPaymentRequestById.execute(dataSource, id);
+	}
+
 	@Override
 	public void insertPaymentRequest(PaymentRequestView paymentRequestDataStructure) {
 		insertPaymentRequest.execute(dataSource, paymentRequestDataStructure);
 	}
 
+	@Override
+	public List<PaymentRequestInsertResult> insertPaymentRequests(Collection<PaymentRequestView> paymentRequests) {
+		return insertPaymentRequests.execute(dataSource, paymentRequests, insertBatchSize);
+	}
+
 	@Override
 	public Collection<PaymentRequestView> loadPaymentRequests() {
 		return loadPaymentRequests.execute(dataSource);
 	}
 
+	@Override
+	public void forEachPaymentRequest(Consumer<? super PaymentRequestView> visitor) {
+		visitPaymentRequests.execute(dataSource, visitor, fetchSize);
+	}
+
 	@Override
 	public Collection<PaymentRequestView> loadPaymentRequestsByOrderingAccountIban(String iban) {
 		return loadPaymentRequestsByOrderingAccIBAN.execute(dataSource, iban);
 	}
 
+	@Override
+	public Collection<PaymentRequestView> findPaymentRequestsByOrderingAccountIban(String iban) {
+		return findPaymentRequestsByOrderingAccIBAN.execute(dataSource, iban);
+	}
+
+	@Override
+	public PaymentRequestPage loadPaymentRequestsPageByOrderingAccountIban(String iban, int pageSize,
+			String continuationToken) {
+		if (pageSize < 1)
+			throw new IllegalArgumentException("page size must be positive");
+		return loadPaymentRequestsPageByOrderingAccIBAN.execute(dataSource, iban, pageSize,
+				ContinuationToken.decode(continuationToken));
+	}
+
 	@Override
 	public Collection<PaymentRequestView> loadPaymentRequestsByPaymentDate(LocalDate now) {
 		return loadPaymentRequestsByPaymentDate.execute(dataSource, now);
@@ -13,7 +13,8 @@ import java.util.List;
 @Table(name = "account")
 
 @NamedQueries({ @NamedQuery(name = "AccountEntity.findAll", query = "SELECT a FROM AccountEntity a"),
-		@NamedQuery(name = "AccountEntity.findByIban", query = "SELECT a FROM AccountEntity a WHERE a.iban = :iban") })
+		@NamedQuery(name = "AccountEntity.findByIban", query = "SELECT a FROM AccountEntity a WHERE a.iban = :iban"),
+		@NamedQuery(name = "AccountEntity.findByIbans", query = "SELECT a FROM AccountEntity a WHERE a.iban IN :ibans") })
 public class AccountEntity implements Serializable {
 	private static final long serialVersionUID = 1L;
 
@@ -12,7 +12,8 @@ import java.util.List;
 @Entity
 @Table(name="paymentPurpose")
 @NamedQueries({@NamedQuery(name="PaymentPurposeEntity.findAll", query="SELECT p FROM PaymentPurposeEntity p"),
-@NamedQuery(name="PaymentPurposeEntity.findByCode", query="SELECT p FROM PaymentPurposeEntity p where p.code=:code")})
+@NamedQuery(name="PaymentPurposeEntity.findByCode", query="SELECT p FROM PaymentPurposeEntity p where p.code=:code"),
+@NamedQuery(name="PaymentPurposeEntity.findByCodes", query="SELECT p FROM PaymentPurposeEntity p where p.code IN :codes")})
 public class PaymentPurposeEntity implements Serializable {
 	private static final long serialVersionUID = 1L;
 
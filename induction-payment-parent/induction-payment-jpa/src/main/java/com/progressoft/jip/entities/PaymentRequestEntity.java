@@ -5,6 +5,8 @@ import java.math.BigDecimal;
 import java.util.Date;
 
 import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
@@ -19,11 +21,17 @@ import javax.persistence.TemporalType;
 @NamedQueries({ @NamedQuery(name = "PaymentRequestEntity.findAll", query = "SELECT p FROM PaymentRequestEntity p"),
 		@NamedQuery(name = "PaymentRequestEntity.findById", query = "SELECT p FROM PaymentRequestEntity p where p.id=:id"),
 		@NamedQuery(name = "PaymentRequestEntity.findByDate", query = "SELECT p FROM PaymentRequestEntity p where p.paymentDate=:paymentDate"),
-		@NamedQuery(name = "PaymentRequest.findByOrderingIBAN", query = "select p from PaymentRequestEntity p where p.account.iban =:iban") })
+		@NamedQuery(name = "PaymentRequest.findByOrderingIBAN", query = "select p from PaymentRequestEntity p where p.account.iban =:iban"),
+		@NamedQuery(name = "PaymentRequest.findPageByOrderingIBAN", query = "select p from PaymentRequestEntity p where p.account.iban =:iban order by p.paymentDate, p.id"),
+		@NamedQuery(name = "PaymentRequest.findPageAfterByOrderingIBAN", query = "select p from PaymentRequestEntity p where p.account.iban =:iban and (p.paymentDate > :lastPaymentDate or (p.paymentDate = :lastPaymentDate and p.id > :lastId)) order by p.paymentDate, p.id") })
 public class PaymentRequestEntity implements Serializable {
 	private static final long serialVersionUID = 1L;
 
+	// MySQL assigns the id through AUTO_INCREMENT, so Hibernate executes every insert on its own to read it
+	// back: IDENTITY generation disables JDBC insert batching whatever hibernate.jdbc.batch_size says.
+	// Bulk runs should go through MySqlPaymentRequestGateway, which batches its inserts.
 	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private int id;
 
 	private String amountInWords;
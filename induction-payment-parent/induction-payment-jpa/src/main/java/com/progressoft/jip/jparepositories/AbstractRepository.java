@@ -1,27 +1,55 @@
 package com.progressoft.jip.jparepositories;
 
+import java.util.Objects;
+
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
 
 public class AbstractRepository {
 
+	private EntityManagerFactory entityManagerFactory;
 	private EntityManager entityManager;
 
 	public AbstractRepository(EntityManager entityManager) {
 		this.entityManager = entityManager;
 	}
 
-	@SuppressWarnings("unchecked")
+	public AbstractRepository(EntityManagerFactory entityManagerFactory) {
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
 	protected <T> T transactObject(TransactionHandler transactionHandler) {
+		if (Objects.nonNull(entityManager))
+			return transactObject(entityManager, transactionHandler);
+		EntityManager bound = UnitOfWork.current();
+		if (Objects.nonNull(bound))
+			return transactObject(bound, transactionHandler);
+		EntityManager shortLived = entityManagerFactory.createEntityManager();
+		try {
+			return transactObject(shortLived, transactionHandler);
+		} finally {
+			shortLived.close();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T transactObject(EntityManager entityManager, TransactionHandler transactionHandler) {
+		EntityTransaction transaction = entityManager.getTransaction();
+		if (transaction.isActive())
+			return (T) transactionHandler.doTransaction(entityManager);
 		boolean isCommitted = false;
 		try {
-			entityManager.getTransaction().begin();
+			transaction.begin();
 			Object obj = transactionHandler.doTransaction(entityManager);
-			entityManager.getTransaction().commit();
+			transaction.commit();
 			isCommitted = true;
 			return (T) obj;
 		} finally {
 			if (!isCommitted) {
-				entityManager.getTransaction().rollback();
+				if (transaction.isActive())
+					transaction.rollback();
+				entityManager.clear();
 			}
 		}
 	}
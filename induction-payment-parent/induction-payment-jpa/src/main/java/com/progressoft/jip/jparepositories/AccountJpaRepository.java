@@ -10,6 +10,8 @@ public interface AccountJpaRepository {
 
 	public Collection<AccountEntity> loadAccounts();
 
+	Collection<AccountEntity> loadAccountsByIbans(Collection<String> ibans, int chunkSize);
+
 	void updateAccount(AccountEntity account);
 
 	void createAccount(AccountEntity newAccount);
@@ -1,6 +1,7 @@
 package com.progressoft.jip.jparepositories;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import com.progressoft.jip.entities.CurrencyEntity;
 
@@ -10,4 +11,6 @@ public interface CurrencyJpaRepository {
 
     CurrencyEntity loadCurrencyByCode(String currencyCode);
 
+    Optional<CurrencyEntity> findCurrencyByCode(String currencyCode);
+
 }
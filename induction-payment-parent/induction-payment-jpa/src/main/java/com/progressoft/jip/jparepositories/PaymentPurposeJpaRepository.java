@@ -12,6 +12,8 @@ public interface PaymentPurposeJpaRepository {
 
 	Collection<PaymentPurposeEntity> loadPaymentPurposes();
 
+	Collection<PaymentPurposeEntity> loadPaymentPurposesByCodes(Collection<String> codes, int chunkSize);
+
 	void deletePaymentPurposeByCode(String code);
 
 	void updatePaymentPurposeName(PaymentPurposeEntity paymentPurpose);
@@ -2,6 +2,10 @@ package com.progressoft.jip.jparepositories;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.progressoft.jip.entities.PaymentRequestEntity;
 
@@ -11,14 +15,23 @@ public interface PaymentRequestJpaRepository {
 
 	PaymentRequestEntity loadPaymentRequestById(int id);
 
+	Optional<PaymentRequestEntity> findPaymentRequestById(int id);
+
 	void insertPaymentRequest(PaymentRequestEntity paymentRequest);
 
+	Map<Integer, RuntimeException> insertPaymentRequests(List<PaymentRequestEntity> paymentRequests, int chunkSize);
+
 	Collection<PaymentRequestEntity> loadPaymentRequests();
 
+	void forEachPaymentRequest(Consumer<PaymentRequestEntity> visitor, int fetchSize);
+
 	Collection<PaymentRequestEntity> loadPaymentRequestByPaymentDate(Date paymentRequestDate);
 
 	Collection<PaymentRequestEntity> loadPaymentRequestsByOrderingAccountIBAN(String iban);
 
+	List<PaymentRequestEntity> loadPaymentRequestsPageByOrderingAccountIBAN(String iban, Date lastPaymentDate,
+			int lastId, int maxResults);
+
 	void updatePaymentRequest(PaymentRequestEntity paymentRequest);
 
 }
\ No newline at end of file
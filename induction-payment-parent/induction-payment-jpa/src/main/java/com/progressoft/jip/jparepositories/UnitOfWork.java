@@ -0,0 +1,43 @@
+package com.progressoft.jip.jparepositories;
+
+import java.util.Objects;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+/**
+ * Binds one {@link EntityManager} to the current thread between {@link #begin}
+ * and {@link #end}, typically for the duration of a web request. Repositories
+ * built on an {@link EntityManagerFactory} use the bound manager when there is
+ * one and a manager per call otherwise.
+ */
+public final class UnitOfWork {
+
+	private static final ThreadLocal<EntityManager> CURRENT = new ThreadLocal<>();
+
+	private UnitOfWork() {
+	}
+
+	public static void begin(EntityManagerFactory entityManagerFactory) {
+		if (Objects.nonNull(CURRENT.get()))
+			throw new IllegalStateException("a unit of work is already open on this thread");
+		CURRENT.set(entityManagerFactory.createEntityManager());
+	}
+
+	public static void end() {
+		EntityManager entityManager = CURRENT.get();
+		CURRENT.remove();
+		if (Objects.isNull(entityManager))
+			return;
+		try {
+			if (entityManager.getTransaction().isActive())
+				entityManager.getTransaction().rollback();
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	static EntityManager current() {
+		return CURRENT.get();
+	}
+}
@@ -5,7 +5,7 @@ public class NoPaymentRequestFoundException extends RuntimeException {
 	private static final long serialVersionUID = 1L;
 
 	public NoPaymentRequestFoundException() {
-		super();
+		super(null, null, false, false);
 	}
 
 	public NoPaymentRequestFoundException(String message, Throwable cause, boolean enableSuppression,
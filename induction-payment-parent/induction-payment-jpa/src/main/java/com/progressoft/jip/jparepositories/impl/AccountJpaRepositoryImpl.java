@@ -1,7 +1,11 @@
 package com.progressoft.jip.jparepositories.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -20,13 +24,14 @@ public class AccountJpaRepositoryImpl extends AbstractRepository implements Acco
 
 	private static final String FIND_ALL_ACCOUNT = "AccountEntity.findAll";
 	private static final String FIND_ACCOUNT_BY_IBAN = "AccountEntity.findByIban";
+	private static final String FIND_ACCOUNTS_BY_IBANS = "AccountEntity.findByIbans";
 
 	public AccountJpaRepositoryImpl(EntityManager entityManager) {
 		super(entityManager);
 	}
 
 	public AccountJpaRepositoryImpl() {
-		super(EntityManagerLoader.getEntityManger());
+		super(EntityManagerLoader.getEntityManagerFactory());
 	}
 		@Override
 	public AccountEntity loadAccountByIban(String iban) {
@@ -48,6 +53,21 @@ public class AccountJpaRepositoryImpl extends AbstractRepository implements Acco
 		});
 	}
 
+	@Override
+	public Collection<AccountEntity> loadAccountsByIbans(Collection<String> ibans, int chunkSize) {
+		List<String> distinct = ibans.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		if (distinct.isEmpty())
+			return Collections.emptyList();
+		return transactObject(entityManager -> {
+			List<AccountEntity> accounts = new ArrayList<>();
+			for (int from = 0; from < distinct.size(); from += chunkSize)
+				accounts.addAll(entityManager.createNamedQuery(FIND_ACCOUNTS_BY_IBANS, AccountEntity.class)
+						.setParameter("ibans", distinct.subList(from, Math.min(from + chunkSize, distinct.size())))
+						.getResultList());
+			return accounts;
+		});
+	}
+
 	@Override
 	public void updateAccount(AccountEntity account) {
 		transactObject(entityManager -> {
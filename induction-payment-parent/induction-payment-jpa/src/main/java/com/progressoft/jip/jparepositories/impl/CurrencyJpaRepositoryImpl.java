@@ -1,7 +1,9 @@
 package com.progressoft.jip.jparepositories.impl;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Query;
@@ -24,7 +26,7 @@ public class CurrencyJpaRepositoryImpl extends AbstractRepository implements Cur
 	}
 
 	public CurrencyJpaRepositoryImpl() {
-		super(EntityManagerLoader.getEntityManger());
+		super(EntityManagerLoader.getEntityManagerFactory());
 	}
 
 	@Override
@@ -47,4 +49,16 @@ public class CurrencyJpaRepositoryImpl extends AbstractRepository implements Cur
 		});
 	}
 
+	@Override
+	public Optional<CurrencyEntity> findCurrencyByCode(String currencyCode) {
+		if (Objects.isNull(currencyCode) || "".equals(currencyCode))
+			return Optional.empty();
+		return transactObject(entityManager -> {
+			List<CurrencyEntity> currencies = entityManager
+					.createNamedQuery(FIND_CURRENCY_BY_CODE, CurrencyEntity.class).setParameter("code", currencyCode)
+					.setMaxResults(1).getResultList();
+			return currencies.stream().findFirst();
+		});
+	}
+
 }
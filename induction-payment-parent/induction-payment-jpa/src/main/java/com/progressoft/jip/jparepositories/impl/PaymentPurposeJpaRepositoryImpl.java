@@ -1,7 +1,11 @@
 package com.progressoft.jip.jparepositories.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
@@ -19,13 +23,14 @@ import repositories.loader.EntityManagerLoader;
 
 public class PaymentPurposeJpaRepositoryImpl extends AbstractRepository implements PaymentPurposeJpaRepository {
 	private static final String FIND_ALL_PAYMENT_PURPOSES = "PaymentPurposeEntity.findAll";
+	private static final String FIND_PAYMENT_PURPOSES_BY_CODES = "PaymentPurposeEntity.findByCodes";
 
 	public PaymentPurposeJpaRepositoryImpl(EntityManager entityManager) {
 		super(entityManager);
 	}
 
 	public PaymentPurposeJpaRepositoryImpl() {
-		super(EntityManagerLoader.getEntityManger());
+		super(EntityManagerLoader.getEntityManagerFactory());
 	}
 
 	@Override
@@ -65,6 +70,21 @@ public class PaymentPurposeJpaRepositoryImpl extends AbstractRepository implemen
 		});
 	}
 
+	@Override
+	public Collection<PaymentPurposeEntity> loadPaymentPurposesByCodes(Collection<String> codes, int chunkSize) {
+		List<String> distinct = codes.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		if (distinct.isEmpty())
+			return Collections.emptyList();
+		return transactObject(entityManager -> {
+			List<PaymentPurposeEntity> purposes = new ArrayList<>();
+			for (int from = 0; from < distinct.size(); from += chunkSize)
+				purposes.addAll(entityManager.createNamedQuery(FIND_PAYMENT_PURPOSES_BY_CODES, PaymentPurposeEntity.class)
+						.setParameter("codes", distinct.subList(from, Math.min(from + chunkSize, distinct.size())))
+						.getResultList());
+			return purposes;
+		});
+	}
+
 	@Override
 	public void deletePaymentPurposeByCode(String code) {
 		if (Objects.isNull(code) || "".equals(code)) {
@@ -2,11 +2,20 @@ package com.progressoft.jip.jparepositories.impl;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
 import com.progressoft.jip.entities.PaymentRequestEntity;
 import com.progressoft.jip.jparepositories.AbstractRepository;
 import com.progressoft.jip.jparepositories.PaymentRequestJpaRepository;
@@ -28,7 +37,7 @@ public class PaymentRequestJpaRepositoryImpl extends AbstractRepository implemen
 	}
 
 	public PaymentRequestJpaRepositoryImpl() {
-		super(EntityManagerLoader.getEntityManger());
+		super(EntityManagerLoader.getEntityManagerFactory());
 	}
 
 	@Override
@@ -61,6 +70,11 @@ public class PaymentRequestJpaRepositoryImpl extends AbstractRepository implemen
 		});
 	}
 
+	@Override
+	public Optional<PaymentRequestEntity> findPaymentRequestById(int id) {
+		return transactObject(e -> Optional.ofNullable(e.find(PaymentRequestEntity.class, id)));
+	}
+
 	@Override
 	public void insertPaymentRequest(PaymentRequestEntity paymentRequest) {
 		if (Objects.isNull(paymentRequest))
@@ -74,6 +88,49 @@ public class PaymentRequestJpaRepositoryImpl extends AbstractRepository implemen
 		});
 	}
 
+	// flushing and clearing per chunk bounds the persistence context, but with IDENTITY ids every
+	// persist is still its own INSERT round trip
+	@Override
+	public Map<Integer, RuntimeException> insertPaymentRequests(List<PaymentRequestEntity> paymentRequests,
+			int chunkSize) {
+		if (Objects.isNull(paymentRequests))
+			throw new NullPaymentRequestException();
+		Map<Integer, RuntimeException> failures = new HashMap<>();
+		for (int from = 0; from < paymentRequests.size(); from += chunkSize) {
+			List<PaymentRequestEntity> chunk = paymentRequests.subList(from,
+					Math.min(from + chunkSize, paymentRequests.size()));
+			try {
+				transactObject(e -> {
+					chunk.forEach(e::persist);
+					e.flush();
+					e.clear();
+					return Void.getVoid();
+				});
+			} catch (RuntimeException chunkFailure) {
+				for (int i = 0; i < chunk.size(); i++) {
+					try {
+						insertAlone(chunk.get(i));
+					} catch (RuntimeException rowFailure) {
+						failures.put(from + i, rowFailure);
+					}
+				}
+			}
+		}
+		return failures;
+	}
+
+	private void insertAlone(PaymentRequestEntity paymentRequest) {
+		if (Objects.isNull(paymentRequest))
+			throw new NullPaymentRequestException();
+		transactObject(e -> {
+			e.clear();
+			paymentRequest.setId(0);
+			e.persist(paymentRequest);
+			e.flush();
+			return Void.getVoid();
+		});
+	}
+
 	@Override
 	public Collection<PaymentRequestEntity> loadPaymentRequests() {
 		return transactObject(e -> {
@@ -83,6 +140,26 @@ public class PaymentRequestJpaRepositoryImpl extends AbstractRepository implemen
 		});
 	}
 
+	@Override
+	public void forEachPaymentRequest(Consumer<PaymentRequestEntity> visitor, int fetchSize) {
+		if (Objects.isNull(visitor))
+			throw new IllegalArgumentException("visitor is required");
+		transactObject(e -> {
+			Session session = e.unwrap(Session.class);
+			try (ScrollableResults results = session.getNamedQuery("PaymentRequestEntity.findAll")
+					.setFetchSize(fetchSize).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY)) {
+				int visited = 0;
+				while (results.next()) {
+					visitor.accept((PaymentRequestEntity) results.get(0));
+					if (++visited % fetchSize == 0)
+						session.clear();
+				}
+			}
+			session.clear();
+			return Void.getVoid();
+		});
+	}
+
 	@Override
 	public Collection<PaymentRequestEntity> loadPaymentRequestByPaymentDate(Date paymentRequestDate) {
 		if (Objects.isNull(paymentRequestDate))
@@ -108,6 +185,27 @@ public class PaymentRequestJpaRepositoryImpl extends AbstractRepository implemen
 		});
 	}
 
+	@Override
+	public List<PaymentRequestEntity> loadPaymentRequestsPageByOrderingAccountIBAN(String iban, Date lastPaymentDate,
+			int lastId, int maxResults) {
+		if (Objects.isNull(iban))
+			throw new InvalidPaymentRequestIbanException();
+
+		return transactObject(e -> {
+			TypedQuery<PaymentRequestEntity> query;
+			if (Objects.isNull(lastPaymentDate)) {
+				query = e.createNamedQuery("PaymentRequest.findPageByOrderingIBAN", PaymentRequestEntity.class);
+			} else {
+				query = e.createNamedQuery("PaymentRequest.findPageAfterByOrderingIBAN", PaymentRequestEntity.class);
+				query.setParameter("lastPaymentDate", lastPaymentDate);
+				query.setParameter("lastId", lastId);
+			}
+			query.setParameter("iban", iban);
+			query.setMaxResults(maxResults);
+			return query.getResultList();
+		});
+	}
+
 	@Override
 	public void updatePaymentRequest(PaymentRequestEntity paymentRequest) {
 		if (Objects.isNull(paymentRequest)) {
@@ -4,7 +4,6 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
-import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.Persistence;
 
@@ -12,24 +11,31 @@ import util.DataBaseSettings;
 
 public class EntityManagerLoader {
 
+	public static final int JDBC_BATCH_SIZE = 500;
+
 	private static EntityManagerLoader loader;
 	private EntityManagerFactory entityManagerFactory;
-	private EntityManager entityManager;
 
 	private EntityManagerLoader() {
 		entityManagerFactory = Persistence.createEntityManagerFactory("induction-payment-jpa", prepareDBProperties());
-		this.entityManager = entityManagerFactory.createEntityManager();
-	}
-
-	public EntityManagerLoader(EntityManager entityManager) {
-		this.entityManager = entityManager;
 	}
 
-	public static EntityManager getEntityManger() {
+	public static synchronized EntityManagerFactory getEntityManagerFactory() {
 		if (Objects.isNull(loader)) {
 			loader = new EntityManagerLoader();
 		}
-		return loader.entityManager;
+		return loader.entityManagerFactory;
+	}
+
+	public static synchronized void close() {
+		if (Objects.isNull(loader))
+			return;
+		try {
+			if (loader.entityManagerFactory.isOpen())
+				loader.entityManagerFactory.close();
+		} finally {
+			loader = null;
+		}
 	}
 
 	private Map<String, String> prepareDBProperties() {
@@ -39,6 +45,9 @@ public class EntityManagerLoader {
 		settingsMap.put("javax.persistence.jdbc.password", settings.password());
 		settingsMap.put("javax.persistence.jdbc.url", settings.url());
 		settingsMap.put("javax.persistence.jdbc.driver", settings.driverClassName());
+		// batches updates and deletes on flush; inserts of IDENTITY entities are never batched
+		settingsMap.put("hibernate.jdbc.batch_size", String.valueOf(JDBC_BATCH_SIZE));
+		settingsMap.put("hibernate.order_updates", "true");
 		return settingsMap;
 	}
 
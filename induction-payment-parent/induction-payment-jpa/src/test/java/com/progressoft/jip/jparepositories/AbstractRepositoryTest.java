@@ -0,0 +1,170 @@
+package com.progressoft.jip.jparepositories;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AbstractRepositoryTest {
+
+	private List<StubEntityManager> created;
+	private EntityManagerFactory factory;
+	private AbstractRepository repository;
+
+	@Before
+	public void setUp() {
+		created = new ArrayList<>();
+		factory = (EntityManagerFactory) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { EntityManagerFactory.class }, (proxy, method, args) -> {
+					if (!"createEntityManager".equals(method.getName()))
+						throw new UnsupportedOperationException(method.getName());
+					StubEntityManager entityManager = new StubEntityManager();
+					created.add(entityManager);
+					return entityManager.proxy;
+				});
+		repository = new AbstractRepository(factory);
+	}
+
+	@After
+	public void tearDown() {
+		UnitOfWork.end();
+	}
+
+	@Test
+	public void givenNoUnitOfWork_CallingRepositoryTwice_ShouldUseAndCloseOneEntityManagerPerCall() {
+		EntityManager first = repository.transactObject(e -> e);
+		EntityManager second = repository.transactObject(e -> e);
+
+		assertEquals(2, created.size());
+		assertEquals(first, created.get(0).proxy);
+		assertEquals(second, created.get(1).proxy);
+		assertEquals(1, created.get(0).commits);
+		assertFalse(created.get(0).open);
+		assertFalse(created.get(1).open);
+	}
+
+	@Test
+	public void givenUnitOfWork_CallingRepositoryTwice_ShouldShareOneEntityManagerUntilItEnds() {
+		UnitOfWork.begin(factory);
+		EntityManager first = repository.transactObject(e -> e);
+		EntityManager second = repository.transactObject(e -> e);
+
+		assertSame(first, second);
+		assertEquals(1, created.size());
+		assertEquals(2, created.get(0).commits);
+		assertTrue(created.get(0).open);
+
+		UnitOfWork.end();
+
+		assertFalse(created.get(0).open);
+	}
+
+	@Test
+	public void givenFailingWork_CallingRepository_ShouldRollBackAndClearTheEntityManager() {
+		UnitOfWork.begin(factory);
+		try {
+			repository.transactObject(e -> {
+				throw new IllegalStateException("constraint violation");
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			assertEquals("constraint violation", e.getMessage());
+		}
+
+		StubEntityManager entityManager = created.get(0);
+		assertEquals(1, entityManager.rollbacks);
+		assertEquals(1, entityManager.clears);
+		assertFalse(entityManager.active);
+	}
+
+	@Test
+	public void givenNestedCall_CallingRepositoryInsideTransaction_ShouldJoinIt() {
+		UnitOfWork.begin(factory);
+		repository.transactObject(e -> repository.transactObject(inner -> inner));
+
+		assertEquals(1, created.get(0).commits);
+	}
+
+	@Test
+	public void givenUnitOfWorksOnTwoThreads_CallingRepository_ShouldNotShareEntityManagers() throws Exception {
+		UnitOfWork.begin(factory);
+		EntityManager mine = repository.transactObject(e -> e);
+		EntityManager[] theirs = new EntityManager[1];
+		Thread other = new Thread(() -> {
+			UnitOfWork.begin(factory);
+			try {
+				theirs[0] = repository.transactObject(e -> e);
+			} finally {
+				UnitOfWork.end();
+			}
+		});
+		other.start();
+		other.join();
+
+		assertEquals(2, created.size());
+		assertNotSame(mine, theirs[0]);
+	}
+
+	private static class StubEntityManager {
+		private boolean open = true;
+		private boolean active;
+		private int commits;
+		private int rollbacks;
+		private int clears;
+		private final EntityTransaction transaction = (EntityTransaction) Proxy.newProxyInstance(
+				getClass().getClassLoader(), new Class<?>[] { EntityTransaction.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "begin":
+						active = true;
+						return null;
+					case "commit":
+						active = false;
+						commits++;
+						return null;
+					case "rollback":
+						active = false;
+						rollbacks++;
+						return null;
+					case "isActive":
+						return active;
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+		private final EntityManager proxy = (EntityManager) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] { EntityManager.class }, (proxy, method, args) -> {
+					switch (method.getName()) {
+					case "getTransaction":
+						return transaction;
+					case "clear":
+						clears++;
+						return null;
+					case "close":
+						open = false;
+						return null;
+					case "isOpen":
+						return open;
+					case "equals":
+						return proxy == args[0];
+					case "hashCode":
+						return System.identityHashCode(proxy);
+					default:
+						throw new UnsupportedOperationException(method.getName());
+					}
+				});
+	}
+}